@@ -0,0 +1,71 @@
+package com.sitionix.forgeit.processor;
+
+import javax.annotation.processing.FilerException;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Records every valid public {@code @ForgeFeatures} contract in
+ * {@code META-INF/forge-it/contracts}, so the runtime can find the declared
+ * features before any test class has been discovered. Package-private
+ * contracts, such as the ones ForgeIT itself uses to drive code generation, are
+ * left out.
+ */
+final class ContractIndexEmitter {
+
+    static final String CONTRACT_INDEX = "META-INF/forge-it/contracts";
+
+    private final ProcessingEnvironment processingEnv;
+    private final Messager messager;
+    private final Set<String> contracts = new LinkedHashSet<>();
+    private final List<TypeElement> originatingElements = new ArrayList<>();
+
+    ContractIndexEmitter(ProcessingEnvironment processingEnv, Messager messager) {
+        this.processingEnv = processingEnv;
+        this.messager = messager;
+    }
+
+    void record(TypeElement contract) {
+        if (!contract.getModifiers().contains(Modifier.PUBLIC)) {
+            return;
+        }
+        if (this.contracts.add(this.processingEnv.getElementUtils().getBinaryName(contract).toString())) {
+            this.originatingElements.add(contract);
+        }
+    }
+
+    void emit() {
+        if (this.contracts.isEmpty()) {
+            return;
+        }
+        try {
+            final FileObject resource = this.processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", CONTRACT_INDEX,
+                            this.originatingElements.toArray(Element[]::new));
+            try (Writer writer = resource.openWriter()) {
+                for (final String contract : this.contracts) {
+                    writer.write(contract);
+                    writer.write('\n');
+                }
+            }
+        } catch (FilerException ex) {
+            this.messager.printMessage(Diagnostic.Kind.NOTE,
+                    "ForgeIT contract index already written: " + ex.getMessage());
+        } catch (IOException ex) {
+            this.messager.printMessage(Diagnostic.Kind.WARNING,
+                    "Failed to write ForgeIT contract index " + CONTRACT_INDEX + ": " + ex.getMessage());
+        }
+    }
+}
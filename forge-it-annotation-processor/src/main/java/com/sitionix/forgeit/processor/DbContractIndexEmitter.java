@@ -0,0 +1,95 @@
+package com.sitionix.forgeit.processor;
+
+import javax.annotation.processing.FilerException;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Records the static {@code DbContract} fields of every {@code @ForgeDbContracts}
+ * holder in {@code META-INF/forge-it/db-contracts}, one {@code holder#field}
+ * entry per line, so the runtime registry can read them without scanning the
+ * classpath.
+ */
+final class DbContractIndexEmitter {
+
+    static final String DB_CONTRACT_INDEX = "META-INF/forge-it/db-contracts";
+
+    private static final String DB_CONTRACT_FQN = "com.sitionix.forgeit.domain.contract.DbContract";
+
+    private final ProcessingEnvironment processingEnv;
+    private final Messager messager;
+    private final Set<String> entries = new LinkedHashSet<>();
+    private final List<TypeElement> originatingElements = new ArrayList<>();
+
+    DbContractIndexEmitter(ProcessingEnvironment processingEnv, Messager messager) {
+        this.processingEnv = processingEnv;
+        this.messager = messager;
+    }
+
+    void record(Element element) {
+        if (!element.getKind().isClass()) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR,
+                    "@ForgeDbContracts can only be applied to classes", element);
+            return;
+        }
+        final TypeElement dbContract = this.processingEnv.getElementUtils().getTypeElement(DB_CONTRACT_FQN);
+        if (dbContract == null) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR,
+                    "DbContract type was not found on the compilation classpath", element);
+            return;
+        }
+
+        final TypeElement holder = (TypeElement) element;
+        final Types types = this.processingEnv.getTypeUtils();
+        final TypeMirror contractType = types.erasure(dbContract.asType());
+        final String holderName = this.processingEnv.getElementUtils().getBinaryName(holder).toString();
+        this.originatingElements.add(holder);
+        for (final VariableElement field : ElementFilter.fieldsIn(holder.getEnclosedElements())) {
+            if (!field.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            if (types.isAssignable(types.erasure(field.asType()), contractType)) {
+                this.entries.add(holderName + "#" + field.getSimpleName());
+            }
+        }
+    }
+
+    void emit() {
+        if (this.entries.isEmpty()) {
+            return;
+        }
+        try {
+            final FileObject resource = this.processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", DB_CONTRACT_INDEX,
+                            this.originatingElements.toArray(Element[]::new));
+            try (Writer writer = resource.openWriter()) {
+                for (final String entry : this.entries) {
+                    writer.write(entry);
+                    writer.write('\n');
+                }
+            }
+        } catch (FilerException ex) {
+            this.messager.printMessage(Diagnostic.Kind.NOTE,
+                    "ForgeIT DbContract index already written: " + ex.getMessage());
+        } catch (IOException ex) {
+            this.messager.printMessage(Diagnostic.Kind.WARNING,
+                    "Failed to write ForgeIT DbContract index " + DB_CONTRACT_INDEX + ": " + ex.getMessage());
+        }
+    }
+}
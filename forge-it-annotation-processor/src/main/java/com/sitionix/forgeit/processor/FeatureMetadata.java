@@ -0,0 +1,30 @@
+package com.sitionix.forgeit.processor;
+
+import com.squareup.javapoet.TypeName;
+
+import java.util.List;
+
+/**
+ * What the processor derives from a feature interface: why it cannot be used,
+ * if it cannot, and the collaborator accessors a generated {@code *Impl}
+ * overrides. Only names and javapoet types are kept, never elements, so the
+ * metadata stays valid in later rounds and is computed once per compilation no
+ * matter how many contracts declare the feature.
+ */
+record FeatureMetadata(String qualifiedName, String error, List<Accessor> accessors) {
+
+    static FeatureMetadata invalid(String qualifiedName, String error) {
+        return new FeatureMetadata(qualifiedName, error, List.of());
+    }
+
+    static FeatureMetadata valid(String qualifiedName, List<Accessor> accessors) {
+        return new FeatureMetadata(qualifiedName, null, List.copyOf(accessors));
+    }
+
+    boolean isValid() {
+        return this.error == null;
+    }
+
+    record Accessor(String name, TypeName returnType) {
+    }
+}
@@ -2,6 +2,7 @@ package com.sitionix.forgeit.processor;
 
 import com.google.auto.service.AutoService;
 import com.sitionix.forgeit.core.annotation.ForgeFeatures;
+import com.sitionix.forgeit.core.contract.ForgeDbContracts;
 import com.squareup.javapoet.ClassName;
 
 import javax.annotation.processing.AbstractProcessor;
@@ -23,10 +24,17 @@ import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic.Kind;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
-@SupportedAnnotationTypes("*")
+@SupportedAnnotationTypes({
+        "com.sitionix.forgeit.core.annotation.ForgeFeatures",
+        "com.sitionix.forgeit.core.contract.ForgeDbContracts"
+})
 @SupportedSourceVersion(SourceVersion.RELEASE_21)
 @AutoService(Processor.class)
 public final class ForgeFeaturesProcessor extends AbstractProcessor {
@@ -44,6 +52,11 @@ public final class ForgeFeaturesProcessor extends AbstractProcessor {
     private FeatureContractCollector featureContractCollector;
     private GeneratedInterfaceEmitter generatedInterfaceEmitter;
     private GeneratedApiImplEmitter generatedApiImplEmitter;
+    private ContractIndexEmitter contractIndexEmitter;
+    private DbContractIndexEmitter dbContractIndexEmitter;
+
+    private final Map<String, FeatureMetadata> featureMetadata = new HashMap<>();
+    private final List<TypeElement> contractElements = new ArrayList<>();
 
     @Override
     public synchronized void init(ProcessingEnvironment processingEnv) {
@@ -55,14 +68,22 @@ public final class ForgeFeaturesProcessor extends AbstractProcessor {
         this.featureContractCollector = new FeatureContractCollector(messager);
         this.generatedInterfaceEmitter = new GeneratedInterfaceEmitter(processingEnv, messager, GENERATED_FEATURES);
         this.generatedApiImplEmitter = new GeneratedApiImplEmitter(processingEnv, messager);
+        this.contractIndexEmitter = new ContractIndexEmitter(processingEnv, messager);
+        this.dbContractIndexEmitter = new DbContractIndexEmitter(processingEnv, messager);
     }
 
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
         if (roundEnv.processingOver()) {
+            this.contractIndexEmitter.emit();
+            this.dbContractIndexEmitter.emit();
             return false;
         }
 
+        for (final Element element : roundEnv.getElementsAnnotatedWith(ForgeDbContracts.class)) {
+            this.dbContractIndexEmitter.record(element);
+        }
+
         for (final Element element : roundEnv.getElementsAnnotatedWith(ForgeFeatures.class)) {
             if (element.getKind() != ElementKind.INTERFACE) {
                 this.messager.printMessage(Kind.ERROR, "@ForgeFeatures can only be applied to interfaces", element);
@@ -79,6 +100,7 @@ public final class ForgeFeaturesProcessor extends AbstractProcessor {
                 this.messager.printMessage(Kind.ERROR, "@ForgeFeatures interfaces must extend ForgeIT", element);
                 continue;
             }
+            this.contractElements.add(interfaceElement);
 
             final ForgeFeatures forgeFeatures = interfaceElement.getAnnotation(ForgeFeatures.class);
             final Collection<? extends TypeMirror> featureTypes = extractFeatureTypes(forgeFeatures);
@@ -88,6 +110,7 @@ public final class ForgeFeaturesProcessor extends AbstractProcessor {
             }
 
             boolean hasInvalidFeature = false;
+            final List<FeatureMetadata> features = new ArrayList<>();
             for (final TypeMirror featureMirror : featureTypes) {
                 final TypeElement featureElement = asTypeElement(featureMirror);
                 if (featureElement == null) {
@@ -96,24 +119,21 @@ public final class ForgeFeaturesProcessor extends AbstractProcessor {
                     continue;
                 }
 
-                if (!isFeatureSupport(featureElement)) {
-                    this.messager.printMessage(Kind.ERROR,
-                            "Each entry in @ForgeFeatures must extend FeatureSupport: " + featureElement.getQualifiedName(), element);
-                    hasInvalidFeature = true;
-                    continue;
-                }
-                if (!this.featureRegistry.isWhitelisted(featureElement)) {
-                    this.messager.printMessage(Kind.ERROR,
-                            "Feature is not registered. Add it to META-INF/forge-it/features: " + featureElement.getQualifiedName(), element);
+                final FeatureMetadata feature = this.featureMetadata.computeIfAbsent(
+                        featureElement.getQualifiedName().toString(), name -> describeFeature(featureElement));
+                if (!feature.isValid()) {
+                    this.messager.printMessage(Kind.ERROR, feature.error(), element);
                     hasInvalidFeature = true;
                     continue;
                 }
 
                 this.featureContractCollector.collect(featureElement, element, this::asTypeElement);
+                features.add(feature);
             }
 
             if (!hasInvalidFeature) {
-                this.generatedApiImplEmitter.generateImplementation(interfaceElement);
+                this.generatedApiImplEmitter.generateImplementation(interfaceElement, features);
+                this.contractIndexEmitter.record(interfaceElement);
             }
         }
 
@@ -122,10 +142,22 @@ public final class ForgeFeaturesProcessor extends AbstractProcessor {
             return false;
         }
 
-        this.generatedInterfaceEmitter.generateInterface(aggregatedSupports);
+        this.generatedInterfaceEmitter.generateInterface(aggregatedSupports, this.contractElements);
         return false;
     }
 
+    private FeatureMetadata describeFeature(TypeElement featureElement) {
+        final String name = featureElement.getQualifiedName().toString();
+        if (!isFeatureSupport(featureElement)) {
+            return FeatureMetadata.invalid(name, "Each entry in @ForgeFeatures must extend FeatureSupport: " + name);
+        }
+        if (!this.featureRegistry.isWhitelisted(featureElement)) {
+            return FeatureMetadata.invalid(name,
+                    "Feature is not registered. Add it to META-INF/forge-it/features: " + name);
+        }
+        return FeatureMetadata.valid(name, this.generatedApiImplEmitter.describeAccessors(featureElement));
+    }
+
     private boolean isFeatureSupport(TypeElement type) {
         final TypeElement featureSupport = this.elements.getTypeElement(FEATURE_SUPPORT_FQN);
         return featureSupport != null && this.types.isAssignable(type.asType(), featureSupport.asType());
@@ -137,7 +169,7 @@ public final class ForgeFeaturesProcessor extends AbstractProcessor {
         } catch (MirroredTypesException ex) {
             return ex.getTypeMirrors();
         }
-        return java.util.List.of();
+        return List.of();
     }
 
     private boolean extendsForgeIT(TypeElement candidate) {
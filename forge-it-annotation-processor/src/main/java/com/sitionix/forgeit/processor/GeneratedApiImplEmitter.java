@@ -1,21 +1,48 @@
 package com.sitionix.forgeit.processor;
 
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 
 import javax.annotation.processing.FilerException;
 import javax.annotation.processing.Messager;
 import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
 import javax.tools.Diagnostic;
 import javax.tools.JavaFileObject;
 import java.io.IOException;
 import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
+/**
+ * Emits the {@code *Impl} component of a contract. Every collaborator accessor
+ * of the declared features, i.e. each argument-free default method returning a
+ * non-generic type, is overridden to return a {@code FeatureBean} held by the
+ * implementation instead of looking the bean up through
+ * {@code FeatureContextHolder} on every call.
+ */
 final class GeneratedApiImplEmitter {
 
+    private static final ClassName COMPONENT = ClassName.get("org.springframework.stereotype", "Component");
+    private static final ClassName BEAN_FACTORY = ClassName.get("org.springframework.beans.factory", "BeanFactory");
+    private static final ClassName FEATURE_BEAN =
+            ClassName.get("com.sitionix.forgeit.core.internal.feature", "FeatureBean");
+
     private final ProcessingEnvironment processingEnv;
     private final Messager messager;
 
@@ -24,7 +51,7 @@ final class GeneratedApiImplEmitter {
         this.messager = messager;
     }
 
-    void generateImplementation(TypeElement apiInterface) {
+    void generateImplementation(TypeElement apiInterface, List<FeatureMetadata> features) {
         final String packageName = this.processingEnv.getElementUtils()
                 .getPackageOf(apiInterface)
                 .getQualifiedName()
@@ -36,7 +63,28 @@ final class GeneratedApiImplEmitter {
         final TypeSpec.Builder typeBuilder = TypeSpec.classBuilder(implSimpleName)
                 .addModifiers(Modifier.PUBLIC)
                 .addSuperinterface(ClassName.get(apiInterface))
-                .addAnnotation(ClassName.get("org.springframework.stereotype", "Component"));
+                .addAnnotation(COMPONENT);
+
+        final Map<String, FeatureMetadata.Accessor> accessors = collectAccessors(apiInterface, features);
+        if (!accessors.isEmpty()) {
+            final MethodSpec.Builder constructor = MethodSpec.constructorBuilder()
+                    .addModifiers(Modifier.PUBLIC)
+                    .addParameter(BEAN_FACTORY, "beanFactory");
+            for (final FeatureMetadata.Accessor accessor : accessors.values()) {
+                final String name = accessor.name();
+                final TypeName beanType = accessor.returnType();
+                typeBuilder.addField(FieldSpec.builder(ParameterizedTypeName.get(FEATURE_BEAN, beanType), name,
+                        Modifier.PRIVATE, Modifier.FINAL).build());
+                constructor.addStatement("this.$N = new $T<>(beanFactory, $T.class)", name, FEATURE_BEAN, beanType);
+                typeBuilder.addMethod(MethodSpec.methodBuilder(name)
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(beanType)
+                        .addStatement("return this.$N.get()", name)
+                        .build());
+            }
+            typeBuilder.addMethod(constructor.build());
+        }
 
         final JavaFile javaFile = JavaFile.builder(packageName, typeBuilder.build())
                 .skipJavaLangImports(true)
@@ -58,4 +106,58 @@ final class GeneratedApiImplEmitter {
                             + apiInterface.getQualifiedName() + ": " + ex.getMessage());
         }
     }
+
+    /**
+     * Resolves the collaborator accessors a feature declares or inherits.
+     */
+    List<FeatureMetadata.Accessor> describeAccessors(TypeElement feature) {
+        final List<FeatureMetadata.Accessor> accessors = new ArrayList<>();
+        for (final ExecutableElement method : ElementFilter.methodsIn(
+                this.processingEnv.getElementUtils().getAllMembers(feature))) {
+            if (isAccessor(method)) {
+                accessors.add(new FeatureMetadata.Accessor(
+                        method.getSimpleName().toString(), TypeName.get(method.getReturnType())));
+            }
+        }
+        return accessors;
+    }
+
+    /**
+     * Collects the accessors of {@code features} by name, skipping those the
+     * contract overrides itself.
+     */
+    private Map<String, FeatureMetadata.Accessor> collectAccessors(TypeElement apiInterface,
+                                                                   List<FeatureMetadata> features) {
+        final Map<String, FeatureMetadata.Accessor> accessors = new LinkedHashMap<>();
+        for (final FeatureMetadata feature : features) {
+            for (final FeatureMetadata.Accessor accessor : feature.accessors()) {
+                if (!declaredByContract(apiInterface, accessor.name())) {
+                    accessors.putIfAbsent(accessor.name(), accessor);
+                }
+            }
+        }
+        return accessors;
+    }
+
+    private boolean isAccessor(ExecutableElement method) {
+        if (!method.getModifiers().contains(Modifier.DEFAULT)
+                || !method.getParameters().isEmpty()
+                || !method.getTypeParameters().isEmpty()) {
+            return false;
+        }
+        final TypeMirror returnType = method.getReturnType();
+        return returnType.getKind() == TypeKind.DECLARED
+                && ((DeclaredType) returnType).getTypeArguments().isEmpty();
+    }
+
+    private boolean declaredByContract(TypeElement apiInterface, String accessorName) {
+        for (final Element member : apiInterface.getEnclosedElements()) {
+            if (member.getKind() == ElementKind.METHOD
+                    && member.getSimpleName().contentEquals(accessorName)
+                    && ((ExecutableElement) member).getParameters().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
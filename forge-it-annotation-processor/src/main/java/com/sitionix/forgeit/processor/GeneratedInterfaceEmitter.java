@@ -7,12 +7,14 @@ import com.squareup.javapoet.TypeSpec;
 import javax.annotation.processing.FilerException;
 import javax.annotation.processing.Messager;
 import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
 import javax.lang.model.element.Modifier;
 import javax.tools.Diagnostic;
 import javax.tools.JavaFileObject;
 import javax.tools.StandardLocation;
 import java.io.IOException;
 import java.io.Writer;
+import java.util.List;
 import java.util.Set;
 
 final class GeneratedInterfaceEmitter {
@@ -30,10 +32,10 @@ final class GeneratedInterfaceEmitter {
         this.generatedType = generatedType;
     }
 
-    void generateInterface(Set<String> aggregatedSupports) {
+    void generateInterface(Set<String> aggregatedSupports, List<? extends Element> originatingElements) {
         final String signature = String.join("\n", aggregatedSupports);
         if (!this.featuresGenerated) {
-            emitInterface(aggregatedSupports, signature);
+            emitInterface(aggregatedSupports, signature, originatingElements);
             return;
         }
 
@@ -47,11 +49,12 @@ final class GeneratedInterfaceEmitter {
             } catch (IOException ignored) {
                 // best-effort delete; if it fails we'll try overwriting below
             }
-            emitInterface(aggregatedSupports, signature);
+            emitInterface(aggregatedSupports, signature, originatingElements);
         }
     }
 
-    private void emitInterface(Set<String> aggregatedSupports, String signature) {
+    private void emitInterface(Set<String> aggregatedSupports, String signature,
+                               List<? extends Element> originatingElements) {
         final TypeSpec.Builder typeBuilder = TypeSpec.interfaceBuilder(this.generatedType.simpleName())
                 .addModifiers(Modifier.PUBLIC)
                 .addJavadoc("Generated by {@link $L}.\n", ForgeFeaturesProcessor.class.getName());
@@ -66,7 +69,8 @@ final class GeneratedInterfaceEmitter {
 
         try {
             final JavaFileObject sourceFile = this.processingEnv.getFiler().createSourceFile(
-                    this.generatedType.packageName() + "." + this.generatedType.simpleName());
+                    this.generatedType.packageName() + "." + this.generatedType.simpleName(),
+                    originatingElements.toArray(Element[]::new));
             try (Writer writer = sourceFile.openWriter()) {
                 javaFile.writeTo(writer);
             }
@@ -0,0 +1,90 @@
+package com.sitionix.forgeit.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ForgeFeaturesProcessorTests {
+
+    private static final String POSTGRESQL_SUPPORT = "com.sitionix.forgeit.postgresql.api.PostgresqlSupport";
+    private static final String POSTGRESQL_H2_SUPPORT = "com.sitionix.forgeit.postgresql.api.PostgresqlH2Support";
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    void compilesContractsDeclaringPostgresqlAndItsH2FastLaneInOneRound() throws IOException {
+        final Path whitelist = Files.createDirectories(this.workDir.resolve("whitelist/META-INF/forge-it"));
+        Files.writeString(whitelist.resolve("features"), POSTGRESQL_SUPPORT + "\n" + POSTGRESQL_H2_SUPPORT + "\n");
+        final Path classes = Files.createDirectories(this.workDir.resolve("classes"));
+        final Path generated = Files.createDirectories(this.workDir.resolve("generated"));
+
+        final List<JavaFileObject> sources = List.of(
+                source("com.sitionix.forgeit.core.api.ForgeIT", """
+                        package com.sitionix.forgeit.core.api;
+
+                        public interface ForgeIT extends com.sitionix.forgeit.core.generated.ForgeITFeatures {
+                        }
+                        """),
+                source("sample.ContainerContract", """
+                        package sample;
+
+                        @com.sitionix.forgeit.core.annotation.ForgeFeatures(%s.class)
+                        public interface ContainerContract extends com.sitionix.forgeit.core.api.ForgeIT {
+                        }
+                        """.formatted(POSTGRESQL_SUPPORT)),
+                source("sample.FastLaneContract", """
+                        package sample;
+
+                        @com.sitionix.forgeit.core.annotation.ForgeFeatures(%s.class)
+                        public interface FastLaneContract extends com.sitionix.forgeit.core.api.ForgeIT {
+                        }
+                        """.formatted(POSTGRESQL_H2_SUPPORT)));
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        final JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, List.of(
+                "-classpath", whitelist.getParent().getParent() + File.pathSeparator + System.getProperty("java.class.path"),
+                "-d", classes.toString(),
+                "-s", generated.toString()), null, sources);
+        task.setProcessors(List.of(new ForgeFeaturesProcessor()));
+
+        assertThat(task.call())
+                .as("compilation errors: %s", diagnostics.getDiagnostics().stream()
+                        .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                        .map(diagnostic -> diagnostic.getMessage(null))
+                        .toList())
+                .isTrue();
+        assertThat(generated.resolve("com/sitionix/forgeit/core/generated/ForgeITFeatures.java"))
+                .content()
+                .contains("PostgresqlSupport", "PostgresqlH2Support");
+        assertThat(generated.resolve("sample/FastLaneContractImpl.java"))
+                .content()
+                .contains("public PostgresForge postgresql()");
+        assertThat(classes.resolve("sample/FastLaneContractImpl.class")).exists();
+    }
+
+    private static JavaFileObject source(final String className, final String content) {
+        return new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+}
@@ -1,6 +1,7 @@
 package com.sitionix.forgeit.application.executor;
 
 import com.sitionix.forgeit.core.contract.DbCleanup;
+import com.sitionix.forgeit.core.internal.jfr.CleanupEvent;
 import com.sitionix.forgeit.domain.contract.DbContract;
 import com.sitionix.forgeit.domain.contract.DbContractsRegistry;
 import com.sitionix.forgeit.domain.contract.clean.CleanupPhase;
@@ -69,7 +70,17 @@ public final class ForgeItDbCleanupTestExecutionListener extends AbstractTestExe
                 .findFirst()
                 .map(DbContractsRegistry::allContracts)
                 .orElse(List.of());
-        cleaners.values().forEach(cleaner -> cleaner.clearTables(contracts));
+        cleaners.values().forEach(cleaner -> this.clearTables(testContext, cleaner, contracts));
+    }
+
+    private void clearTables(final TestContext testContext,
+                             final DbCleaner cleaner,
+                             final List<DbContract<?>> contracts) {
+        final CleanupEvent event = new CleanupEvent(ForgeItDbCleanupTestExecutionListener.class.getSimpleName(),
+                cleaner.getClass().getName(),
+                testContext.getTestClass().getName());
+        event.setSize(contracts.size());
+        event.run(() -> cleaner.clearTables(contracts));
     }
 
     private void performCleanupSafely(final TestContext testContext) {
@@ -0,0 +1,67 @@
+package com.sitionix.forgeit.core.internal.container;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Host and port a container manager publishes for its container.
+ */
+@Slf4j
+public record ContainerEndpoint(String host, int port) {
+
+    private static final int PROBE_TIMEOUT_MILLIS = 500;
+
+    /**
+     * Picks the bridge address and internal port when {@code network} is
+     * {@link ContainerNetwork#DIRECT}, the host is Linux and the address accepts
+     * connections; the mapped host port otherwise.
+     *
+     * @param bridgeAddress supplies the container's IP on its Docker network,
+     *                      or {@code null} when it has none
+     */
+    public static ContainerEndpoint resolve(final ContainerNetwork network,
+                                            final String mappedHost,
+                                            final int mappedPort,
+                                            final Supplier<String> bridgeAddress,
+                                            final int internalPort) {
+        final ContainerEndpoint mapped = new ContainerEndpoint(mappedHost, mappedPort);
+        if (!ContainerNetwork.isDirect(network)) {
+            return mapped;
+        }
+        if (!isLinux()) {
+            log.info("Direct container networking needs a Linux host; using mapped port {}:{}", mappedHost, mappedPort);
+            return mapped;
+        }
+        final String address = bridgeAddress.get();
+        if (!StringUtils.hasText(address)) {
+            log.info("Container has no bridge address; using mapped port {}:{}", mappedHost, mappedPort);
+            return mapped;
+        }
+        final ContainerEndpoint direct = new ContainerEndpoint(address, internalPort);
+        if (!direct.isReachable()) {
+            log.warn("Container bridge address {}:{} is not reachable; using mapped port {}:{}",
+                    address, internalPort, mappedHost, mappedPort);
+            return mapped;
+        }
+        return direct;
+    }
+
+    private boolean isReachable() {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(this.host, this.port), PROBE_TIMEOUT_MILLIS);
+            return true;
+        } catch (final IOException ex) {
+            return false;
+        }
+    }
+
+    private static boolean isLinux() {
+        return System.getProperty("os.name", "").toLowerCase(Locale.ROOT).startsWith("linux");
+    }
+}
@@ -0,0 +1,24 @@
+package com.sitionix.forgeit.core.internal.container;
+
+/**
+ * How tests reach internal-mode containers, configured via
+ * {@code forge-it.modules.<module>.container.network}.
+ */
+public enum ContainerNetwork {
+
+    /**
+     * Host ports mapped by Docker, which routes every packet through the
+     * userland proxy.
+     */
+    MAPPED,
+
+    /**
+     * The container's bridge address and internal port. Only honoured on Linux
+     * hosts where that address is routable; otherwise the mapped port is used.
+     */
+    DIRECT;
+
+    public static boolean isDirect(final ContainerNetwork network) {
+        return network == DIRECT;
+    }
+}
@@ -0,0 +1,23 @@
+package com.sitionix.forgeit.core.internal.container;
+
+/**
+ * Durability profile applied to internal-mode containers, configured via
+ * {@code forge-it.modules.<module>.container.profile}.
+ */
+public enum ContainerProfile {
+
+    /**
+     * Image defaults with disk-backed data directories.
+     */
+    DEFAULT,
+
+    /**
+     * Throwaway test data: data directories live on tmpfs and durability
+     * settings such as fsync or log flushing are relaxed.
+     */
+    EPHEMERAL;
+
+    public static boolean isEphemeral(final ContainerProfile profile) {
+        return profile == EPHEMERAL;
+    }
+}
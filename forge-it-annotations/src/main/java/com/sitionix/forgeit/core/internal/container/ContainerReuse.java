@@ -0,0 +1,48 @@
+package com.sitionix.forgeit.core.internal.container;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * Labels used to recognise Testcontainers started in reuse mode.
+ * <p>
+ * Testcontainers reattaches to a running container only when its creation
+ * request is identical to a previous one. Adding a label with a hash of the
+ * image, credentials and ForgeIT version makes any configuration change (or a
+ * ForgeIT upgrade) start a new container instead of reattaching to a stale one.
+ */
+public final class ContainerReuse {
+
+    public static final String CONFIG_HASH_LABEL = "com.sitionix.forgeit.config-hash";
+    public static final String VERSION_LABEL = "com.sitionix.forgeit.version";
+
+    private static final String UNKNOWN_VERSION = "development";
+
+    private ContainerReuse() {
+    }
+
+    public static String forgeItVersion() {
+        return Objects.requireNonNullElse(ContainerReuse.class.getPackage().getImplementationVersion(), UNKNOWN_VERSION);
+    }
+
+    /**
+     * Computes a stable hash of the given attributes combined with the ForgeIT
+     * version.
+     */
+    public static String configurationHash(final Object... attributes) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(forgeItVersion().getBytes(StandardCharsets.UTF_8));
+            for (final Object attribute : attributes) {
+                digest.update((byte) 0);
+                digest.update(String.valueOf(attribute).getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.sitionix.forgeit.core.internal.container;
+
+/**
+ * Implemented by container managers that can defer starting their container
+ * until a test first asks for one of the feature's collaborators.
+ */
+public interface LazyContainer {
+
+    /**
+     * @return {@code true} when resolving a bean of {@code featureType} needs
+     * this manager's container
+     */
+    boolean serves(Class<?> featureType);
+
+    /**
+     * Starts the container if it has been deferred; otherwise does nothing.
+     */
+    void ensureStarted();
+
+    /**
+     * @return {@code true} while a deferred container has not been started yet,
+     * so per-test housekeeping against it can be skipped
+     */
+    boolean isAwaitingFirstUse();
+}
@@ -0,0 +1,318 @@
+package com.sitionix.forgeit.core.internal.container;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Process-wide, reference-counted registry of infrastructure containers shared
+ * between Spring test contexts.
+ * <p>
+ * Container managers acquire a {@link Lease} for a key describing the image and
+ * the configuration the container was started with. The first lease starts the
+ * container through the supplied factory, subsequent leases with the same key
+ * reuse it, and the container is closed once the last lease is released, which
+ * happens when the last application context using it is closed or evicted from
+ * the Spring test context cache.
+ */
+@Slf4j
+public final class SharedContainerRegistry {
+
+    private static final String KEY_SEPARATOR = "|";
+    private static final int LAZY_START_ATTEMPTS = 3;
+
+    private static final Map<String, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    private SharedContainerRegistry() {
+    }
+
+    /**
+     * Builds a registry key from the module name and the attributes that
+     * influence how the container is started.
+     */
+    public static String key(final String module, final Object... attributes) {
+        Objects.requireNonNull(module, "module must not be null");
+        return Stream.concat(Stream.of(module), Stream.of(attributes).map(String::valueOf))
+                .collect(Collectors.joining(KEY_SEPARATOR));
+    }
+
+    /**
+     * Acquires the container registered under {@code key}, starting it via
+     * {@code factory} if no context holds it yet. The factory is expected to
+     * return an already started container and to clean up after itself when
+     * startup fails.
+     */
+    public static <T extends AutoCloseable> Lease<T> acquire(final String key, final Supplier<T> factory) {
+        return acquire(key, factory, false);
+    }
+
+    /**
+     * Variant of {@link #acquire(String, Supplier)} for containers that must
+     * outlive the test JVM, such as Testcontainers started in reuse mode. When
+     * {@code keepRunning} is set the container is forgotten, not closed, once
+     * the last lease is released.
+     */
+    public static <T extends AutoCloseable> Lease<T> acquire(final String key,
+                                                             final Supplier<T> factory,
+                                                             final boolean keepRunning) {
+        Objects.requireNonNull(key, "key must not be null");
+        Objects.requireNonNull(factory, "factory must not be null");
+        final Entry entry = register(key, keepRunning);
+        final Lease<T> lease = new Lease<>(entry, factory);
+        try {
+            lease.container();
+            return lease;
+        } catch (final RuntimeException ex) {
+            release(entry);
+            throw ex;
+        }
+    }
+
+    /**
+     * Registers interest in the container under {@code key} without starting it.
+     * The container is started by the first {@link Lease#container()} call of any
+     * lease for the key. A free host port is reserved up front and handed to the
+     * factory, so the container's address can be published before it runs.
+     * <p>
+     * The reservation is released before the container binds the port, so another
+     * process may take it in between. When the start fails because the port is
+     * already in use, it is retried on a freshly reserved port and
+     * {@link Lease#reservedPort()} reports the new one; callers must re-read it
+     * after {@link Lease#container()} and republish the container's address.
+     */
+    public static <T extends AutoCloseable> Lease<T> acquireLazily(final String key, final IntFunction<T> factory) {
+        Objects.requireNonNull(key, "key must not be null");
+        Objects.requireNonNull(factory, "factory must not be null");
+        final Entry entry = register(key, false);
+        try {
+            entry.reservePort();
+        } catch (final RuntimeException ex) {
+            release(entry);
+            throw ex;
+        }
+        return new Lease<>(entry, () -> startOnReservedPort(entry, factory));
+    }
+
+    /**
+     * Returns the number of contexts currently holding the container registered
+     * under {@code key}.
+     */
+    public static int references(final String key) {
+        final Entry entry = ENTRIES.get(key);
+        return entry == null ? 0 : entry.references;
+    }
+
+    private static <T> T startOnReservedPort(final Entry entry, final IntFunction<T> factory) {
+        for (int attempt = 1; ; attempt++) {
+            final int port = entry.reservePort();
+            try {
+                return factory.apply(port);
+            } catch (final RuntimeException ex) {
+                if (attempt >= LAZY_START_ATTEMPTS || !isPortConflict(ex)) {
+                    throw ex;
+                }
+                log.warn("Host port {} reserved for shared ForgeIT container {} was taken, retrying on a new port",
+                        port, entry.key);
+                entry.discardReservedPort();
+            }
+        }
+    }
+
+    private static boolean isPortConflict(final Throwable failure) {
+        for (Throwable current = failure; current != null; current = current.getCause()) {
+            final String message = current.getMessage();
+            if (message == null) {
+                continue;
+            }
+            final String normalized = message.toLowerCase(Locale.ROOT);
+            if (normalized.contains("port is already allocated") || normalized.contains("address already in use")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Entry register(final String key, final boolean keepRunning) {
+        return ENTRIES.compute(key, (k, existing) -> {
+            final Entry resolved = existing == null ? new Entry(k, keepRunning) : existing;
+            resolved.references++;
+            return resolved;
+        });
+    }
+
+    private static void release(final Entry entry) {
+        final AtomicBoolean last = new AtomicBoolean();
+        ENTRIES.computeIfPresent(entry.key, (k, current) -> {
+            if (current != entry) {
+                return current;
+            }
+            current.references--;
+            if (current.references > 0) {
+                return current;
+            }
+            last.set(true);
+            return null;
+        });
+        if (last.get()) {
+            entry.close();
+        }
+    }
+
+    /**
+     * Handle to a shared container. Releasing the lease more than once has no
+     * effect; closing the lease releases it.
+     */
+    public static final class Lease<T extends AutoCloseable> implements AutoCloseable {
+
+        private final Entry entry;
+        private final Supplier<T> factory;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private volatile T container;
+
+        private Lease(final Entry entry, final Supplier<T> factory) {
+            this.entry = entry;
+            this.factory = factory;
+        }
+
+        /**
+         * Returns the container, starting it first if this lease was acquired
+         * lazily and no lease for the same key has started it yet.
+         */
+        @SuppressWarnings("unchecked")
+        public T container() {
+            T resolved = this.container;
+            if (resolved == null) {
+                resolved = (T) this.entry.resolve(this.factory);
+                this.container = resolved;
+            }
+            return resolved;
+        }
+
+        /**
+         * @return {@code true} once the container behind this lease is running
+         */
+        public boolean isStarted() {
+            return this.container != null || this.entry.isStarted();
+        }
+
+        /**
+         * @return the host port reserved for a lazily acquired container; it changes
+         * when the container had to be started on a new port
+         */
+        public int reservedPort() {
+            return this.entry.reservePort();
+        }
+
+        public String key() {
+            return this.entry.key;
+        }
+
+        /**
+         * Runs {@code action} once per container instance, no matter how many
+         * contexts share it. Intended for one-off initialisation such as schema
+         * creation; the action is retried by the next caller if it fails.
+         */
+        public void runOnce(final String marker, final Runnable action) {
+            this.entry.runOnce(marker, action);
+        }
+
+        public void release() {
+            if (this.released.compareAndSet(false, true)) {
+                SharedContainerRegistry.release(this.entry);
+            }
+        }
+
+        @Override
+        public void close() {
+            this.release();
+        }
+    }
+
+    private static final class Entry {
+
+        private final String key;
+        private final boolean keepRunning;
+        private final Set<String> completedInitialisations = new HashSet<>();
+        private volatile int references;
+        private AutoCloseable instance;
+        private int reservedPort;
+        private boolean closed;
+
+        private Entry(final String key, final boolean keepRunning) {
+            this.key = key;
+            this.keepRunning = keepRunning;
+        }
+
+        private synchronized AutoCloseable resolve(final Supplier<? extends AutoCloseable> factory) {
+            if (this.closed) {
+                throw new IllegalStateException("Shared container " + this.key + " has already been released");
+            }
+            if (this.instance == null) {
+                log.info("Starting shared ForgeIT container {}", this.key);
+                this.instance = Objects.requireNonNull(factory.get(),
+                        () -> "Container factory returned null for " + this.key);
+            }
+            return this.instance;
+        }
+
+        private synchronized boolean isStarted() {
+            return this.instance != null;
+        }
+
+        private synchronized int reservePort() {
+            if (this.reservedPort == 0) {
+                try (ServerSocket socket = new ServerSocket(0)) {
+                    socket.setReuseAddress(true);
+                    this.reservedPort = socket.getLocalPort();
+                } catch (final IOException ex) {
+                    throw new IllegalStateException("Failed to reserve a host port for " + this.key, ex);
+                }
+            }
+            return this.reservedPort;
+        }
+
+        private synchronized void discardReservedPort() {
+            this.reservedPort = 0;
+        }
+
+        private synchronized void runOnce(final String marker, final Runnable action) {
+            if (this.completedInitialisations.contains(marker)) {
+                return;
+            }
+            action.run();
+            this.completedInitialisations.add(marker);
+        }
+
+        private synchronized void close() {
+            this.closed = true;
+            if (this.instance == null) {
+                return;
+            }
+            if (this.keepRunning) {
+                log.info("Leaving reusable ForgeIT container {} running", this.key);
+                this.instance = null;
+                return;
+            }
+            log.info("Stopping shared ForgeIT container {}", this.key);
+            try {
+                this.instance.close();
+            } catch (final Exception ex) {
+                log.warn("Failed to stop shared ForgeIT container {}", this.key, ex);
+            } finally {
+                this.instance = null;
+            }
+        }
+    }
+}
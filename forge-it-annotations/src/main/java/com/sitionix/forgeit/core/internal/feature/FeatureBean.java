@@ -0,0 +1,29 @@
+package com.sitionix.forgeit.core.internal.feature;
+
+import org.springframework.beans.factory.BeanFactory;
+
+/**
+ * Feature collaborator held by a generated contract implementation. The bean is
+ * resolved from the owning context on first use, starting any lazily deferred
+ * container it depends on, and returned directly afterwards.
+ */
+public final class FeatureBean<T> {
+
+    private final BeanFactory beanFactory;
+    private final Class<T> type;
+    private volatile T instance;
+
+    public FeatureBean(BeanFactory beanFactory, Class<T> type) {
+        this.beanFactory = beanFactory;
+        this.type = type;
+    }
+
+    public T get() {
+        T current = this.instance;
+        if (current == null) {
+            current = FeatureContextHolder.getBean(this.beanFactory, this.type);
+            this.instance = current;
+        }
+        return current;
+    }
+}
@@ -1,5 +1,7 @@
 package com.sitionix.forgeit.core.internal.feature;
 
+import com.sitionix.forgeit.core.internal.container.LazyContainer;
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.context.ConfigurableApplicationContext;
 
 /**
@@ -21,10 +23,24 @@ public final class FeatureContextHolder {
         FeatureContextHolder.context = null;
     }
 
+    /**
+     * Returns the bean of the given type, first starting any lazily deferred
+     * container the feature behind {@code type} depends on.
+     */
     public static <T> T getBean(Class<T> type) {
-        if (FeatureContextHolder.context == null) {
+        final ConfigurableApplicationContext current = FeatureContextHolder.context;
+        if (current == null) {
             throw new IllegalStateException("ForgeIT application context is not initialised");
         }
-        return FeatureContextHolder.context.getBean(type);
+        return getBean(current, type);
+    }
+
+    static <T> T getBean(BeanFactory beanFactory, Class<T> type) {
+        beanFactory.getBeanProvider(LazyContainer.class).forEach(container -> {
+            if (container.isAwaitingFirstUse() && container.serves(type)) {
+                container.ensureStarted();
+            }
+        });
+        return beanFactory.getBean(type);
     }
 }
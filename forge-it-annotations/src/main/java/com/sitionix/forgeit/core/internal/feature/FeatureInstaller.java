@@ -15,7 +15,19 @@ public interface FeatureInstaller {
 
     /**
      * Register beans and perform any additional setup required for the feature
-     * before the application context is refreshed.
+     * before the application context is refreshed. Feature modules register their
+     * components explicitly rather than scanning their packages.
      */
     void install(FeatureInstallationContext context);
+
+    /**
+     * Start the infrastructure backing the feature ahead of the context refresh.
+     * Invoked concurrently for all installed features once every installer has
+     * run; the returned handle is closed after the application context has been
+     * refreshed or destroyed. The default implementation has nothing to start.
+     */
+    default AutoCloseable bootstrap(FeatureInstallationContext context) {
+        return () -> {
+        };
+    }
 }
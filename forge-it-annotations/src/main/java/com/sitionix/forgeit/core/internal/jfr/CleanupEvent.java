@@ -0,0 +1,46 @@
+package com.sitionix.forgeit.core.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Cleanup performed by a ForgeIT test execution listener, such as clearing
+ * tables, deleting Kafka records or resetting the WireMock journal.
+ */
+@Name("com.sitionix.forgeit.Cleanup")
+@Label("ForgeIT Cleanup")
+@Category({"ForgeIT", "Cleanup"})
+@Description("Housekeeping run by a ForgeIT test execution listener")
+public class CleanupEvent extends ForgeItEvent {
+
+    @Label("Listener")
+    private final String listener;
+
+    @Label("Target")
+    @Description("Cleaner or resource that was reset")
+    private final String target;
+
+    @Label("Test")
+    private final String test;
+
+    @Label("Size")
+    @Description("Number of tables or contracts handed to the cleaner")
+    private long size;
+
+    public CleanupEvent(final String listener, final String target, final String test) {
+        this.listener = listener;
+        this.target = target;
+        this.test = test;
+    }
+
+    public void setSize(final long size) {
+        this.size = size;
+    }
+
+    @Override
+    protected String phase() {
+        return this.listener;
+    }
+}
@@ -0,0 +1,30 @@
+package com.sitionix.forgeit.core.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A {@code DataPreparation} declared on a test class, run before each test method.
+ */
+@Name("com.sitionix.forgeit.DataPreparation")
+@Label("ForgeIT Data Preparation")
+@Category({"ForgeIT", "Preparation"})
+public class DataPreparationEvent extends ForgeItEvent {
+
+    @Label("Preparation")
+    private final String preparation;
+
+    @Label("Test")
+    private final String test;
+
+    public DataPreparationEvent(final Class<?> preparation, final String test) {
+        this.preparation = preparation.getName();
+        this.test = test;
+    }
+
+    @Override
+    protected String phase() {
+        return "data preparation";
+    }
+}
@@ -0,0 +1,36 @@
+package com.sitionix.forgeit.core.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Comparison of a persisted entity against its expected JSON fixture.
+ */
+@Name("com.sitionix.forgeit.EntityComparison")
+@Label("ForgeIT Entity Comparison")
+@Category({"ForgeIT", "Assertion"})
+public class EntityComparisonEvent extends ForgeItEvent {
+
+    @Label("Entity")
+    private final String entity;
+
+    @Label("Strict")
+    private final boolean strict;
+
+    @Label("Size")
+    @DataAmount
+    private final long size;
+
+    public EntityComparisonEvent(final Class<?> entity, final boolean strict, final long size) {
+        this.entity = entity == null ? null : entity.getName();
+        this.strict = strict;
+        this.size = size;
+    }
+
+    @Override
+    protected String phase() {
+        return "entity comparison";
+    }
+}
@@ -0,0 +1,49 @@
+package com.sitionix.forgeit.core.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Loading a fixture file from the class path or parsing it into its target type.
+ */
+@Name("com.sitionix.forgeit.Fixture")
+@Label("ForgeIT Fixture")
+@Category({"ForgeIT", "Fixture"})
+public class FixtureEvent extends ForgeItEvent {
+
+    public static final String LOAD = "load";
+    public static final String PARSE = "parse";
+
+    @Label("Operation")
+    private final String operation;
+
+    @Label("Fixture")
+    private final String fixture;
+
+    @Label("Type")
+    private String type;
+
+    @Label("Size")
+    @DataAmount
+    private long size;
+
+    public FixtureEvent(final String operation, final String fixture) {
+        this.operation = operation;
+        this.fixture = fixture;
+    }
+
+    public void setType(final Class<?> type) {
+        this.type = type == null ? null : type.getName();
+    }
+
+    public void setSize(final long size) {
+        this.size = size;
+    }
+
+    @Override
+    protected String phase() {
+        return "fixture " + this.operation;
+    }
+}
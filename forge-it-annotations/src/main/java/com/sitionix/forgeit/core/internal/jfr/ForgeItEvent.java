@@ -0,0 +1,95 @@
+package com.sitionix.forgeit.core.internal.jfr;
+
+import com.sitionix.forgeit.core.internal.overhead.OverheadRecorder;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+import java.util.function.Supplier;
+
+/**
+ * Base of the Java Flight Recorder events emitted around ForgeIT operations, so
+ * JMC can attribute wall time to specific ForgeIT calls instead of anonymous
+ * socket reads. Events are only committed while a recording has them enabled;
+ * otherwise {@link #begin()} and {@link #commit()} are no-ops.
+ * <p>
+ * Call sites wrap the operation in {@link #record(Supplier)} or
+ * {@link #run(Runnable)}, which also feed the {@link OverheadRecorder} under the
+ * event's {@link #phase()}.
+ */
+@Category("ForgeIT")
+@StackTrace(false)
+public abstract class ForgeItEvent extends Event {
+
+    public static final String SUCCESS = "success";
+
+    /**
+     * Protected rather than private: JFR only records non-private fields of an
+     * event superclass.
+     */
+    @Label("Outcome")
+    protected String outcome = SUCCESS;
+
+    private long overheadStart = OverheadRecorder.NOT_RECORDING;
+
+    /**
+     * Begins the event and starts timing it for the overhead report.
+     */
+    public final void start() {
+        this.overheadStart = OverheadRecorder.start();
+        this.begin();
+    }
+
+    /**
+     * Commits the event and adds its duration to the overhead report.
+     */
+    public final void finish() {
+        this.commit();
+        if (this.overheadStart != OverheadRecorder.NOT_RECORDING) {
+            OverheadRecorder.record(this.phase(), this.overheadStart);
+        }
+    }
+
+    /**
+     * Runs {@code operation} inside the event, recording the simple name of any
+     * exception or error it throws as the outcome before rethrowing it.
+     */
+    public final <T> T record(final Supplier<T> operation) {
+        this.start();
+        try {
+            return operation.get();
+        } catch (final RuntimeException | Error ex) {
+            this.fail(ex);
+            throw ex;
+        } finally {
+            this.finish();
+        }
+    }
+
+    /**
+     * {@link #record(Supplier)} for operations without a result.
+     */
+    public final void run(final Runnable operation) {
+        this.record(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    /**
+     * Marks the operation as failed with the simple name of the thrown exception.
+     */
+    public void fail(final Throwable failure) {
+        this.outcome = failure.getClass().getSimpleName();
+    }
+
+    public String getOutcome() {
+        return this.outcome;
+    }
+
+    /**
+     * @return the phase this operation is reported under in the overhead report
+     */
+    protected abstract String phase();
+}
@@ -0,0 +1,35 @@
+package com.sitionix.forgeit.core.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Persisting a {@code DbGraph} chain of contract entities in one transaction.
+ */
+@Name("com.sitionix.forgeit.GraphPersist")
+@Label("ForgeIT Graph Persist")
+@Category({"ForgeIT", "Database"})
+public class GraphPersistEvent extends ForgeItEvent {
+
+    @Label("Transaction Policy")
+    private final String txPolicy;
+
+    @Label("Size")
+    @Description("Number of contract invocations in the chain")
+    private long size;
+
+    public GraphPersistEvent(final String txPolicy) {
+        this.txPolicy = txPolicy;
+    }
+
+    public void setSize(final long size) {
+        this.size = size;
+    }
+
+    @Override
+    protected String phase() {
+        return "graph persist";
+    }
+}
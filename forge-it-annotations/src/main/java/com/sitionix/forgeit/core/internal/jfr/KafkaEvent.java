@@ -0,0 +1,51 @@
+package com.sitionix.forgeit.core.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Kafka record published or consumed by the ForgeIT DSL, or an Awaitility wait
+ * for a verifier to pass after publishing.
+ */
+@Name("com.sitionix.forgeit.Kafka")
+@Label("ForgeIT Kafka")
+@Category({"ForgeIT", "Kafka"})
+public class KafkaEvent extends ForgeItEvent {
+
+    public static final String PUBLISH = "publish";
+    public static final String CONSUME = "consume";
+    public static final String AWAIT = "await";
+
+    @Label("Operation")
+    private final String operation;
+
+    @Label("Topic")
+    private final String topic;
+
+    @Label("Size")
+    @DataAmount
+    private long size;
+
+    public KafkaEvent(final String operation, final String topic) {
+        this.operation = operation;
+        this.topic = topic;
+    }
+
+    /**
+     * Records the serialized size of a {@code String} or {@code byte[]} payload.
+     */
+    public void setPayload(final Object payload) {
+        if (payload instanceof final byte[] bytes) {
+            this.size = bytes.length;
+        } else if (payload instanceof final String text) {
+            this.size = text.length();
+        }
+    }
+
+    @Override
+    protected String phase() {
+        return "kafka " + this.operation;
+    }
+}
@@ -0,0 +1,48 @@
+package com.sitionix.forgeit.core.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * WireMock stub registration, request verification or journal fetch issued by
+ * the ForgeIT DSL.
+ */
+@Name("com.sitionix.forgeit.WireMock")
+@Label("ForgeIT WireMock")
+@Category({"ForgeIT", "WireMock"})
+public class WireMockEvent extends ForgeItEvent {
+
+    public static final String STUB = "stub";
+    public static final String VERIFY = "verify";
+    public static final String JOURNAL = "journal";
+
+    @Label("Operation")
+    private final String operation;
+
+    @Label("Method")
+    private final String method;
+
+    @Label("URL")
+    private final String url;
+
+    @Label("Size")
+    @Description("Number of journal entries returned")
+    private long size;
+
+    public WireMockEvent(final String operation, final String method, final String url) {
+        this.operation = operation;
+        this.method = method;
+        this.url = url;
+    }
+
+    public void setSize(final long size) {
+        this.size = size;
+    }
+
+    @Override
+    protected String phase() {
+        return "wiremock " + this.operation;
+    }
+}
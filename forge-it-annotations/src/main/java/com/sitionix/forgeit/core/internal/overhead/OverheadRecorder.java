@@ -0,0 +1,158 @@
+package com.sitionix.forgeit.core.internal.overhead;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Accumulates the time ForgeIT spends in listener phases and DSL calls for the
+ * test running on the current thread, once
+ * {@code forge-it.overhead-report.enabled=true} turned it on. While it is off,
+ * {@link #start()} and {@link #record(String, long)} return after a single
+ * volatile read.
+ * <p>
+ * Operations run on threads without a current test, such as Awaitility poll
+ * threads or context startup, are not attributed.
+ */
+public final class OverheadRecorder {
+
+    public static final String ENABLED_PROPERTY = "forge-it.overhead-report.enabled";
+    public static final String DIRECTORY_PROPERTY = "forge-it.overhead-report.directory";
+    public static final String DEFAULT_DIRECTORY = "target/forge-it";
+
+    /**
+     * Returned by {@link #start()} when the operation is not recorded.
+     */
+    public static final long NOT_RECORDING = Long.MIN_VALUE;
+
+    private static final ThreadLocal<Frame> CLASS_FRAME = new ThreadLocal<>();
+    private static final ThreadLocal<Frame> METHOD_FRAME = new ThreadLocal<>();
+    private static final List<TestOverhead> RESULTS = new ArrayList<>();
+
+    private static volatile boolean enabled;
+    private static volatile Path directory = Path.of(DEFAULT_DIRECTORY);
+
+    private OverheadRecorder() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turns recording on for the rest of the JVM and sets where the report is written.
+     */
+    public static void enable(final Path reportDirectory) {
+        directory = reportDirectory;
+        enabled = true;
+    }
+
+    public static Path directory() {
+        return directory;
+    }
+
+    public static void startClass(final Class<?> testClass) {
+        if (enabled) {
+            CLASS_FRAME.set(new Frame(testClass.getName(), null));
+        }
+    }
+
+    public static void finishClass() {
+        final Frame frame = CLASS_FRAME.get();
+        CLASS_FRAME.remove();
+        if (frame != null && !frame.phases.isEmpty()) {
+            publish(frame.toOverhead(0L));
+        }
+    }
+
+    public static void startTest(final Class<?> testClass, final String testMethod) {
+        if (enabled) {
+            METHOD_FRAME.set(new Frame(testClass.getName(), testMethod));
+        }
+    }
+
+    public static void finishTest() {
+        final Frame frame = METHOD_FRAME.get();
+        METHOD_FRAME.remove();
+        if (frame != null) {
+            publish(frame.toOverhead(System.nanoTime() - frame.startNanos));
+        }
+    }
+
+    /**
+     * @return the start time to pass to {@link #record(String, long)}, or
+     * {@link #NOT_RECORDING} when no test on this thread is being recorded
+     */
+    public static long start() {
+        if (!enabled) {
+            return NOT_RECORDING;
+        }
+        final Frame frame = current();
+        if (frame == null) {
+            return NOT_RECORDING;
+        }
+        frame.depth++;
+        return System.nanoTime();
+    }
+
+    public static void record(final String phase, final long startNanos) {
+        if (startNanos == NOT_RECORDING) {
+            return;
+        }
+        final long elapsed = System.nanoTime() - startNanos;
+        final Frame frame = current();
+        if (frame == null) {
+            return;
+        }
+        frame.depth--;
+        if (frame.depth == 0) {
+            frame.forgeItNanos += elapsed;
+        }
+        frame.phases.merge(phase, new TestOverhead.Phase(1, elapsed), TestOverhead.Phase::plus);
+    }
+
+    /**
+     * Returns and forgets the overhead recorded so far.
+     */
+    public static List<TestOverhead> drain() {
+        synchronized (RESULTS) {
+            final List<TestOverhead> results = List.copyOf(RESULTS);
+            RESULTS.clear();
+            return results;
+        }
+    }
+
+    private static Frame current() {
+        final Frame method = METHOD_FRAME.get();
+        return method != null ? method : CLASS_FRAME.get();
+    }
+
+    private static void publish(final TestOverhead overhead) {
+        synchronized (RESULTS) {
+            RESULTS.add(overhead);
+        }
+    }
+
+    private static final class Frame {
+
+        private final String testClass;
+        private final String testMethod;
+        private final long startNanos = System.nanoTime();
+        private final Map<String, TestOverhead.Phase> phases = new LinkedHashMap<>();
+        private long forgeItNanos;
+        private int depth;
+
+        private Frame(final String testClass, final String testMethod) {
+            this.testClass = testClass;
+            this.testMethod = testMethod;
+        }
+
+        private TestOverhead toOverhead(final long wallNanos) {
+            return new TestOverhead(this.testClass, this.testMethod, wallNanos, this.forgeItNanos,
+                    Collections.unmodifiableMap(new LinkedHashMap<>(this.phases)));
+        }
+    }
+}
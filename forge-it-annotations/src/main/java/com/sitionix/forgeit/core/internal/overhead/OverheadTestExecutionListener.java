@@ -0,0 +1,46 @@
+package com.sitionix.forgeit.core.internal.overhead;
+
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+import java.nio.file.Path;
+
+/**
+ * Marks the test class and method running on the current thread for the
+ * {@link OverheadRecorder}. Its low order makes it wrap every ForgeIT listener:
+ * it starts a test before their {@code before} callbacks and finishes it after
+ * their {@code after} callbacks.
+ */
+public final class OverheadTestExecutionListener extends AbstractTestExecutionListener {
+
+    @Override
+    public int getOrder() {
+        return 50;
+    }
+
+    @Override
+    public void beforeTestClass(final TestContext testContext) {
+        final Environment environment = testContext.getApplicationContext().getEnvironment();
+        if (environment.getProperty(OverheadRecorder.ENABLED_PROPERTY, Boolean.class, Boolean.FALSE)) {
+            OverheadRecorder.enable(Path.of(environment.getProperty(OverheadRecorder.DIRECTORY_PROPERTY,
+                    OverheadRecorder.DEFAULT_DIRECTORY)));
+        }
+        OverheadRecorder.startClass(testContext.getTestClass());
+    }
+
+    @Override
+    public void beforeTestMethod(final TestContext testContext) {
+        OverheadRecorder.startTest(testContext.getTestClass(), testContext.getTestMethod().getName());
+    }
+
+    @Override
+    public void afterTestMethod(final TestContext testContext) {
+        OverheadRecorder.finishTest();
+    }
+
+    @Override
+    public void afterTestClass(final TestContext testContext) {
+        OverheadRecorder.finishClass();
+    }
+}
@@ -0,0 +1,33 @@
+package com.sitionix.forgeit.core.internal.overhead;
+
+import java.util.Map;
+
+/**
+ * ForgeIT time spent in one test method, or in the class-level callbacks of a
+ * test class when {@code testMethod} is {@code null}.
+ *
+ * @param wallNanos    time from the first {@code beforeTestMethod} to the last
+ *                     {@code afterTestMethod} callback; zero for class-level entries
+ * @param forgeItNanos time in outermost ForgeIT operations; nested operations,
+ *                     such as a journal fetch inside a WireMock verification, are
+ *                     only counted in {@code phases}
+ * @param phases       time per phase, e.g. {@code KafkaResetTestExecutionListener}
+ *                     or {@code kafka await}, in first-seen order
+ */
+public record TestOverhead(String testClass,
+                           String testMethod,
+                           long wallNanos,
+                           long forgeItNanos,
+                           Map<String, Phase> phases) {
+
+    public boolean isClassLevel() {
+        return this.testMethod == null;
+    }
+
+    public record Phase(long count, long nanos) {
+
+        public Phase plus(final Phase other) {
+            return new Phase(this.count + other.count, this.nanos + other.nanos);
+        }
+    }
+}
@@ -1,4 +1,9 @@
 package com.sitionix.forgeit.core.marker;
 
+/**
+ * Marker for feature interfaces. Argument-free default methods returning a
+ * non-generic type are collaborator accessors: generated contract
+ * implementations override them to return the bean of that type directly.
+ */
 public interface FeatureSupport {
 }
@@ -1,9 +1,38 @@
 package com.sitionix.forgeit.core.test;
 
-import org.springframework.context.annotation.ComponentScan;
+import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.ImportSelector;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.util.ClassUtils;
 
 @Configuration(proxyBeanMethods = false)
-@ComponentScan(basePackages = "com.sitionix.forgeit.application")
+@Import(ForgeItTestAutoConfiguration.ApplicationComponentsSelector.class)
 public class ForgeItTestAutoConfiguration {
+
+    private static final String APPLICATION_COMPONENTS =
+            "com.sitionix.forgeit.application.ForgeItApplicationComponents";
+
+    /**
+     * Imports the explicit registrar of forge-it-application, when present, in
+     * place of scanning its packages.
+     */
+    static class ApplicationComponentsSelector implements ImportSelector, BeanClassLoaderAware {
+
+        private ClassLoader classLoader;
+
+        @Override
+        public void setBeanClassLoader(final ClassLoader classLoader) {
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        public String[] selectImports(final AnnotationMetadata importingClassMetadata) {
+            if (!ClassUtils.isPresent(APPLICATION_COMPONENTS, this.classLoader)) {
+                return new String[0];
+            }
+            return new String[]{APPLICATION_COMPONENTS};
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package com.sitionix.forgeit.core.test;
 
 import com.sitionix.forgeit.application.executor.ForgeItDbCleanupTestExecutionListener;
+import com.sitionix.forgeit.core.internal.overhead.OverheadTestExecutionListener;
 import com.sitionix.forgeit.core.internal.test.ForgeItContextTestExecutionListener;
 import com.sitionix.forgeit.core.contract.DbCleanup;
 import com.sitionix.forgeit.domain.contract.clean.CleanupPhase;
@@ -22,6 +23,7 @@ import java.lang.annotation.Target;
 @ForgeItTest
 @TestExecutionListeners(
         listeners = {
+                OverheadTestExecutionListener.class,
                 ForgeItContextTestExecutionListener.class,
                 ForgeItDbCleanupTestExecutionListener.class
         },
@@ -38,4 +40,11 @@ public @interface IntegrationTest {
     String[] properties() default {};
 
     Class<? extends DataPreparation<?>>[] preparations() default {};
+
+    /**
+     * Loads only the application auto-configuration the contract's features need
+     * and initializes application beans lazily, so contexts start faster and hold
+     * less memory. ForgeIT infrastructure is still created eagerly.
+     */
+    boolean slice() default false;
 }
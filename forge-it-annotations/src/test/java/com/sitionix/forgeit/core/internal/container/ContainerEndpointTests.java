@@ -0,0 +1,48 @@
+package com.sitionix.forgeit.core.internal.container;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContainerEndpointTests {
+
+    @Test
+    void shouldUseMappedPortByDefault() {
+        final ContainerEndpoint endpoint = ContainerEndpoint.resolve(null, "localhost", 49153,
+                () -> {
+                    throw new AssertionError("bridge address must not be resolved");
+                }, 5432);
+
+        assertThat(endpoint).isEqualTo(new ContainerEndpoint("localhost", 49153));
+    }
+
+    @Test
+    @EnabledOnOs(OS.LINUX)
+    void shouldUseBridgeAddressWhenReachable() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            final ContainerEndpoint endpoint = ContainerEndpoint.resolve(ContainerNetwork.DIRECT, "localhost", 49153,
+                    () -> "127.0.0.1", server.getLocalPort());
+
+            assertThat(endpoint).isEqualTo(new ContainerEndpoint("127.0.0.1", server.getLocalPort()));
+        }
+    }
+
+    @Test
+    @EnabledOnOs(OS.LINUX)
+    void shouldFallBackToMappedPortWhenBridgeAddressIsUnusable() throws Exception {
+        final int closedPort;
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            closedPort = server.getLocalPort();
+        }
+
+        assertThat(ContainerEndpoint.resolve(ContainerNetwork.DIRECT, "localhost", 49153, () -> "127.0.0.1", closedPort))
+                .isEqualTo(new ContainerEndpoint("localhost", 49153));
+        assertThat(ContainerEndpoint.resolve(ContainerNetwork.DIRECT, "localhost", 49153, () -> null, 5432))
+                .isEqualTo(new ContainerEndpoint("localhost", 49153));
+    }
+}
@@ -0,0 +1,23 @@
+package com.sitionix.forgeit.core.internal.container;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContainerReuseTests {
+
+    @Test
+    void shouldProduceStableHashForSameConfiguration() {
+        assertThat(ContainerReuse.configurationHash("postgres:16-alpine", "forge-it", "forge-it", "secret"))
+                .isEqualTo(ContainerReuse.configurationHash("postgres:16-alpine", "forge-it", "forge-it", "secret"))
+                .hasSize(32);
+    }
+
+    @Test
+    void shouldChangeHashWhenConfigurationChanges() {
+        assertThat(ContainerReuse.configurationHash("postgres:16-alpine", "forge-it", "forge-it", "secret"))
+                .isNotEqualTo(ContainerReuse.configurationHash("postgres:16-alpine", "forge-it", "forge-it", "other"));
+        assertThat(ContainerReuse.configurationHash("ab", "c"))
+                .isNotEqualTo(ContainerReuse.configurationHash("a", "bc"));
+    }
+}
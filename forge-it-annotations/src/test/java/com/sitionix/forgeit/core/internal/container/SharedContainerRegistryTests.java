@@ -0,0 +1,176 @@
+package com.sitionix.forgeit.core.internal.container;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SharedContainerRegistryTests {
+
+    @Test
+    void shouldShareContainerUntilLastLeaseIsReleased() {
+        final String key = SharedContainerRegistry.key("test", "shared", System.nanoTime());
+        final AtomicInteger starts = new AtomicInteger();
+
+        final SharedContainerRegistry.Lease<FakeContainer> first =
+                SharedContainerRegistry.acquire(key, () -> new FakeContainer(starts.incrementAndGet()));
+        final SharedContainerRegistry.Lease<FakeContainer> second =
+                SharedContainerRegistry.acquire(key, () -> new FakeContainer(starts.incrementAndGet()));
+
+        assertThat(second.container()).isSameAs(first.container());
+        assertThat(starts).hasValue(1);
+        assertThat(SharedContainerRegistry.references(key)).isEqualTo(2);
+
+        first.release();
+        first.release();
+
+        assertThat(first.container().closed).isFalse();
+        assertThat(SharedContainerRegistry.references(key)).isEqualTo(1);
+
+        second.release();
+
+        assertThat(second.container().closed).isTrue();
+        assertThat(SharedContainerRegistry.references(key)).isZero();
+    }
+
+    @Test
+    void shouldStartNewContainerAfterPreviousOneWasReleased() {
+        final String key = SharedContainerRegistry.key("test", "restart", System.nanoTime());
+        final AtomicInteger starts = new AtomicInteger();
+
+        final SharedContainerRegistry.Lease<FakeContainer> first =
+                SharedContainerRegistry.acquire(key, () -> new FakeContainer(starts.incrementAndGet()));
+        first.release();
+        final SharedContainerRegistry.Lease<FakeContainer> second =
+                SharedContainerRegistry.acquire(key, () -> new FakeContainer(starts.incrementAndGet()));
+
+        assertThat(second.container()).isNotSameAs(first.container());
+        assertThat(second.container().id).isEqualTo(2);
+        second.release();
+    }
+
+    @Test
+    void shouldLeaveReusableContainerRunningAfterLastRelease() {
+        final String key = SharedContainerRegistry.key("test", "reuse", System.nanoTime());
+
+        final SharedContainerRegistry.Lease<FakeContainer> lease =
+                SharedContainerRegistry.acquire(key, () -> new FakeContainer(1), true);
+        lease.release();
+
+        assertThat(lease.container().closed).isFalse();
+        assertThat(SharedContainerRegistry.references(key)).isZero();
+    }
+
+    @Test
+    void shouldStartLazyContainerOnFirstUseWithReservedPort() {
+        final String key = SharedContainerRegistry.key("test", "lazy", System.nanoTime());
+        final AtomicInteger starts = new AtomicInteger();
+
+        final SharedContainerRegistry.Lease<FakeContainer> first =
+                SharedContainerRegistry.acquireLazily(key, port -> new FakeContainer(port));
+        final SharedContainerRegistry.Lease<FakeContainer> second =
+                SharedContainerRegistry.acquireLazily(key, port -> new FakeContainer(starts.incrementAndGet()));
+
+        assertThat(first.isStarted()).isFalse();
+        assertThat(first.reservedPort()).isPositive().isEqualTo(second.reservedPort());
+
+        assertThat(first.container().id).isEqualTo(first.reservedPort());
+        assertThat(second.isStarted()).isTrue();
+        assertThat(second.container()).isSameAs(first.container());
+        assertThat(starts).hasValue(0);
+
+        first.release();
+        second.release();
+        assertThat(first.container().closed).isTrue();
+    }
+
+    @Test
+    void shouldRetryLazyContainerOnNewPortWhenReservedPortWasTaken() {
+        final String key = SharedContainerRegistry.key("test", "lazy-conflict", System.nanoTime());
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final SharedContainerRegistry.Lease<FakeContainer> lease = SharedContainerRegistry.acquireLazily(key, port -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("Container startup failed",
+                        new RuntimeException("Bind for 0.0.0.0:" + port + " failed: port is already allocated"));
+            }
+            return new FakeContainer(port);
+        });
+        final int reserved = lease.reservedPort();
+
+        assertThat(lease.container().id).isEqualTo(lease.reservedPort()).isNotEqualTo(reserved);
+        assertThat(attempts).hasValue(2);
+        lease.release();
+    }
+
+    @Test
+    void shouldNotRetryLazyContainerOnOtherFailures() {
+        final String key = SharedContainerRegistry.key("test", "lazy-failure", System.nanoTime());
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final SharedContainerRegistry.Lease<FakeContainer> lease = SharedContainerRegistry.acquireLazily(key, port -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("boom");
+        });
+        final int reserved = lease.reservedPort();
+
+        assertThatThrownBy(lease::container).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+        assertThat(attempts).hasValue(1);
+        assertThat(lease.reservedPort()).isEqualTo(reserved);
+        lease.release();
+    }
+
+    @Test
+    void shouldNotRetainReferenceWhenFactoryFails() {
+        final String key = SharedContainerRegistry.key("test", "failure", System.nanoTime());
+
+        assertThatThrownBy(() -> SharedContainerRegistry.acquire(key, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+
+        assertThat(SharedContainerRegistry.references(key)).isZero();
+    }
+
+    @Test
+    void shouldRunInitialisationOncePerContainer() {
+        final String key = SharedContainerRegistry.key("test", "init", System.nanoTime());
+        final AtomicInteger runs = new AtomicInteger();
+
+        final SharedContainerRegistry.Lease<FakeContainer> first =
+                SharedContainerRegistry.acquire(key, () -> new FakeContainer(1));
+        final SharedContainerRegistry.Lease<FakeContainer> second =
+                SharedContainerRegistry.acquire(key, () -> new FakeContainer(2));
+
+        first.runOnce("schema", runs::incrementAndGet);
+        second.runOnce("schema", runs::incrementAndGet);
+
+        assertThat(runs).hasValue(1);
+        first.release();
+        second.release();
+    }
+
+    @Test
+    void shouldSeparateKeysByConfiguration() {
+        assertThat(SharedContainerRegistry.key("postgresql", "postgres:16-alpine", "db-a"))
+                .isNotEqualTo(SharedContainerRegistry.key("postgresql", "postgres:16-alpine", "db-b"));
+        assertThat(SharedContainerRegistry.key("kafka", "confluentinc/cp-kafka:7.6.1"))
+                .isEqualTo("kafka|confluentinc/cp-kafka:7.6.1");
+    }
+
+    private static final class FakeContainer implements AutoCloseable {
+
+        private final int id;
+        private boolean closed;
+
+        private FakeContainer(final int id) {
+            this.id = id;
+        }
+
+        @Override
+        public void close() {
+            this.closed = true;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.sitionix.forgeit.core.internal.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ForgeItEventTests {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldRecordOperationFieldsAndOutcome() throws IOException {
+        final Path file = this.directory.resolve("forge-it.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(KafkaEvent.class);
+            recording.start();
+
+            final KafkaEvent published = new KafkaEvent(KafkaEvent.PUBLISH, "orders");
+            published.setPayload("{\"id\":1}");
+            assertThat(published.record(() -> "sent")).isEqualTo("sent");
+
+            final KafkaEvent awaited = new KafkaEvent(KafkaEvent.AWAIT, "orders");
+            assertThatThrownBy(() -> awaited.run(() -> {
+                throw new AssertionError("timed out");
+            })).isInstanceOf(AssertionError.class);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertThat(events)
+                .extracting(event -> event.getEventType().getName(),
+                        event -> event.getString("operation"),
+                        event -> event.getString("topic"),
+                        event -> event.getLong("size"),
+                        event -> event.getString("outcome"))
+                .containsExactly(
+                        tuple("com.sitionix.forgeit.Kafka", "publish", "orders", 8L,
+                                ForgeItEvent.SUCCESS),
+                        tuple("com.sitionix.forgeit.Kafka", "await", "orders", 0L,
+                                "AssertionError"));
+        assertThat(events.get(0).getEventType().getCategoryNames()).containsExactly("ForgeIT", "Kafka");
+    }
+
+    @Test
+    void shouldStayDisabledWithoutRecording() {
+        final CleanupEvent event = new CleanupEvent("listener", "target", "test");
+
+        assertThat(event.isEnabled()).isFalse();
+        assertThat(event.shouldCommit()).isFalse();
+    }
+}
@@ -0,0 +1,68 @@
+package com.sitionix.forgeit.core.internal.overhead;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OverheadRecorderTests {
+
+    @BeforeEach
+    void enable() {
+        OverheadRecorder.enable(Path.of(OverheadRecorder.DEFAULT_DIRECTORY));
+        OverheadRecorder.drain();
+    }
+
+    @AfterEach
+    void clear() {
+        OverheadRecorder.finishTest();
+        OverheadRecorder.finishClass();
+        OverheadRecorder.drain();
+    }
+
+    @Test
+    void shouldCountOnlyOutermostOperationsTowardsForgeItTime() {
+        OverheadRecorder.startClass(OverheadRecorderTests.class);
+        OverheadRecorder.startTest(OverheadRecorderTests.class, "verifies");
+
+        final long verify = OverheadRecorder.start();
+        OverheadRecorder.record("wiremock journal", OverheadRecorder.start());
+        OverheadRecorder.record("wiremock verify", verify);
+
+        OverheadRecorder.finishTest();
+        OverheadRecorder.finishClass();
+
+        final List<TestOverhead> results = OverheadRecorder.drain();
+        assertThat(results).singleElement().satisfies(result -> {
+            assertThat(result.testClass()).isEqualTo(OverheadRecorderTests.class.getName());
+            assertThat(result.testMethod()).isEqualTo("verifies");
+            assertThat(result.phases()).containsOnlyKeys("wiremock journal", "wiremock verify");
+            assertThat(result.forgeItNanos()).isEqualTo(result.phases().get("wiremock verify").nanos());
+            assertThat(result.wallNanos()).isGreaterThanOrEqualTo(result.forgeItNanos());
+        });
+    }
+
+    @Test
+    void shouldAttributeClassCallbacksToClassLevelEntry() {
+        OverheadRecorder.startClass(OverheadRecorderTests.class);
+        OverheadRecorder.record("ForgeItDbCleanupTestExecutionListener", OverheadRecorder.start());
+        OverheadRecorder.finishClass();
+
+        assertThat(OverheadRecorder.drain()).singleElement().satisfies(result -> {
+            assertThat(result.isClassLevel()).isTrue();
+            assertThat(result.phases()).containsOnlyKeys("ForgeItDbCleanupTestExecutionListener");
+        });
+    }
+
+    @Test
+    void shouldIgnoreOperationsOutsideTests() {
+        assertThat(OverheadRecorder.start()).isEqualTo(OverheadRecorder.NOT_RECORDING);
+        OverheadRecorder.record("kafka consume", OverheadRecorder.NOT_RECORDING);
+
+        assertThat(OverheadRecorder.drain()).isEmpty();
+    }
+}
@@ -0,0 +1,59 @@
+package com.sitionix.forgeit.testing;
+
+import com.sitionix.forgeit.core.internal.feature.FeatureInstallationContext;
+import com.sitionix.forgeit.core.internal.feature.FeatureInstaller;
+import org.springframework.context.annotation.ClassPathBeanDefinitionScanner;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Assertions shared by the feature modules' installer tests, published in this
+ * module's test jar.
+ */
+public final class FeatureInstallerAssertions {
+
+    private FeatureInstallerAssertions() {
+    }
+
+    /**
+     * Asserts that {@code installer} registers exactly the components that scanning
+     * {@code basePackage} would find, so the explicit component list cannot drift
+     * from the annotated classes.
+     */
+    public static void assertRegistersScannedComponents(final FeatureInstaller installer, final String basePackage) {
+        assertRegistersScannedComponents(GenericApplicationContext::new,
+                context -> installer.install(new FeatureInstallationContext(context)), basePackage);
+    }
+
+    /**
+     * Asserts that {@code registration} applied to a context from {@code contexts}
+     * registers exactly the components that scanning {@code basePackage} into
+     * another context from {@code contexts} would find.
+     */
+    public static void assertRegistersScannedComponents(final Supplier<GenericApplicationContext> contexts,
+                                                        final Consumer<GenericApplicationContext> registration,
+                                                        final String basePackage) {
+        final GenericApplicationContext installed = contexts.get();
+        registration.accept(installed);
+        final GenericApplicationContext scanned = contexts.get();
+        final ClassPathBeanDefinitionScanner scanner = new ClassPathBeanDefinitionScanner(scanned);
+        scanner.addExcludeFilter((reader, factory) -> reader.getClassMetadata().hasEnclosingClass());
+        scanner.scan(basePackage);
+
+        assertThat(componentNames(installed)).isEqualTo(componentNames(scanned));
+    }
+
+    private static Set<String> componentNames(final GenericApplicationContext context) {
+        return Arrays.stream(context.getBeanDefinitionNames())
+                .filter(name -> !name.startsWith("org.springframework."))
+                .filter(name -> !name.endsWith("FeatureMarker"))
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,62 @@
+package com.sitionix.forgeit.application;
+
+import com.sitionix.forgeit.application.executor.sql.SqlScriptExecutorImpl;
+import com.sitionix.forgeit.application.loader.json.JsonLoaderImpl;
+import com.sitionix.forgeit.application.loader.sql.SqlLoaderImpl;
+import com.sitionix.forgeit.application.sql.DbRetrieveFactoryIml;
+import com.sitionix.forgeit.application.sql.JpaJsonDbEntityFactory;
+import com.sitionix.forgeit.application.sql.RelationalEntityFetcher;
+import com.sitionix.forgeit.application.sql.cleaner.JpaDbCleaner;
+import com.sitionix.forgeit.application.sql.cleaner.ReflectiveDbContractsRegistry;
+import com.sitionix.forgeit.application.validator.RelationalEntityAssertionBuilderFactory;
+import com.sitionix.forgeit.application.validator.RelationalEntityAssertions;
+import org.springframework.beans.factory.annotation.AnnotatedGenericBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.AnnotatedBeanDefinitionReader;
+import org.springframework.context.annotation.AnnotationBeanNameGenerator;
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotationMetadata;
+
+/**
+ * Registers the application-layer components explicitly, under the names and
+ * conditions component scanning would apply, so that context startup does not
+ * scan {@code com.sitionix.forgeit.application}. Components already registered,
+ * e.g. by the bundle auto-configuration, are left alone.
+ */
+public final class ForgeItApplicationComponents implements ImportBeanDefinitionRegistrar, EnvironmentAware {
+
+    static final Class<?>[] COMPONENTS = {
+            JsonLoaderImpl.class,
+            SqlLoaderImpl.class,
+            SqlScriptExecutorImpl.class,
+            JpaJsonDbEntityFactory.class,
+            DbRetrieveFactoryIml.class,
+            RelationalEntityFetcher.class,
+            ReflectiveDbContractsRegistry.class,
+            JpaDbCleaner.class,
+            RelationalEntityAssertions.class,
+            RelationalEntityAssertionBuilderFactory.class
+    };
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(final Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void registerBeanDefinitions(final AnnotationMetadata importingClassMetadata,
+                                        final BeanDefinitionRegistry registry) {
+        final AnnotatedBeanDefinitionReader reader = new AnnotatedBeanDefinitionReader(registry, this.environment);
+        for (final Class<?> component : COMPONENTS) {
+            final String beanName = AnnotationBeanNameGenerator.INSTANCE
+                    .generateBeanName(new AnnotatedGenericBeanDefinition(component), registry);
+            if (!registry.containsBeanDefinition(beanName)) {
+                reader.registerBean(component);
+            }
+        }
+    }
+}
@@ -6,8 +6,11 @@ import com.sitionix.forgeit.domain.model.sql.RelationalFeatureMarker;
 import com.sitionix.forgeit.domain.model.sql.SqlScriptDescriptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.context.ApplicationStartupAware;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.stereotype.Service;
 import org.springframework.jdbc.datasource.init.ScriptUtils;
 
@@ -18,21 +21,35 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 @ConditionalOnBean(RelationalFeatureMarker.class)
-public class SqlScriptExecutorImpl implements SqlScriptExecutor {
+public class SqlScriptExecutorImpl implements SqlScriptExecutor, ApplicationStartupAware {
 
     private final SqlLoader sqlLoader;
     private final ResourceLoader resourceLoader;
 
+    private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+
+    @Override
+    public void setApplicationStartup(final ApplicationStartup applicationStartup) {
+        this.applicationStartup = applicationStartup;
+    }
+
     @Override
     public void executeAllForDataSource(final DataSource dataSource, final String basePath) {
         try(final Connection connection = dataSource.getConnection()) {
 
             this.sqlLoader.setBasePath(basePath);
-            final List<SqlScriptDescriptor> scripts = this.sqlLoader.loadOrderedScripts();
+            final String dialect = connection.getMetaData().getDatabaseProductName();
+            final List<SqlScriptDescriptor> scripts = this.sqlLoader.loadOrderedScripts(dialect);
 
             scripts.forEach(script -> {
                         final Resource resource = this.resourceLoader.getResource(script.path());
-                        ScriptUtils.executeSqlScript(connection, resource);
+                        final StartupStep step = this.applicationStartup.start("forge-it.sql.script")
+                                .tag("script", script.path());
+                        try {
+                            ScriptUtils.executeSqlScript(connection, resource);
+                        } finally {
+                            step.end();
+                        }
                     });
 
         } catch (final Exception e) {
@@ -2,6 +2,7 @@ package com.sitionix.forgeit.application.loader.json;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sitionix.forgeit.application.loader.file.FileLoader;
+import com.sitionix.forgeit.core.internal.jfr.FixtureEvent;
 import com.sitionix.forgeit.domain.loader.JsonLoader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -19,7 +20,10 @@ public class JsonLoaderImpl implements JsonLoader {
     @Override
     public <T> T getFromFile(final String fileName, final Class<T> tClass) {
         final String file = this.loadResource(fileName);
-        return this.getResourceAsObject(file, tClass);
+        final FixtureEvent event = new FixtureEvent(FixtureEvent.PARSE, this.basePath + "/" + fileName);
+        event.setType(tClass);
+        event.setSize(file.length());
+        return event.record(() -> this.getResourceAsObject(file, tClass));
     }
 
     @Override
@@ -41,6 +45,12 @@ public class JsonLoaderImpl implements JsonLoader {
     }
 
     private String loadResource(final String fileName) {
-        return FileLoader.load(this.basePath + "/" + fileName);
+        final String path = this.basePath + "/" + fileName;
+        final FixtureEvent event = new FixtureEvent(FixtureEvent.LOAD, path);
+        return event.record(() -> {
+            final String content = FileLoader.load(path);
+            event.setSize(content.length());
+            return content;
+        });
     }
 }
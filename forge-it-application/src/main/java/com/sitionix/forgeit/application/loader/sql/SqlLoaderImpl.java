@@ -14,7 +14,10 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Component
@@ -22,6 +25,8 @@ import java.util.Objects;
 public class SqlLoaderImpl implements SqlLoader {
 
     private static final String BASE_FORGE_IT_PATH = "forge-it";
+    private static final String SQL_EXTENSION = ".sql";
+    private static final Set<String> DIALECTS = Set.of("postgresql", "h2");
 
     private final ResourcePatternResolver resolver;
     private String rootLocation;
@@ -41,6 +46,11 @@ public class SqlLoaderImpl implements SqlLoader {
 
     @Override
     public List<SqlScriptDescriptor> loadOrderedScripts() {
+        return this.loadOrderedScripts(null);
+    }
+
+    @Override
+    public List<SqlScriptDescriptor> loadOrderedScripts(final String dialect) {
         if (this.rootLocation == null) {
             throw new IllegalStateException("Base path for SQL scripts is not configured. Call setBasePath(...) first.");
         }
@@ -49,8 +59,15 @@ public class SqlLoaderImpl implements SqlLoader {
 
         try {
             final Resource[] resources = this.resolver.getResources(pattern);
+            final String normalizedDialect = dialect == null ? null : dialect.toLowerCase(Locale.ROOT);
+            final Set<String> overridden = Arrays.stream(resources)
+                    .map(this::safePath)
+                    .filter(path -> normalizedDialect != null && normalizedDialect.equals(this.dialectOf(path)))
+                    .map(this::unqualifiedPath)
+                    .collect(Collectors.toSet());
 
             return Arrays.stream(resources)
+                    .filter(resource -> this.appliesTo(this.safePath(resource), normalizedDialect, overridden))
                     .map(this::toDescriptor)
                     .sorted(Comparator
                             .comparing((SqlScriptDescriptor d) -> d.phase().getOrder())
@@ -62,6 +79,33 @@ public class SqlLoaderImpl implements SqlLoader {
         }
     }
 
+    private boolean appliesTo(final String path, final String dialect, final Set<String> overridden) {
+        final String scriptDialect = this.dialectOf(path);
+        if (scriptDialect == null) {
+            return !overridden.contains(path);
+        }
+        return scriptDialect.equals(dialect);
+    }
+
+    /**
+     * @return the dialect qualifier of {@code name.<dialect>.sql}, or {@code null}
+     * for a script that applies to every dialect
+     */
+    private String dialectOf(final String path) {
+        final String stem = path.substring(0, path.length() - SQL_EXTENSION.length());
+        final int dot = stem.lastIndexOf('.');
+        if (dot < 0 || dot < stem.lastIndexOf('/')) {
+            return null;
+        }
+        final String qualifier = stem.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return DIALECTS.contains(qualifier) ? qualifier : null;
+    }
+
+    private String unqualifiedPath(final String path) {
+        final String stem = path.substring(0, path.length() - SQL_EXTENSION.length());
+        return stem.substring(0, stem.lastIndexOf('.')) + SQL_EXTENSION;
+    }
+
     private SqlScriptDescriptor toDescriptor(final Resource resource) {
         final String fullPath = this.safePath(resource);
         final String filename = Objects.requireNonNull(resource.getFilename());
@@ -0,0 +1,69 @@
+package com.sitionix.forgeit.application.sql.cleaner;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads the {@code META-INF/forge-it/db-contracts} index written by the ForgeIT
+ * annotation processor. Each line names a static {@code DbContract} field as
+ * {@code holder#field}; every index on the class path is merged.
+ */
+final class DbContractIndex {
+
+    static final String LOCATION = "META-INF/forge-it/db-contracts";
+
+    private DbContractIndex() {
+    }
+
+    /**
+     * @return the indexed field names keyed by holder class name, in index order;
+     * empty when no index is present
+     */
+    static Map<String, List<String>> read(final ClassLoader classLoader) {
+        final Map<String, Set<String>> fieldsByHolder = new LinkedHashMap<>();
+        try {
+            final Enumeration<URL> resources = classLoader.getResources(LOCATION);
+            while (resources.hasMoreElements()) {
+                readResource(resources.nextElement(), fieldsByHolder);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Failed to read ForgeIT DbContract index " + LOCATION, ex);
+        }
+
+        final Map<String, List<String>> result = new LinkedHashMap<>();
+        fieldsByHolder.forEach((holder, fields) -> result.put(holder, List.copyOf(fields)));
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static void readResource(final URL resource, final Map<String, Set<String>> fieldsByHolder)
+            throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final String entry = line.trim();
+                if (entry.isEmpty() || entry.startsWith("#")) {
+                    continue;
+                }
+                final int separator = entry.indexOf('#');
+                if (separator <= 0 || separator == entry.length() - 1) {
+                    throw new IllegalStateException(
+                            "Malformed entry '" + entry + "' in ForgeIT DbContract index " + resource);
+                }
+                fieldsByHolder.computeIfAbsent(entry.substring(0, separator), holder -> new LinkedHashSet<>())
+                        .add(entry.substring(separator + 1));
+            }
+        }
+    }
+}
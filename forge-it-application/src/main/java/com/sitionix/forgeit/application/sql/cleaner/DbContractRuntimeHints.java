@@ -0,0 +1,20 @@
+package com.sitionix.forgeit.application.sql.cleaner;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Runtime hints for {@link ReflectiveDbContractsRegistry}: the DbContract index
+ * and the holders it lists, whose static fields are read reflectively.
+ */
+public final class DbContractRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(final RuntimeHints hints, final ClassLoader classLoader) {
+        hints.resources().registerPattern(DbContractIndex.LOCATION);
+        DbContractIndex.read(classLoader).keySet().forEach(holder -> hints.reflection()
+                .registerType(TypeReference.of(holder), MemberCategory.DECLARED_FIELDS));
+    }
+}
@@ -44,12 +44,17 @@ public class JpaDbCleaner implements DbCleaner {
                     .distinct()
                     .collect(Collectors.toList());
 
-            final boolean useTruncate = this.shouldTruncate();
+            final DialectType dialect = this.resolveDialectType();
+            final boolean useTruncate = this.shouldTruncate(dialect);
             final List<String> tableNames = useTruncate ? this.resolveTableNames(entityTypes) : List.of();
             if (useTruncate && !tableNames.isEmpty()) {
-                final String statement = "TRUNCATE TABLE " + String.join(", ", tableNames)
-                        + " RESTART IDENTITY CASCADE";
-                this.entityManager.createNativeQuery(statement).executeUpdate();
+                if (dialect == DialectType.H2) {
+                    this.truncateH2(tableNames);
+                } else {
+                    final String statement = "TRUNCATE TABLE " + String.join(", ", tableNames)
+                            + " RESTART IDENTITY CASCADE";
+                    this.entityManager.createNativeQuery(statement).executeUpdate();
+                }
             }
 
             for (final Class<?> entityClass : this.resolveDeleteEntities(entityTypes, tableNames)) {
@@ -66,9 +71,24 @@ public class JpaDbCleaner implements DbCleaner {
         return eDbContract.cleanupPolicy().isDeletable();
     }
 
-    private boolean shouldTruncate() {
-        final DialectType dialect = this.resolveDialectType();
-        return dialect == DialectType.POSTGRES;
+    private boolean shouldTruncate(final DialectType dialect) {
+        return dialect == DialectType.POSTGRES || dialect == DialectType.H2;
+    }
+
+    /**
+     * H2 truncates one table per statement and has no {@code CASCADE}, so foreign
+     * keys are switched off while the tables are emptied.
+     */
+    private void truncateH2(final List<String> tableNames) {
+        this.entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY FALSE").executeUpdate();
+        try {
+            for (final String tableName : tableNames) {
+                this.entityManager.createNativeQuery("TRUNCATE TABLE " + tableName + " RESTART IDENTITY")
+                        .executeUpdate();
+            }
+        } finally {
+            this.entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
+        }
     }
 
     private DialectType resolveDialectType() {
@@ -6,37 +6,93 @@ import com.sitionix.forgeit.domain.contract.DbContractsRegistry;
 import com.sitionix.forgeit.domain.model.sql.RelationalFeatureMarker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.context.ApplicationStartupAware;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.stereotype.Service;
 import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * Collects the static {@code DbContract} fields of {@code @ForgeDbContracts}
+ * holders. Holders are read from the {@link DbContractIndex} written at compile
+ * time; the class path is only scanned when no index is present. The result is
+ * cached per class loader, so every test context in the JVM shares it.
+ */
 @Service
 @ConditionalOnBean(RelationalFeatureMarker.class)
-public final class ReflectiveDbContractsRegistry implements DbContractsRegistry {
+public final class ReflectiveDbContractsRegistry
+        implements DbContractsRegistry, ApplicationStartupAware, InitializingBean {
 
     private static final Logger log =
             LoggerFactory.getLogger(ReflectiveDbContractsRegistry.class);
 
-    private final List<DbContract<?>> cachedContracts;
+    private static final Map<ClassLoader, List<DbContract<?>>> CONTRACTS_BY_CLASS_LOADER =
+            new ConcurrentReferenceHashMap<>();
 
-    public ReflectiveDbContractsRegistry() {
-        this.cachedContracts = this.discoverContracts();
+    private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+    private List<DbContract<?>> cachedContracts;
+
+    @Override
+    public void setApplicationStartup(final ApplicationStartup applicationStartup) {
+        this.applicationStartup = applicationStartup;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        this.allContracts();
     }
 
     @Override
     public List<DbContract<?>> allContracts() {
+        if (this.cachedContracts == null) {
+            final StartupStep step = this.applicationStartup.start("forge-it.db-contracts.discover");
+            try {
+                this.cachedContracts = CONTRACTS_BY_CLASS_LOADER.computeIfAbsent(
+                        ClassUtils.getDefaultClassLoader(), ReflectiveDbContractsRegistry::discoverContracts);
+            } finally {
+                step.tag("contracts", String.valueOf(this.cachedContracts == null ? 0 : this.cachedContracts.size()))
+                        .end();
+            }
+        }
         return this.cachedContracts;
     }
 
-    private List<DbContract<?>> discoverContracts() {
+    private static List<DbContract<?>> discoverContracts(final ClassLoader classLoader) {
+        final Map<String, List<String>> index = DbContractIndex.read(classLoader);
+        if (index.isEmpty()) {
+            log.debug("No {} found, scanning the class path for @ForgeDbContracts", DbContractIndex.LOCATION);
+            return scanContracts(classLoader);
+        }
+
+        final List<DbContract<?>> result = new ArrayList<>();
+        index.forEach((className, fieldNames) -> {
+            final Class<?> holderClass = loadHolder(className, classLoader);
+            for (final String fieldName : fieldNames) {
+                try {
+                    readContract(holderClass, holderClass.getDeclaredField(fieldName), result);
+                } catch (final NoSuchFieldException e) {
+                    throw new IllegalStateException("DbContract field " + className + "#" + fieldName
+                            + " listed in " + DbContractIndex.LOCATION + " does not exist; recompile the holder", e);
+                }
+            }
+        });
+        return Collections.unmodifiableList(result);
+    }
+
+    private static List<DbContract<?>> scanContracts(final ClassLoader classLoader) {
         final List<DbContract<?>> result = new ArrayList<>();
 
         final ClassPathScanningCandidateComponentProvider scanner =
@@ -46,33 +102,43 @@ public final class ReflectiveDbContractsRegistry implements DbContractsRegistry
         for (final BeanDefinition candidate : scanner.findCandidateComponents("")) {
             final String className = candidate.getBeanClassName();
             try {
-                final Class<?> holderClass = Class.forName(className);
+                final Class<?> holderClass = ClassUtils.forName(className, classLoader);
 
                 log.debug("Inspecting @ForgeDbContracts class {}", holderClass.getName());
 
                 for (final Field field : holderClass.getDeclaredFields()) {
-                    if (!Modifier.isStatic(field.getModifiers())) {
-                        continue;
-                    }
-                    if (!DbContract.class.isAssignableFrom(field.getType())) {
-                        continue;
-                    }
-
-                    field.setAccessible(true);
-                    final Object value = field.get(null);
-                    if (value instanceof final DbContract<?> contract) {
-                        result.add(contract);
-                        log.debug("Discovered DbContract {}.{}",
-                                holderClass.getSimpleName(), field.getName());
+                    if (Modifier.isStatic(field.getModifiers())
+                            && DbContract.class.isAssignableFrom(field.getType())) {
+                        readContract(holderClass, field, result);
                     }
                 }
             } catch (final ClassNotFoundException e) {
                 log.error("Failed to load @ForgeDbContracts class {}", className, e);
-            } catch (final IllegalAccessException e) {
-                log.error("Failed to read DbContract static fields from {}", className, e);
             }
         }
 
         return Collections.unmodifiableList(result);
     }
+
+    private static Class<?> loadHolder(final String className, final ClassLoader classLoader) {
+        try {
+            return ClassUtils.forName(className, classLoader);
+        } catch (final ClassNotFoundException e) {
+            throw new IllegalStateException("@ForgeDbContracts class " + className
+                    + " listed in " + DbContractIndex.LOCATION + " was not found", e);
+        }
+    }
+
+    private static void readContract(final Class<?> holderClass, final Field field,
+                                     final List<DbContract<?>> result) {
+        try {
+            field.setAccessible(true);
+            if (field.get(null) instanceof final DbContract<?> contract) {
+                result.add(contract);
+                log.debug("Discovered DbContract {}.{}", holderClass.getSimpleName(), field.getName());
+            }
+        } catch (final IllegalAccessException e) {
+            log.error("Failed to read DbContract static field {}.{}", holderClass.getName(), field.getName(), e);
+        }
+    }
 }
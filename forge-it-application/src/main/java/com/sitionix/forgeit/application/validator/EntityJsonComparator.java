@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.node.DoubleNode;
 import com.fasterxml.jackson.databind.node.LongNode;
 import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.TextNode;
+import com.sitionix.forgeit.core.internal.jfr.EntityComparisonEvent;
 import lombok.experimental.UtilityClass;
 import org.springframework.beans.BeanWrapper;
 import org.springframework.beans.BeanWrapperImpl;
@@ -55,6 +56,15 @@ public class EntityJsonComparator {
             throw new IllegalArgumentException("Expected json must not be null");
         }
 
+        final EntityComparisonEvent event =
+                new EntityComparisonEvent(actual.getClass(), strict, expectedJson.length());
+        event.run(() -> compareJson(actual, expectedJson, fieldsToIgnore, strict));
+    }
+
+    private static void compareJson(final Object actual,
+                                    final String expectedJson,
+                                    final Set<String> fieldsToIgnore,
+                                    final boolean strict) {
         final JsonNode expectedNode;
         try {
             expectedNode = MAPPER.readTree(expectedJson);
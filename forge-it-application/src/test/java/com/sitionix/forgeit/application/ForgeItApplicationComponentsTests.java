@@ -0,0 +1,28 @@
+package com.sitionix.forgeit.application;
+
+import com.sitionix.forgeit.domain.model.sql.RelationalFeatureMarker;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.support.GenericApplicationContext;
+
+import static com.sitionix.forgeit.testing.FeatureInstallerAssertions.assertRegistersScannedComponents;
+
+class ForgeItApplicationComponentsTests {
+
+    @Test
+    void shouldRegisterTheComponentsPackageScanningWouldFindOnce() {
+        assertRegistersScannedComponents(ForgeItApplicationComponentsTests::relationalContext, context -> {
+            final ForgeItApplicationComponents components = new ForgeItApplicationComponents();
+            components.setEnvironment(context.getEnvironment());
+            components.registerBeanDefinitions(null, context);
+            components.registerBeanDefinitions(null, context);
+        }, "com.sitionix.forgeit.application");
+    }
+
+    private static GenericApplicationContext relationalContext() {
+        final GenericApplicationContext context = new GenericApplicationContext();
+        context.registerBeanDefinition(RelationalFeatureMarker.class.getName(),
+                new RootBeanDefinition(RelationalFeatureMarker.class));
+        return context;
+    }
+}
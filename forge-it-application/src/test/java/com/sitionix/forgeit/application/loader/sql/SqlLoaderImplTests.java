@@ -0,0 +1,66 @@
+package com.sitionix.forgeit.application.loader.sql;
+
+import com.sitionix.forgeit.domain.model.sql.SqlScriptDescriptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SqlLoaderImplTests {
+
+    @TempDir
+    Path root;
+
+    private SqlLoaderImpl loader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.write("forge-it/db/schema/001_users.sql");
+        this.write("forge-it/db/schema/001_users.h2.sql");
+        this.write("forge-it/db/schema/002_orders.sql");
+        this.write("forge-it/db/data/900_seed.postgresql.sql");
+        final String base = this.root.toUri().toString();
+        this.loader = new SqlLoaderImpl(new PathMatchingResourcePatternResolver() {
+            @Override
+            public Resource[] getResources(final String locationPattern) throws IOException {
+                return super.getResources(locationPattern.replace("classpath*:", base));
+            }
+        });
+        this.loader.setBasePath("/db");
+    }
+
+    @Test
+    void shouldPreferDialectVariants() {
+        assertEquals(List.of("001_users.h2.sql", "002_orders.sql"),
+                this.fileNames(this.loader.loadOrderedScripts("H2")));
+    }
+
+    @Test
+    void shouldSkipVariantsOfOtherDialects() {
+        assertEquals(List.of("001_users.sql", "002_orders.sql", "900_seed.postgresql.sql"),
+                this.fileNames(this.loader.loadOrderedScripts("PostgreSQL")));
+        assertEquals(List.of("001_users.sql", "002_orders.sql"),
+                this.fileNames(this.loader.loadOrderedScripts()));
+    }
+
+    private List<String> fileNames(final List<SqlScriptDescriptor> scripts) {
+        return scripts.stream()
+                .map(SqlScriptDescriptor::path)
+                .map(path -> path.substring(path.lastIndexOf('/') + 1))
+                .toList();
+    }
+
+    private void write(final String relativePath) throws IOException {
+        final Path file = this.root.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "SELECT 1;");
+    }
+}
@@ -0,0 +1,68 @@
+package com.sitionix.forgeit.application.sql.cleaner;
+
+import com.sitionix.forgeit.core.contract.ForgeDbContracts;
+import com.sitionix.forgeit.domain.contract.DbContract;
+import com.sitionix.forgeit.domain.contract.DbContractsDsl;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReflectiveDbContractsRegistryTests {
+
+    @Test
+    void shouldReadIndexedHolderFields() {
+        final Map<String, List<String>> index = DbContractIndex.read(getClass().getClassLoader());
+
+        assertEquals(Map.of(IndexedContracts.class.getName(), List.of("FIRST_CONTRACT", "SECOND_CONTRACT")), index);
+    }
+
+    @Test
+    void shouldLoadContractsFromIndexWithoutScanning() {
+        final List<DbContract<?>> contracts = new ReflectiveDbContractsRegistry().allContracts();
+
+        assertEquals(List.of(IndexedContracts.FIRST_CONTRACT, IndexedContracts.SECOND_CONTRACT), contracts);
+    }
+
+    @Test
+    void shouldRegisterHintsForIndexedHolders() {
+        final RuntimeHints hints = new RuntimeHints();
+        new DbContractRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.resource().forResource(DbContractIndex.LOCATION).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onField(IndexedContracts.class, "SECOND_CONTRACT").test(hints));
+    }
+
+    @Test
+    void shouldShareContractsAcrossRegistries() {
+        assertSame(new ReflectiveDbContractsRegistry().allContracts(),
+                new ReflectiveDbContractsRegistry().allContracts());
+    }
+
+    @ForgeDbContracts
+    static class IndexedContracts {
+
+        static final DbContract<FirstEntity> FIRST_CONTRACT = DbContractsDsl.entity(FirstEntity.class).build();
+
+        private static final DbContract<SecondEntity> SECOND_CONTRACT =
+                DbContractsDsl.entity(SecondEntity.class).build();
+    }
+
+    @ForgeDbContracts
+    static class UnindexedContracts {
+
+        static final DbContract<FirstEntity> UNINDEXED_CONTRACT = DbContractsDsl.entity(FirstEntity.class).build();
+    }
+
+    static class FirstEntity {
+    }
+
+    static class SecondEntity {
+    }
+}
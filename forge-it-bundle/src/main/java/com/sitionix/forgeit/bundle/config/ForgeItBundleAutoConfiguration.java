@@ -1,15 +1,16 @@
 package com.sitionix.forgeit.bundle.config;
 
+import com.sitionix.forgeit.application.ForgeItApplicationComponents;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
-import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
 
 /**
  * Auto-configuration that exposes ForgeIT application-level components when the bundle
  * is present on the classpath. This keeps secondary adapters (e.g. WireMock) decoupled
- * from concrete implementations while ensuring Spring can discover them through
- * component scanning.
+ * from concrete implementations while registering them explicitly instead of
+ * through component scanning.
  */
 @AutoConfiguration
-@ComponentScan(basePackages = "com.sitionix.forgeit.application")
+@Import(ForgeItApplicationComponents.class)
 public class ForgeItBundleAutoConfiguration {
 }
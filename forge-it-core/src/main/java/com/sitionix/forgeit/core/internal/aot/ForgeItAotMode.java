@@ -0,0 +1,34 @@
+package com.sitionix.forgeit.core.internal.aot;
+
+import org.springframework.aot.AotDetector;
+
+/**
+ * Tells the ForgeIT runtime whether test contexts are being processed ahead of
+ * time or loaded from the code generated for them.
+ */
+public final class ForgeItAotMode {
+
+    /**
+     * System property set by Spring's AOT processors while they run.
+     */
+    static final String AOT_PROCESSING_PROPERTY = "spring.aot.processing";
+
+    private ForgeItAotMode() {
+    }
+
+    /**
+     * Contexts are refreshed only to capture their bean definitions, so no
+     * infrastructure must be started.
+     */
+    public static boolean isProcessing() {
+        return Boolean.getBoolean(AOT_PROCESSING_PROPERTY);
+    }
+
+    /**
+     * Bean definitions, including those of features and contract
+     * implementations, are registered by generated code.
+     */
+    public static boolean usesGeneratedArtifacts() {
+        return AotDetector.useGeneratedArtifacts();
+    }
+}
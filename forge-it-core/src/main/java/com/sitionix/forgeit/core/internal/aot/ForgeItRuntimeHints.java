@@ -0,0 +1,26 @@
+package com.sitionix.forgeit.core.internal.aot;
+
+import com.sitionix.forgeit.core.config.CoreDefaultsEnvironmentPostProcessor;
+import com.sitionix.forgeit.core.internal.test.IntegrationTestContextCustomizerFactory;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Runtime hints for the core module: the feature whitelist and contract index
+ * read at runtime, the default configuration, and the types instantiated from
+ * {@code spring.factories}.
+ */
+public final class ForgeItRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(final RuntimeHints hints, final ClassLoader classLoader) {
+        hints.resources()
+                .registerPattern("META-INF/forge-it/features")
+                .registerPattern("META-INF/forge-it/contracts")
+                .registerPattern("forge-it-core-default.yml");
+        hints.reflection()
+                .registerType(CoreDefaultsEnvironmentPostProcessor.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+                .registerType(IntegrationTestContextCustomizerFactory.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+    }
+}
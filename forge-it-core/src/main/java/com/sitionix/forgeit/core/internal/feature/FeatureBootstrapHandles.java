@@ -0,0 +1,66 @@
+package com.sitionix.forgeit.core.internal.feature;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.support.DefaultSingletonBeanRegistry;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Holds the handles returned by {@link FeatureInstaller#bootstrap} until the
+ * application context has taken over the bootstrapped infrastructure, i.e. until
+ * it has been refreshed, or until it is destroyed after a failed refresh.
+ */
+@Log4j2
+final class FeatureBootstrapHandles implements ApplicationListener<ContextRefreshedEvent>, DisposableBean {
+
+    private static final String BEAN_NAME = "forgeItFeatureBootstrapHandles";
+
+    private final List<AutoCloseable> handles;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    FeatureBootstrapHandles(List<AutoCloseable> handles) {
+        this.handles = List.copyOf(handles);
+    }
+
+    void register(FeatureInstallationContext context) {
+        context.applicationContext().addApplicationListener(this);
+        if (context.beanFactory() instanceof DefaultSingletonBeanRegistry registry) {
+            registry.registerDisposableBean(BEAN_NAME, this);
+        }
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        this.close();
+    }
+
+    @Override
+    public void destroy() {
+        this.close();
+    }
+
+    private void close() {
+        if (this.closed.compareAndSet(false, true)) {
+            closeAll(this.handles);
+        }
+    }
+
+    static void closeAll(List<AutoCloseable> handles) {
+        final List<AutoCloseable> snapshot;
+        synchronized (handles) {
+            snapshot = new ArrayList<>(handles);
+        }
+        for (AutoCloseable handle : snapshot) {
+            try {
+                handle.close();
+            } catch (Exception ex) {
+                log.warn("Failed to release ForgeIT feature bootstrap handle {}", handle, ex);
+            }
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.sitionix.forgeit.core.internal.feature;
 
+import com.sitionix.forgeit.core.internal.aot.ForgeItAotMode;
 import com.sitionix.forgeit.core.marker.FeatureSupport;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -10,6 +14,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
@@ -18,6 +23,11 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Discovers feature installers and validates feature declarations against the
@@ -27,6 +37,7 @@ import java.util.Set;
 public final class FeatureInstallationService {
 
     private static final String FEATURE_RESOURCE = "META-INF/forge-it/features";
+    private static final Map<ClassLoader, FeatureInstallationService> INDEX_CACHE = new ConcurrentReferenceHashMap<>();
 
     private final Map<Class<? extends FeatureSupport>, FeatureInstaller> installers;
     private final Set<String> whitelistedFeatures;
@@ -49,6 +60,21 @@ public final class FeatureInstallationService {
                 this.installers.keySet(), this.whitelistedFeatures);
     }
 
+    /**
+     * Returns the service for {@code classLoader}, indexing installers and the
+     * whitelist only the first time, so cached test contexts built later in the
+     * same JVM skip the {@code spring.factories} and resource lookups.
+     */
+    public static FeatureInstallationService forClassLoader(ClassLoader classLoader) {
+        return INDEX_CACHE.computeIfAbsent(classLoader, FeatureInstallationService::new);
+    }
+
+    /**
+     * Registers the beans of {@code features} and starts their infrastructure.
+     * When the context's bean definitions come from AOT-generated code, only the
+     * infrastructure is started; during AOT processing, only beans are
+     * registered.
+     */
     public void installFeatures(Collection<Class<? extends FeatureSupport>> features,
                                 FeatureInstallationContext context) {
         if (features == null || features.isEmpty()) {
@@ -58,18 +84,111 @@ public final class FeatureInstallationService {
 
         log.info("Installing features: {}", features);
 
-        for (Class<? extends FeatureSupport> feature : features) {
-            log.debug("Validating feature: {}", feature);
-            validateFeature(feature);
+        final ApplicationStartup startup = context.applicationContext().getApplicationStartup();
+        final StartupStep installation = startup.start("forge-it.features.install")
+                .tag("features", features.stream().map(Class::getSimpleName).toList().toString());
+        try {
+            final boolean generatedDefinitions = ForgeItAotMode.usesGeneratedArtifacts();
+            final List<FeatureInstaller> installed = new ArrayList<>();
+            for (Class<? extends FeatureSupport> feature : features) {
+                final FeatureInstaller installer = resolveInstaller(feature);
+                if (generatedDefinitions) {
+                    log.debug("Bean definitions of feature {} come from AOT-generated code", feature.getName());
+                } else {
+                    log.info("Installing feature: {} using installer: {}", feature.getName(), installer.getClass().getName());
+                    final StartupStep step = startup.start("forge-it.feature.install")
+                            .tag("feature", feature.getName());
+                    try {
+                        installer.install(context);
+                    } finally {
+                        step.end();
+                    }
+                }
+                installed.add(installer);
+            }
 
-            final FeatureInstaller installer = this.installers.get(feature);
-            if (installer == null) {
-                log.error("No FeatureInstaller registered for feature: {}", feature.getName());
-                throw new IllegalStateException("No FeatureInstaller registered for " + feature.getName());
+            if (ForgeItAotMode.isProcessing()) {
+                log.debug("Skipping feature infrastructure bootstrap during AOT processing");
+                return;
             }
+            final FeatureBootstrapHandles handles = new FeatureBootstrapHandles(bootstrapFeatures(installed, context));
+            handles.register(context);
+        } finally {
+            installation.end();
+        }
+    }
 
-            log.info("Installing feature: {} using installer: {}", feature.getName(), installer.getClass().getName());
-            installer.install(context);
+    /**
+     * Starts the infrastructure of {@code features} without installing them into
+     * {@code context}, so that application contexts built later attach to warm
+     * containers. Closing the returned handle releases what was started.
+     */
+    public AutoCloseable prestartFeatures(Collection<Class<? extends FeatureSupport>> features,
+                                          FeatureInstallationContext context) {
+        final List<FeatureInstaller> installers = new ArrayList<>();
+        for (Class<? extends FeatureSupport> feature : features) {
+            installers.add(resolveInstaller(feature));
+        }
+        final List<AutoCloseable> handles = bootstrapFeatures(installers, context);
+        return () -> FeatureBootstrapHandles.closeAll(handles);
+    }
+
+    private FeatureInstaller resolveInstaller(Class<? extends FeatureSupport> feature) {
+        log.debug("Validating feature: {}", feature);
+        validateFeature(feature);
+
+        final FeatureInstaller installer = this.installers.get(feature);
+        if (installer == null) {
+            log.error("No FeatureInstaller registered for feature: {}", feature.getName());
+            throw new IllegalStateException("No FeatureInstaller registered for " + feature.getName());
+        }
+        return installer;
+    }
+
+    /**
+     * Bootstraps the infrastructure of all installed features in parallel so the
+     * context start-up is bounded by the slowest feature rather than the sum of
+     * all of them. The first failure interrupts the remaining bootstraps and
+     * releases whatever has already been started.
+     */
+    private static List<AutoCloseable> bootstrapFeatures(List<FeatureInstaller> installers,
+                                                         FeatureInstallationContext context) {
+        final List<AutoCloseable> handles = Collections.synchronizedList(new ArrayList<>());
+        final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            final CompletionService<Void> completionService = new ExecutorCompletionService<>(executor);
+            for (FeatureInstaller installer : installers) {
+                completionService.submit(() -> {
+                    log.debug("Bootstrapping feature infrastructure using installer: {}", installer.getClass().getName());
+                    final StartupStep step = context.applicationContext().getApplicationStartup()
+                            .start("forge-it.feature.bootstrap")
+                            .tag("feature", installer.featureType().getName());
+                    try {
+                        handles.add(installer.bootstrap(context));
+                    } finally {
+                        step.end();
+                    }
+                    return null;
+                });
+            }
+            for (int i = 0; i < installers.size(); i++) {
+                completionService.take().get();
+            }
+            return new ArrayList<>(handles);
+        } catch (ExecutionException ex) {
+            executor.shutdownNow();
+            executor.close();
+            FeatureBootstrapHandles.closeAll(handles);
+            log.error("Failed to bootstrap ForgeIT feature infrastructure", ex.getCause());
+            throw new IllegalStateException("Failed to bootstrap ForgeIT feature infrastructure", ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+            executor.close();
+            FeatureBootstrapHandles.closeAll(handles);
+            throw new IllegalStateException("Interrupted while bootstrapping ForgeIT feature infrastructure", ex);
+        } finally {
+            executor.close();
         }
     }
 
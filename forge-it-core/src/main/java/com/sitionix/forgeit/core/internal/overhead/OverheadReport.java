@@ -0,0 +1,255 @@
+package com.sitionix.forgeit.core.internal.overhead;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reports the per-test ForgeIT overhead collected by {@link OverheadRecorder}
+ * when the test run ends: the top offenders on the console, and
+ * {@code overhead-report.json} and {@code overhead-report.html} in
+ * {@code forge-it.overhead-report.directory}, each breaking the overhead down
+ * per test method, per class and for the whole suite.
+ */
+@Log4j2
+public final class OverheadReport {
+
+    static final String JSON_FILE = "overhead-report.json";
+    static final String HTML_FILE = "overhead-report.html";
+
+    private static final int TOP_OFFENDERS = 10;
+    private static final int LOGGED_OFFENDERS = 5;
+
+    private OverheadReport() {
+    }
+
+    /**
+     * Reports and forgets the overhead recorded so far; does nothing when none
+     * was recorded.
+     */
+    public static void report() {
+        final List<TestOverhead> results = OverheadRecorder.drain();
+        if (results.isEmpty()) {
+            return;
+        }
+        final Summary summary = summarize(results);
+        log.info("{}", describe(summary));
+        final Path directory = OverheadRecorder.directory();
+        try {
+            write(summary, directory);
+            log.info("ForgeIT overhead report written to {}", directory.resolve(HTML_FILE).toAbsolutePath());
+        } catch (IOException ex) {
+            log.warn("Failed to write ForgeIT overhead report to {}", directory.toAbsolutePath(), ex);
+        }
+    }
+
+    static Summary summarize(List<TestOverhead> results) {
+        final Totals suite = new Totals("suite");
+        final Map<String, Totals> classes = new LinkedHashMap<>();
+        final List<TestOverhead> tests = new ArrayList<>();
+        for (final TestOverhead result : results) {
+            suite.add(result);
+            classes.computeIfAbsent(result.testClass(), Totals::new).add(result);
+            if (!result.isClassLevel()) {
+                tests.add(result);
+            }
+        }
+        tests.sort(Comparator.comparingLong(TestOverhead::forgeItNanos).reversed());
+        final List<Totals> sortedClasses = new ArrayList<>(classes.values());
+        sortedClasses.sort(Comparator.comparingLong(Totals::forgeItNanos).reversed());
+        return new Summary(suite, List.copyOf(sortedClasses), List.copyOf(tests));
+    }
+
+    static String describe(Summary summary) {
+        final Totals suite = summary.suite();
+        final StringBuilder description = new StringBuilder(String.format(
+                "ForgeIT overhead: %s of %s ms (%s%%) across %d tests",
+                millis(suite.forgeItNanos()), millis(suite.wallNanos()), share(suite.forgeItNanos(), suite.wallNanos()),
+                suite.tests()));
+        for (final TestOverhead test : summary.topOffenders(LOGGED_OFFENDERS)) {
+            description.append(System.lineSeparator())
+                    .append(String.format("%9s ms  %5s%%  ", millis(test.forgeItNanos()),
+                            share(test.forgeItNanos(), test.wallNanos())))
+                    .append(name(test))
+                    .append(' ').append(slowestPhase(test.phases()));
+        }
+        return description.toString();
+    }
+
+    static void write(Summary summary, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        final Map<String, Object> json = new LinkedHashMap<>();
+        json.put("suite", totalsJson(summary.suite()));
+        json.put("topOffenders", summary.topOffenders(TOP_OFFENDERS).stream().map(OverheadReport::testJson).toList());
+        json.put("classes", summary.classes().stream().map(OverheadReport::totalsJson).toList());
+        json.put("tests", summary.tests().stream().map(OverheadReport::testJson).toList());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(directory.resolve(JSON_FILE).toFile(), json);
+        Files.writeString(directory.resolve(HTML_FILE), html(summary));
+    }
+
+    private static Map<String, Object> totalsJson(Totals totals) {
+        final Map<String, Object> json = new LinkedHashMap<>();
+        json.put("name", totals.name());
+        json.put("tests", totals.tests());
+        json.put("wallMillis", millis(totals.wallNanos()));
+        json.put("forgeItMillis", millis(totals.forgeItNanos()));
+        json.put("forgeItShare", share(totals.forgeItNanos(), totals.wallNanos()));
+        json.put("phases", phasesJson(totals.phases()));
+        return json;
+    }
+
+    private static Map<String, Object> testJson(TestOverhead test) {
+        final Map<String, Object> json = new LinkedHashMap<>();
+        json.put("class", test.testClass());
+        json.put("method", test.testMethod());
+        json.put("wallMillis", millis(test.wallNanos()));
+        json.put("forgeItMillis", millis(test.forgeItNanos()));
+        json.put("forgeItShare", share(test.forgeItNanos(), test.wallNanos()));
+        json.put("phases", phasesJson(test.phases()));
+        return json;
+    }
+
+    private static Map<String, Object> phasesJson(Map<String, TestOverhead.Phase> phases) {
+        final Map<String, Object> json = new LinkedHashMap<>();
+        sortedPhases(phases).forEach(entry -> json.put(entry.getKey(),
+                Map.of("count", entry.getValue().count(), "millis", millis(entry.getValue().nanos()))));
+        return json;
+    }
+
+    private static String html(Summary summary) {
+        final Totals suite = summary.suite();
+        final StringBuilder html = new StringBuilder("""
+                <!DOCTYPE html>
+                <html><head><meta charset="utf-8"><title>ForgeIT overhead report</title>
+                <style>body{font-family:sans-serif}table{border-collapse:collapse;margin-bottom:2em}\
+                td,th{border:1px solid #ccc;padding:4px 8px;text-align:left}td.n{text-align:right}</style>
+                </head><body>
+                <h1>ForgeIT overhead report</h1>
+                """);
+        html.append(String.format("<p>ForgeIT spent %s of %s ms (%s%%) across %d tests.</p>%n",
+                millis(suite.forgeItNanos()), millis(suite.wallNanos()), share(suite.forgeItNanos(), suite.wallNanos()),
+                suite.tests()));
+        html.append("<h2>Phases</h2>\n<table><tr><th>Phase</th><th>Calls</th><th>ms</th></tr>\n");
+        sortedPhases(suite.phases()).forEach(entry -> html.append(String.format(
+                "<tr><td>%s</td><td class=\"n\">%d</td><td class=\"n\">%s</td></tr>%n",
+                escape(entry.getKey()), entry.getValue().count(), millis(entry.getValue().nanos()))));
+        html.append("</table>\n<h2>Top offenders</h2>\n")
+                .append("<table><tr><th>Test</th><th>Wall ms</th><th>ForgeIT ms</th><th>Share %</th><th>Phases</th></tr>\n");
+        for (final TestOverhead test : summary.topOffenders(TOP_OFFENDERS)) {
+            html.append(String.format(
+                    "<tr><td>%s</td><td class=\"n\">%s</td><td class=\"n\">%s</td><td class=\"n\">%s</td><td>%s</td></tr>%n",
+                    escape(name(test)), millis(test.wallNanos()), millis(test.forgeItNanos()),
+                    share(test.forgeItNanos(), test.wallNanos()), escape(phaseList(test.phases()))));
+        }
+        html.append("</table>\n<h2>Classes</h2>\n")
+                .append("<table><tr><th>Class</th><th>Tests</th><th>Wall ms</th><th>ForgeIT ms</th><th>Share %</th>")
+                .append("<th>Phases</th></tr>\n");
+        for (final Totals totals : summary.classes()) {
+            html.append(String.format(
+                    "<tr><td>%s</td><td class=\"n\">%d</td><td class=\"n\">%s</td><td class=\"n\">%s</td>"
+                            + "<td class=\"n\">%s</td><td>%s</td></tr>%n",
+                    escape(totals.name()), totals.tests(), millis(totals.wallNanos()), millis(totals.forgeItNanos()),
+                    share(totals.forgeItNanos(), totals.wallNanos()), escape(phaseList(totals.phases()))));
+        }
+        return html.append("</table>\n</body></html>\n").toString();
+    }
+
+    private static List<Map.Entry<String, TestOverhead.Phase>> sortedPhases(Map<String, TestOverhead.Phase> phases) {
+        return phases.entrySet().stream()
+                .sorted(Map.Entry.<String, TestOverhead.Phase>comparingByValue(
+                        Comparator.comparingLong(TestOverhead.Phase::nanos)).reversed())
+                .toList();
+    }
+
+    private static String phaseList(Map<String, TestOverhead.Phase> phases) {
+        return String.join(", ", sortedPhases(phases).stream()
+                .map(entry -> entry.getKey() + " " + millis(entry.getValue().nanos()) + " ms")
+                .toList());
+    }
+
+    private static String slowestPhase(Map<String, TestOverhead.Phase> phases) {
+        return sortedPhases(phases).stream()
+                .findFirst()
+                .map(entry -> "(slowest: " + entry.getKey() + " " + millis(entry.getValue().nanos()) + " ms)")
+                .orElse("");
+    }
+
+    private static String name(TestOverhead test) {
+        return test.testClass() + "#" + test.testMethod();
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    private static double share(long part, long whole) {
+        return whole <= 0 ? 0.0 : Math.round(part * 1_000.0 / whole) / 10.0;
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    record Summary(Totals suite, List<Totals> classes, List<TestOverhead> tests) {
+
+        List<TestOverhead> topOffenders(int limit) {
+            return this.tests.stream().limit(limit).toList();
+        }
+    }
+
+    /**
+     * Overhead summed over the tests of a class or of the whole suite;
+     * class-level callbacks add to the ForgeIT time but not to the test count.
+     */
+    static final class Totals {
+
+        private final String name;
+        private final Map<String, TestOverhead.Phase> phases = new LinkedHashMap<>();
+        private int tests;
+        private long wallNanos;
+        private long forgeItNanos;
+
+        private Totals(String name) {
+            this.name = name;
+        }
+
+        private void add(TestOverhead overhead) {
+            if (!overhead.isClassLevel()) {
+                this.tests++;
+            }
+            this.wallNanos += overhead.wallNanos();
+            this.forgeItNanos += overhead.forgeItNanos();
+            overhead.phases().forEach((phase, total) -> this.phases.merge(phase, total, TestOverhead.Phase::plus));
+        }
+
+        String name() {
+            return this.name;
+        }
+
+        int tests() {
+            return this.tests;
+        }
+
+        long wallNanos() {
+            return this.wallNanos;
+        }
+
+        long forgeItNanos() {
+            return this.forgeItNanos;
+        }
+
+        Map<String, TestOverhead.Phase> phases() {
+            return this.phases;
+        }
+    }
+}
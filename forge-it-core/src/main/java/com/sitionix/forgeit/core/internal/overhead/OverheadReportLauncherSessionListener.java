@@ -0,0 +1,16 @@
+package com.sitionix.forgeit.core.internal.overhead;
+
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+
+/**
+ * Writes the {@link OverheadReport} once the JUnit launcher session closes,
+ * i.e. at the end of the test run.
+ */
+public final class OverheadReportLauncherSessionListener implements LauncherSessionListener {
+
+    @Override
+    public void launcherSessionClosed(LauncherSession session) {
+        OverheadReport.report();
+    }
+}
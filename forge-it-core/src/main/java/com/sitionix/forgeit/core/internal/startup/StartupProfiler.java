@@ -0,0 +1,172 @@
+package com.sitionix.forgeit.core.internal.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records a {@link StartupTimeline} for every ForgeIT test context when
+ * {@code forge-it.startup-profiler.enabled=true}, and reports them all when the
+ * test run ends: a per-context summary on the console and a Chrome trace file,
+ * {@code forge-it.startup-profiler.output}, that {@code chrome://tracing} or
+ * Perfetto can open.
+ */
+@Log4j2
+public final class StartupProfiler {
+
+    static final String ENABLED_PROPERTY = "forge-it.startup-profiler.enabled";
+    static final String OUTPUT_PROPERTY = "forge-it.startup-profiler.output";
+    static final String DEFAULT_OUTPUT = "target/forge-it/startup-timeline.json";
+
+    private static final int SLOWEST_BEANS = 5;
+    private static final String BEAN_INSTANTIATION = "spring.beans.instantiate";
+
+    private static final List<StartupTimeline> TIMELINES = new ArrayList<>();
+    private static volatile Path output = Path.of(DEFAULT_OUTPUT);
+
+    private StartupProfiler() {
+    }
+
+    /**
+     * Starts recording the startup of {@code context} if the profiler is enabled
+     * in its environment. Must be called before the context is refreshed.
+     */
+    public static void attach(ConfigurableApplicationContext context, String name) {
+        final ConfigurableEnvironment environment = context.getEnvironment();
+        if (!environment.getProperty(ENABLED_PROPERTY, Boolean.class, Boolean.FALSE)) {
+            return;
+        }
+        if (context.getApplicationStartup() instanceof StartupTimeline) {
+            return;
+        }
+        final StartupTimeline timeline = new StartupTimeline(name, context.getApplicationStartup());
+        context.setApplicationStartup(timeline);
+        output = Path.of(environment.getProperty(OUTPUT_PROPERTY, DEFAULT_OUTPUT));
+        synchronized (TIMELINES) {
+            TIMELINES.add(timeline);
+        }
+    }
+
+    /**
+     * Reports and forgets the timelines recorded so far; does nothing when none
+     * were recorded.
+     */
+    public static void report() {
+        final List<StartupTimeline> timelines;
+        synchronized (TIMELINES) {
+            timelines = List.copyOf(TIMELINES);
+            TIMELINES.clear();
+        }
+        if (timelines.isEmpty()) {
+            return;
+        }
+        timelines.forEach(timeline -> log.info("{}", summarize(timeline)));
+        final Path target = output;
+        try {
+            writeChromeTrace(timelines, target);
+            log.info("ForgeIT startup timeline written to {}", target.toAbsolutePath());
+        } catch (IOException ex) {
+            log.warn("Failed to write ForgeIT startup timeline to {}", target.toAbsolutePath(), ex);
+        }
+    }
+
+    /**
+     * Lists the ForgeIT phases and Spring's context-level phases in start order,
+     * indented by nesting, followed by the slowest bean instantiations.
+     */
+    static String summarize(StartupTimeline timeline) {
+        final List<StartupTimeline.Phase> phases = timeline.phases();
+        final Map<Long, StartupTimeline.Phase> byId = new HashMap<>();
+        phases.forEach(phase -> byId.put(phase.id(), phase));
+
+        final StringBuilder summary = new StringBuilder("ForgeIT startup timeline for ")
+                .append(timeline.name()).append(':');
+        for (final StartupTimeline.Phase phase : phases) {
+            if (phase.isForgeIt() || !phase.name().startsWith("spring.beans.")) {
+                summary.append(System.lineSeparator())
+                        .append(String.format("%9s %9s  ", millis(phase.startNanos()), millis(phase.durationNanos())))
+                        .append("  ".repeat(depth(phase, byId)))
+                        .append(phase.name());
+                if (!phase.tags().isEmpty()) {
+                    summary.append(' ').append(phase.tags());
+                }
+            }
+        }
+        final List<StartupTimeline.Phase> slowestBeans = phases.stream()
+                .filter(phase -> BEAN_INSTANTIATION.equals(phase.name()))
+                .sorted(Comparator.comparingLong(StartupTimeline.Phase::durationNanos).reversed())
+                .limit(SLOWEST_BEANS)
+                .toList();
+        if (!slowestBeans.isEmpty()) {
+            summary.append(System.lineSeparator()).append("Slowest bean instantiations:");
+            for (final StartupTimeline.Phase phase : slowestBeans) {
+                summary.append(System.lineSeparator())
+                        .append(String.format("%9s  ", millis(phase.durationNanos())))
+                        .append(phase.tags().getOrDefault("beanName", "?"));
+            }
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Writes one complete event per step, with each context as its own process,
+     * in the Chrome trace event format.
+     */
+    static void writeChromeTrace(List<StartupTimeline> timelines, Path target) throws IOException {
+        final List<Map<String, Object>> events = new ArrayList<>();
+        for (int index = 0; index < timelines.size(); index++) {
+            final StartupTimeline timeline = timelines.get(index);
+            final int pid = index + 1;
+            events.add(Map.of("ph", "M", "name", "process_name", "pid", pid, "tid", 0,
+                    "args", Map.of("name", timeline.name())));
+            final long originMicros = timeline.originEpochMillis() * 1_000;
+            for (final StartupTimeline.Phase phase : timeline.phases()) {
+                final Map<String, Object> event = new LinkedHashMap<>();
+                event.put("name", phase.name());
+                event.put("cat", phase.isForgeIt() ? "forge-it" : "spring");
+                event.put("ph", "X");
+                event.put("ts", originMicros + phase.startNanos() / 1_000);
+                event.put("dur", phase.durationNanos() / 1_000);
+                event.put("pid", pid);
+                event.put("tid", phase.threadId());
+                event.put("args", phase.tags());
+                events.add(event);
+            }
+        }
+        final Path parent = target.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(target.toFile(), Map.of("traceEvents", events, "displayTimeUnit", "ms"));
+    }
+
+    private static int depth(StartupTimeline.Phase phase, Map<Long, StartupTimeline.Phase> byId) {
+        int depth = 0;
+        StartupTimeline.Phase current = phase;
+        while (current.parentId() != null && (current = byId.get(current.parentId())) != null) {
+            if (current.isForgeIt() || !current.name().startsWith("spring.beans.")) {
+                depth++;
+            }
+        }
+        return depth;
+    }
+
+    private static String millis(long nanos) {
+        return Duration.ofNanos(nanos).toMillis() + " ms";
+    }
+}
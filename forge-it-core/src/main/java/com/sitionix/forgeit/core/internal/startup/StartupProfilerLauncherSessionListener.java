@@ -0,0 +1,16 @@
+package com.sitionix.forgeit.core.internal.startup;
+
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+
+/**
+ * Reports the startup timelines recorded by {@link StartupProfiler} once the
+ * JUnit launcher session closes, i.e. at the end of the test run.
+ */
+public final class StartupProfilerLauncherSessionListener implements LauncherSessionListener {
+
+    @Override
+    public void launcherSessionClosed(LauncherSession session) {
+        StartupProfiler.report();
+    }
+}
@@ -0,0 +1,162 @@
+package com.sitionix.forgeit.core.internal.startup;
+
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * {@link ApplicationStartup} that records every step of one application context
+ * with its start, duration, thread and tags, and forwards each step to the
+ * startup the context was created with. Steps may run on several threads at
+ * once; a step's parent is the step open on the same thread when it started.
+ */
+public final class StartupTimeline implements ApplicationStartup {
+
+    private final String name;
+    private final ApplicationStartup delegate;
+    private final long originNanos = System.nanoTime();
+    private final long originEpochMillis = System.currentTimeMillis();
+    private final AtomicLong ids = new AtomicLong();
+    private final List<Phase> phases = Collections.synchronizedList(new ArrayList<>());
+    private final ThreadLocal<Deque<RecordingStep>> openSteps = ThreadLocal.withInitial(ArrayDeque::new);
+
+    StartupTimeline(String name, ApplicationStartup delegate) {
+        this.name = name;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public StartupStep start(String stepName) {
+        final Deque<RecordingStep> open = this.openSteps.get();
+        final RecordingStep parent = open.peek();
+        final RecordingStep step = new RecordingStep(this.ids.incrementAndGet(),
+                parent == null ? null : parent.getId(), stepName, this.delegate.start(stepName));
+        open.push(step);
+        return step;
+    }
+
+    public String name() {
+        return this.name;
+    }
+
+    long originEpochMillis() {
+        return this.originEpochMillis;
+    }
+
+    /**
+     * @return the finished steps ordered by start time
+     */
+    public List<Phase> phases() {
+        final List<Phase> snapshot;
+        synchronized (this.phases) {
+            snapshot = new ArrayList<>(this.phases);
+        }
+        snapshot.sort((left, right) -> Long.compare(left.startNanos(), right.startNanos()));
+        return snapshot;
+    }
+
+    /**
+     * A finished step. Times are nanoseconds since the timeline was created.
+     */
+    public record Phase(long id, Long parentId, String name, Map<String, String> tags,
+                        String thread, long threadId, long startNanos, long durationNanos) {
+
+        public boolean isForgeIt() {
+            return this.name.startsWith("forge-it.");
+        }
+    }
+
+    private final class RecordingStep implements StartupStep {
+
+        private final long id;
+        private final Long parentId;
+        private final String stepName;
+        private final StartupStep delegateStep;
+        private final Map<String, String> tags = new LinkedHashMap<>();
+        private final Thread thread = Thread.currentThread();
+        private final long startNanos = System.nanoTime();
+
+        private RecordingStep(long id, Long parentId, String stepName, StartupStep delegateStep) {
+            this.id = id;
+            this.parentId = parentId;
+            this.stepName = stepName;
+            this.delegateStep = delegateStep;
+        }
+
+        @Override
+        public String getName() {
+            return this.stepName;
+        }
+
+        @Override
+        public long getId() {
+            return this.id;
+        }
+
+        @Override
+        public Long getParentId() {
+            return this.parentId;
+        }
+
+        @Override
+        public StartupStep tag(String key, String value) {
+            this.tags.put(key, String.valueOf(value));
+            this.delegateStep.tag(key, value);
+            return this;
+        }
+
+        @Override
+        public StartupStep tag(String key, Supplier<String> value) {
+            return this.tag(key, value.get());
+        }
+
+        @Override
+        public Tags getTags() {
+            final List<Tag> snapshot = this.tags.entrySet().stream()
+                    .<Tag>map(entry -> new SimpleTag(entry.getKey(), entry.getValue()))
+                    .toList();
+            return snapshot::iterator;
+        }
+
+        @Override
+        public void end() {
+            final long endNanos = System.nanoTime();
+            this.delegateStep.end();
+            if (this.thread == Thread.currentThread()) {
+                final Deque<RecordingStep> open = StartupTimeline.this.openSteps.get();
+                for (final Iterator<RecordingStep> iterator = open.iterator(); iterator.hasNext(); ) {
+                    if (iterator.next() == this) {
+                        iterator.remove();
+                        break;
+                    }
+                }
+            }
+            StartupTimeline.this.phases.add(new Phase(this.id, this.parentId, this.stepName, Map.copyOf(this.tags),
+                    this.thread.getName(), this.thread.threadId(),
+                    this.startNanos - StartupTimeline.this.originNanos, endNanos - this.startNanos));
+        }
+    }
+
+    private record SimpleTag(String key, String value) implements StartupStep.Tag {
+
+        @Override
+        public String getKey() {
+            return this.key;
+        }
+
+        @Override
+        public String getValue() {
+            return this.value;
+        }
+    }
+}
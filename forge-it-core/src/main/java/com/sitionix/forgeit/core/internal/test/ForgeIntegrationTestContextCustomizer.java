@@ -1,24 +1,41 @@
 package com.sitionix.forgeit.core.internal.test;
 
+import com.sitionix.forgeit.core.internal.aot.ForgeItAotMode;
 import com.sitionix.forgeit.core.internal.feature.FeatureInstallationContext;
 import com.sitionix.forgeit.core.internal.feature.FeatureInstallationService;
+import com.sitionix.forgeit.core.internal.startup.StartupProfiler;
 import com.sitionix.forgeit.core.marker.FeatureSupport;
+import org.springframework.beans.factory.annotation.AnnotatedGenericBeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.boot.LazyInitializationBeanFactoryPostProcessor;
+import org.springframework.boot.LazyInitializationExcludeFilter;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.AnnotationBeanNameGenerator;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.annotation.MergedAnnotations.SearchStrategy;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.MapPropertySource;
 import org.springframework.core.env.MutablePropertySources;
 import org.springframework.test.context.ContextCustomizer;
 import org.springframework.test.context.MergedContextConfiguration;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
 
+import java.lang.reflect.Method;
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 final class ForgeIntegrationTestContextCustomizer implements ContextCustomizer {
     private static final String POSTGRESQL_SUPPORT = "com.sitionix.forgeit.postgresql.api.PostgresqlSupport";
+    private static final String POSTGRESQL_H2_SUPPORT = "com.sitionix.forgeit.postgresql.api.PostgresqlH2Support";
     private static final String MONGODB_SUPPORT = "com.sitionix.forgeit.mongodb.api.MongoSupport";
     private static final String WIREMOCK_SUPPORT = "com.sitionix.forgeit.wiremock.api.WireMockSupport";
     private static final String MOCKMVC_SUPPORT = "com.sitionix.forgeit.mockmvc.api.MockMvcSupport";
@@ -32,30 +49,121 @@ final class ForgeIntegrationTestContextCustomizer implements ContextCustomizer {
             "org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration";
     private static final String MONGO_REPOSITORIES_AUTOCONFIG =
             "org.springframework.boot.autoconfigure.data.mongo.MongoRepositoriesAutoConfiguration";
+    private static final String FORGE_IT_PACKAGE_PREFIX = "com.sitionix.forgeit.";
+    private static final String LAZY_EXCLUDE_FILTER_BEAN = "forgeItLazyInitializationExcludeFilter";
+    /**
+     * Annotations whose methods only take effect once their bean exists, so a
+     * sliced context keeps beans declaring them eager.
+     */
+    private static final List<String> EAGER_ANNOTATIONS = List.of(
+            "org.springframework.kafka.annotation.KafkaListener",
+            "org.springframework.jms.annotation.JmsListener",
+            "org.springframework.context.event.EventListener",
+            "org.springframework.scheduling.annotation.Scheduled");
+    /**
+     * Application auto-configurations a sliced context keeps only when one of the
+     * listed features needs them.
+     */
+    private static final List<Slice> SLICES = List.of(
+            new Slice(Set.of(POSTGRESQL_SUPPORT), List.of(
+                    DATASOURCE_AUTOCONFIG,
+                    "org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration",
+                    "org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration",
+                    "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration",
+                    "org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration",
+                    "org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration",
+                    "org.springframework.boot.autoconfigure.liquibase.LiquibaseAutoConfiguration")),
+            new Slice(Set.of(MONGODB_SUPPORT), List.of(
+                    MONGO_AUTOCONFIG,
+                    MONGO_DATA_AUTOCONFIG,
+                    MONGO_REPOSITORIES_AUTOCONFIG)),
+            new Slice(Set.of(KAFKA_SUPPORT), List.of(
+                    "org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration")),
+            new Slice(Set.of(MOCKMVC_SUPPORT), List.of(
+                    "org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration",
+                    "org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration",
+                    "org.springframework.boot.autoconfigure.web.servlet.error.ErrorMvcAutoConfiguration"))
+    );
     private static final String PROPERTY_SOURCE_NAME = "forgeItAutoConfig";
     private static final String FEATURE_TOGGLES_SOURCE = "forgeItFeatureToggles";
 
     private final Class<?> contractType;
+    private final List<Class<?>> contracts;
     private final List<Class<? extends FeatureSupport>> features;
+    private final Set<String> featureKey;
     private final List<String> testProperties;
+    private final boolean slice;
 
+    /**
+     * @param contractType the test's contract, or {@code null} when contexts are
+     *                     shared by feature set; it then takes no part in the
+     *                     context cache key
+     * @param contracts    contracts whose generated implementations the context
+     *                     must provide
+     * @param slice        whether the context loads only the auto-configuration
+     *                     its features need
+     */
     ForgeIntegrationTestContextCustomizer(Class<?> contractType,
+                                          Collection<Class<?>> contracts,
                                           List<Class<? extends FeatureSupport>> features,
-                                          List<String> testProperties) {
+                                          List<String> testProperties,
+                                          boolean slice) {
         this.contractType = contractType;
+        this.contracts = List.copyOf(contracts);
         this.features = List.copyOf(features);
+        this.featureKey = features.stream()
+                .map(Class::getName)
+                .collect(Collectors.toCollection(TreeSet::new));
         this.testProperties = List.copyOf(testProperties);
+        this.slice = slice;
     }
 
     @Override
     public void customizeContext(ConfigurableApplicationContext context, MergedContextConfiguration mergedConfig) {
         applyTestProperties(context);
+        StartupProfiler.attach(context, contextName(mergedConfig));
         applyFeatureToggles(context);
         disableDataSourceAutoConfigurationIfUnused(context);
         disableMongoAutoConfigurationIfUnused(context);
+        if (this.slice) {
+            applySlice(context);
+        }
         final FeatureInstallationService installationService =
-                new FeatureInstallationService(context.getClassLoader());
+                FeatureInstallationService.forClassLoader(context.getClassLoader());
         installationService.installFeatures(this.features, new FeatureInstallationContext(context));
+        if (!ForgeItAotMode.usesGeneratedArtifacts()) {
+            registerContractImplementations(context);
+        }
+    }
+
+    /**
+     * Names the context after the test class that first builds it.
+     */
+    private String contextName(MergedContextConfiguration mergedConfig) {
+        return mergedConfig != null ? mergedConfig.getTestClass().getName() : String.join(",", this.featureKey);
+    }
+
+    /**
+     * Registers the generated {@code *Impl} bean of every contract served by this
+     * context, under the name component scanning would give it, so contracts
+     * outside the scanned packages resolve too and scanned ones are not doubled.
+     */
+    private void registerContractImplementations(ConfigurableApplicationContext context) {
+        if (!(context instanceof BeanDefinitionRegistry registry)) {
+            return;
+        }
+        for (final Class<?> contract : this.contracts) {
+            final String implementationName = contract.getName() + "Impl";
+            if (!ClassUtils.isPresent(implementationName, context.getClassLoader())) {
+                continue;
+            }
+            final AnnotatedGenericBeanDefinition definition = new AnnotatedGenericBeanDefinition(
+                    ClassUtils.resolveClassName(implementationName, context.getClassLoader()));
+            final String beanName = AnnotationBeanNameGenerator.INSTANCE.generateBeanName(definition, registry);
+            if (!registry.containsBeanDefinition(beanName)) {
+                registry.registerBeanDefinition(beanName, definition);
+            }
+        }
     }
 
     @Override
@@ -66,14 +174,62 @@ final class ForgeIntegrationTestContextCustomizer implements ContextCustomizer {
         if (!(o instanceof ForgeIntegrationTestContextCustomizer that)) {
             return false;
         }
-        return this.contractType.equals(that.contractType)
-                && this.features.equals(that.features)
-                && this.testProperties.equals(that.testProperties);
+        return Objects.equals(this.contractType, that.contractType)
+                && this.featureKey.equals(that.featureKey)
+                && this.testProperties.equals(that.testProperties)
+                && this.slice == that.slice;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.contractType, this.features, this.testProperties);
+        return Objects.hash(this.contractType, this.featureKey, this.testProperties, this.slice);
+    }
+
+    /**
+     * Excludes the auto-configurations of every slice no declared feature needs,
+     * whatever the application itself configures, and makes application beans
+     * lazy so those the test never touches are not created. ForgeIT beans stay
+     * eager because they publish connection properties and reset state, and so do
+     * listener and scheduled beans, which nothing would otherwise create.
+     */
+    private void applySlice(ConfigurableApplicationContext context) {
+        final ConfigurableEnvironment environment = context.getEnvironment();
+        final Set<String> excludes = parseAutoconfigExcludes(environment);
+        boolean changed = false;
+        for (final Slice slice : SLICES) {
+            if (slice.features().stream().noneMatch(this::hasFeature)) {
+                changed |= excludes.addAll(slice.autoConfigurations());
+            }
+        }
+        if (changed) {
+            addAutoconfigExcludes(environment, excludes);
+        }
+        final ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+        if (!beanFactory.containsSingleton(LAZY_EXCLUDE_FILTER_BEAN)) {
+            final LazyInitializationExcludeFilter eagerBeans = (beanName, definition, beanType) ->
+                    beanType != null && (beanType.getName().startsWith(FORGE_IT_PACKAGE_PREFIX)
+                            || declaresEagerAnnotation(beanType));
+            beanFactory.registerSingleton(LAZY_EXCLUDE_FILTER_BEAN, eagerBeans);
+            context.addBeanFactoryPostProcessor(new LazyInitializationBeanFactoryPostProcessor());
+        }
+    }
+
+    private static boolean declaresEagerAnnotation(Class<?> beanType) {
+        final Class<?> userType = ClassUtils.getUserClass(beanType);
+        if (hasEagerAnnotation(MergedAnnotations.from(userType, SearchStrategy.TYPE_HIERARCHY))) {
+            return true;
+        }
+        for (final Method method : ReflectionUtils.getUniqueDeclaredMethods(userType,
+                ReflectionUtils.USER_DECLARED_METHODS)) {
+            if (hasEagerAnnotation(MergedAnnotations.from(method, SearchStrategy.TYPE_HIERARCHY))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasEagerAnnotation(MergedAnnotations annotations) {
+        return EAGER_ANNOTATIONS.stream().anyMatch(annotations::isPresent);
     }
 
     private void disableDataSourceAutoConfigurationIfUnused(ConfigurableApplicationContext context) {
@@ -147,14 +303,26 @@ final class ForgeIntegrationTestContextCustomizer implements ContextCustomizer {
     }
 
     private void applyFeatureToggles(ConfigurableApplicationContext context) {
-        final Map<String, Object> toggles = Map.of(
-                "forge-it.modules.postgresql.enabled", hasFeature(POSTGRESQL_SUPPORT),
-                "forge-it.modules.mongodb.enabled", hasFeature(MONGODB_SUPPORT),
-                "forge-it.modules.wiremock.enabled", hasFeature(WIREMOCK_SUPPORT),
-                "forge-it.modules.mock-mvc.enabled", hasFeature(MOCKMVC_SUPPORT),
-                "forge-it.modules.kafka.enabled", hasFeature(KAFKA_SUPPORT)
-        );
-        final MutablePropertySources sources = context.getEnvironment().getPropertySources();
+        applyFeatureToggles(context.getEnvironment(), this.features);
+    }
+
+    /**
+     * Enables exactly the modules backing {@code features} in {@code environment}.
+     * The PostgreSQL H2 fast lane enables the PostgreSQL module in {@code h2} mode.
+     */
+    static void applyFeatureToggles(ConfigurableEnvironment environment,
+                                    Collection<Class<? extends FeatureSupport>> features) {
+        final boolean h2FastLane = hasFeature(features, POSTGRESQL_H2_SUPPORT);
+        final Map<String, Object> toggles = new LinkedHashMap<>();
+        toggles.put("forge-it.modules.postgresql.enabled", hasFeature(features, POSTGRESQL_SUPPORT));
+        toggles.put("forge-it.modules.mongodb.enabled", hasFeature(features, MONGODB_SUPPORT));
+        toggles.put("forge-it.modules.wiremock.enabled", hasFeature(features, WIREMOCK_SUPPORT));
+        toggles.put("forge-it.modules.mock-mvc.enabled", hasFeature(features, MOCKMVC_SUPPORT));
+        toggles.put("forge-it.modules.kafka.enabled", hasFeature(features, KAFKA_SUPPORT));
+        if (h2FastLane) {
+            toggles.put("forge-it.modules.postgresql.mode", "h2");
+        }
+        final MutablePropertySources sources = environment.getPropertySources();
         final MapPropertySource propertySource = new MapPropertySource(FEATURE_TOGGLES_SOURCE, toggles);
         if (sources.contains(FEATURE_TOGGLES_SOURCE)) {
             sources.replace(FEATURE_TOGGLES_SOURCE, propertySource);
@@ -164,7 +332,27 @@ final class ForgeIntegrationTestContextCustomizer implements ContextCustomizer {
     }
 
     private boolean hasFeature(String featureName) {
-        return this.features.stream().anyMatch(feature -> featureName.equals(feature.getName()));
+        return hasFeature(this.features, featureName);
+    }
+
+    /**
+     * Whether one of {@code features} is {@code featureName} or refines it, as
+     * {@code PostgresqlH2Support} refines {@code PostgresqlSupport}.
+     */
+    private static boolean hasFeature(Collection<Class<? extends FeatureSupport>> features, String featureName) {
+        return features.stream().anyMatch(feature -> isOrExtends(feature, featureName));
+    }
+
+    private static boolean isOrExtends(Class<?> type, String typeName) {
+        if (typeName.equals(type.getName())) {
+            return true;
+        }
+        for (final Class<?> parent : type.getInterfaces()) {
+            if (isOrExtends(parent, typeName)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private boolean hasProperty(final ConfigurableEnvironment environment, final String key) {
@@ -217,4 +405,7 @@ final class ForgeIntegrationTestContextCustomizer implements ContextCustomizer {
             sources.addFirst(propertySource);
         }
     }
+
+    private record Slice(Set<String> features, List<String> autoConfigurations) {
+    }
 }
@@ -0,0 +1,170 @@
+package com.sitionix.forgeit.core.internal.test;
+
+import com.sitionix.forgeit.core.internal.aot.ForgeItAotMode;
+import com.sitionix.forgeit.core.internal.feature.FeatureInstallationContext;
+import com.sitionix.forgeit.core.internal.feature.FeatureInstallationService;
+import com.sitionix.forgeit.core.marker.FeatureSupport;
+import lombok.extern.log4j.Log4j2;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+import org.springframework.boot.DefaultBootstrapContext;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessorsFactory;
+import org.springframework.boot.logging.DeferredLogs;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.util.ClassUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Starts the containers of every ForgeIT contract on the test classpath in the
+ * background as soon as the JUnit launcher session opens, so Docker start-up
+ * overlaps with test discovery and Spring Boot bootstrapping. Application
+ * contexts built later attach to the warm containers through the shared
+ * container registry; containers started for a configuration no context ends up
+ * using are released when the session closes.
+ * <p>
+ * Contracts are read from the {@code META-INF/forge-it/contracts} index written
+ * by the ForgeIT annotation processor, and the environment is resolved the way
+ * Spring Boot resolves it for the default profile. Pre-booting is opt-in via
+ * {@code forge-it.prestart.enabled=true}: it starts the union of all indexed
+ * features, which only pays off for full-suite runs, not for a single class run
+ * from the IDE. Nothing is started while test contexts are processed ahead of time.
+ */
+@Log4j2
+public final class ForgeItPrestartLauncherSessionListener implements LauncherSessionListener {
+
+    static final String CONTRACT_INDEX = "META-INF/forge-it/contracts";
+    private static final String ENABLED_PROPERTY = "forge-it.prestart.enabled";
+
+    private final AtomicReference<AutoCloseable> handle = new AtomicReference<>();
+    private volatile Thread worker;
+    private volatile boolean closed;
+
+    @Override
+    public void launcherSessionOpened(LauncherSession session) {
+        if (ForgeItAotMode.isProcessing()) {
+            return;
+        }
+        final ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+        final Set<String> contracts = readContractIndex(classLoader);
+        if (contracts.isEmpty()) {
+            return;
+        }
+        this.worker = Thread.ofVirtual()
+                .name("forge-it-prestart")
+                .start(() -> this.prestart(classLoader, contracts));
+    }
+
+    @Override
+    public void launcherSessionClosed(LauncherSession session) {
+        this.closed = true;
+        final Thread current = this.worker;
+        if (current != null) {
+            current.interrupt();
+            try {
+                current.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        this.release();
+    }
+
+    private void prestart(ClassLoader classLoader, Set<String> contracts) {
+        try {
+            final ConfigurableEnvironment environment = resolveEnvironment(classLoader);
+            if (!environment.getProperty(ENABLED_PROPERTY, Boolean.class, Boolean.FALSE)) {
+                log.debug("ForgeIT container prestart not enabled via {}", ENABLED_PROPERTY);
+                return;
+            }
+            final Set<Class<? extends FeatureSupport>> features = resolveFeatures(classLoader, contracts);
+            if (features.isEmpty()) {
+                return;
+            }
+            ForgeIntegrationTestContextCustomizer.applyFeatureToggles(environment, features);
+
+            final GenericApplicationContext holder = new GenericApplicationContext();
+            holder.setClassLoader(classLoader);
+            holder.setEnvironment(environment);
+            log.info("Prestarting ForgeIT infrastructure for features: {}", features);
+            this.handle.set(FeatureInstallationService.forClassLoader(classLoader)
+                    .prestartFeatures(features, new FeatureInstallationContext(holder)));
+            if (this.closed) {
+                this.release();
+            }
+        } catch (RuntimeException | LinkageError ex) {
+            // the first application context starts the containers itself and reports failures
+            log.warn("ForgeIT infrastructure prestart failed; containers start with the first context instead", ex);
+        }
+    }
+
+    private void release() {
+        final AutoCloseable started = this.handle.getAndSet(null);
+        if (started == null) {
+            return;
+        }
+        try {
+            started.close();
+        } catch (Exception ex) {
+            log.warn("Failed to release prestarted ForgeIT infrastructure", ex);
+        }
+    }
+
+    private static ConfigurableEnvironment resolveEnvironment(ClassLoader classLoader) {
+        final StandardEnvironment environment = new StandardEnvironment();
+        final SpringApplication application = new SpringApplication();
+        application.setResourceLoader(new DefaultResourceLoader(classLoader));
+        EnvironmentPostProcessorsFactory.fromSpringFactories(classLoader)
+                .getEnvironmentPostProcessors(new DeferredLogs(), new DefaultBootstrapContext())
+                .forEach(postProcessor -> postProcessor.postProcessEnvironment(environment, application));
+        return environment;
+    }
+
+    private static Set<Class<? extends FeatureSupport>> resolveFeatures(ClassLoader classLoader, Set<String> contracts) {
+        final IntegrationTestContextCustomizerFactory factory = new IntegrationTestContextCustomizerFactory();
+        final Set<Class<? extends FeatureSupport>> features = new LinkedHashSet<>();
+        for (String contract : contracts) {
+            try {
+                features.addAll(factory.resolveFeatures(ClassUtils.forName(contract, classLoader)));
+            } catch (ClassNotFoundException | LinkageError ex) {
+                log.debug("Skipping ForgeIT contract {} that cannot be loaded", contract, ex);
+            }
+        }
+        return features;
+    }
+
+    static Set<String> readContractIndex(ClassLoader classLoader) {
+        final Set<String> contracts = new LinkedHashSet<>();
+        try {
+            final Enumeration<URL> resources = classLoader.getResources(CONTRACT_INDEX);
+            while (resources.hasMoreElements()) {
+                final URL resource = resources.nextElement();
+                try (InputStream inputStream = resource.openStream();
+                     BufferedReader reader = new BufferedReader(
+                             new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+                    reader.lines()
+                            .map(String::trim)
+                            .filter(line -> !line.isEmpty())
+                            .filter(line -> !line.startsWith("#"))
+                            .forEach(contracts::add);
+                }
+            }
+        } catch (IOException ex) {
+            log.warn("Failed to read ForgeIT contract index '{}'", CONTRACT_INDEX, ex);
+        }
+        return contracts;
+    }
+}
@@ -6,10 +6,12 @@ import com.sitionix.forgeit.core.marker.FeatureSupport;
 import com.sitionix.forgeit.core.test.ForgeItTest;
 import com.sitionix.forgeit.core.test.IntegrationTest;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.core.SpringProperties;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.test.context.ContextConfigurationAttributes;
 import org.springframework.test.context.ContextCustomizer;
 import org.springframework.test.context.ContextCustomizerFactory;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
 
 import java.lang.reflect.Modifier;
@@ -20,6 +22,13 @@ import java.util.Set;
 
 public final class IntegrationTestContextCustomizerFactory implements ContextCustomizerFactory {
 
+    /**
+     * Flag, read from a system property or {@code spring.properties}, that keys
+     * test contexts by feature set instead of contract type. Contracts missing
+     * from the contract index keep their own context.
+     */
+    static final String SHARE_BY_FEATURES_PROPERTY = "forge-it.context.share-by-features";
+
     private static final String GENERATED_FEATURES_PACKAGE = "com.sitionix.forgeit.core.generated";
 
     @Override
@@ -31,7 +40,42 @@ public final class IntegrationTestContextCustomizerFactory implements ContextCus
         final Class<?> contractType = this.resolveContractType(testClass);
         final List<Class<? extends FeatureSupport>> features = List.copyOf(this.resolveFeatures(contractType));
         final List<String> properties = this.resolveTestProperties(testClass);
-        return new ForgeIntegrationTestContextCustomizer(contractType, features, properties);
+        final boolean slice = this.resolveSlice(testClass);
+        final ClassLoader classLoader = testClass.getClassLoader();
+        final Set<String> contractIndex = SpringProperties.getFlag(SHARE_BY_FEATURES_PROPERTY)
+                ? ForgeItPrestartLauncherSessionListener.readContractIndex(classLoader)
+                : Set.of();
+        if (!contractIndex.contains(contractType.getName())) {
+            // a context shared by feature set only serves indexed contracts
+            return new ForgeIntegrationTestContextCustomizer(contractType, List.of(contractType), features,
+                    properties, slice);
+        }
+        return new ForgeIntegrationTestContextCustomizer(null,
+                this.resolveCompatibleContracts(contractType, Set.copyOf(features), contractIndex, classLoader),
+                features, properties, slice);
+    }
+
+    /**
+     * Collects the indexed contracts that declare exactly {@code features}, so a
+     * context shared by feature set can serve every one of them.
+     */
+    private Set<Class<?>> resolveCompatibleContracts(final Class<?> contractType,
+                                                     final Set<Class<? extends FeatureSupport>> features,
+                                                     final Set<String> contractIndex,
+                                                     final ClassLoader classLoader) {
+        final Set<Class<?>> contracts = new LinkedHashSet<>();
+        contracts.add(contractType);
+        for (final String contractName : contractIndex) {
+            try {
+                final Class<?> candidate = ClassUtils.forName(contractName, classLoader);
+                if (ForgeIT.class.isAssignableFrom(candidate) && features.equals(this.resolveFeatures(candidate))) {
+                    contracts.add(candidate);
+                }
+            } catch (final ClassNotFoundException | LinkageError ex) {
+                // stale index entry; the contract cannot be injected anyway
+            }
+        }
+        return contracts;
     }
 
     private Class<?> resolveContractType(final Class<?> testClass) {
@@ -55,7 +99,7 @@ public final class IntegrationTestContextCustomizerFactory implements ContextCus
     }
 
     @SuppressWarnings("unchecked")
-    private Set<Class<? extends FeatureSupport>> resolveFeatures(final Class<?> contractType) {
+    Set<Class<? extends FeatureSupport>> resolveFeatures(final Class<?> contractType) {
         final Set<Class<? extends FeatureSupport>> features = new LinkedHashSet<>();
         this.collectFeatures(contractType, features, new LinkedHashSet<>());
         return features;
@@ -75,16 +119,29 @@ public final class IntegrationTestContextCustomizerFactory implements ContextCus
             features.addAll(Arrays.asList(annotation.value()));
         }
         for (final Class<?> parent : type.getInterfaces()) {
-            if (FeatureSupport.class.isAssignableFrom(parent)
-                    && parent != FeatureSupport.class
-                    && !GENERATED_FEATURES_PACKAGE.equals(parent.getPackageName())
-                    && Arrays.asList(parent.getInterfaces()).contains(FeatureSupport.class)) {
+            if (isFeature(parent)) {
                 features.add((Class<? extends FeatureSupport>) parent);
+            } else {
+                this.collectFeatures(parent, features, visited);
             }
-            this.collectFeatures(parent, features, visited);
         }
     }
 
+    /**
+     * A feature extends {@link FeatureSupport} directly or refines other features
+     * only, as {@code PostgresqlH2Support} refines {@code PostgresqlSupport}.
+     * Contracts extending {@code ForgeIT} never qualify.
+     */
+    private static boolean isFeature(final Class<?> type) {
+        if (type == FeatureSupport.class
+                || !FeatureSupport.class.isAssignableFrom(type)
+                || GENERATED_FEATURES_PACKAGE.equals(type.getPackageName())) {
+            return false;
+        }
+        return Arrays.stream(type.getInterfaces())
+                .allMatch(parent -> parent == FeatureSupport.class || isFeature(parent));
+    }
+
     private List<String> resolveTestProperties(final Class<?> testClass) {
         final IntegrationTest integrationTest =
                 AnnotatedElementUtils.findMergedAnnotation(testClass, IntegrationTest.class);
@@ -93,4 +150,10 @@ public final class IntegrationTestContextCustomizerFactory implements ContextCus
         }
         return List.of(integrationTest.properties());
     }
+
+    private boolean resolveSlice(final Class<?> testClass) {
+        final IntegrationTest integrationTest =
+                AnnotatedElementUtils.findMergedAnnotation(testClass, IntegrationTest.class);
+        return integrationTest != null && integrationTest.slice();
+    }
 }
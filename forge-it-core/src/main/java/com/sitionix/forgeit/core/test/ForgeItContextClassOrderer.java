@@ -0,0 +1,87 @@
+package com.sitionix.forgeit.core.test;
+
+import com.sitionix.forgeit.core.internal.test.IntegrationTestContextCustomizerFactory;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+import org.springframework.core.SpringProperties;
+import org.springframework.test.context.ContextCustomizer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Runs test classes that resolve to the same ForgeIT context back to back, so
+ * the Spring context cache builds every context once instead of evicting and
+ * rebuilding it when context shapes interleave.
+ * <p>
+ * Groups keep the order in which their first class appears, classes inside a
+ * group keep their relative order, and classes without a ForgeIT context run
+ * last. Enable it in {@code junit-platform.properties}:
+ * <pre>
+ * junit.jupiter.testclass.order.default=com.sitionix.forgeit.core.test.ForgeItContextClassOrderer
+ * forge-it.context.max-cached=2
+ * </pre>
+ * The optional {@code forge-it.context.max-cached} caps the Spring context
+ * cache, so contexts of finished groups are closed with their containers. It
+ * has no effect when {@code spring.test.context.cache.maxSize} is set.
+ */
+@Log4j2
+public final class ForgeItContextClassOrderer implements ClassOrderer {
+
+    static final String MAX_CACHED_PARAMETER = "forge-it.context.max-cached";
+    private static final String SPRING_CACHE_SIZE_PROPERTY = "spring.test.context.cache.maxSize";
+
+    private final IntegrationTestContextCustomizerFactory factory = new IntegrationTestContextCustomizerFactory();
+
+    @Override
+    public void orderClasses(final ClassOrdererContext context) {
+        context.getConfigurationParameter(MAX_CACHED_PARAMETER).ifPresent(this::limitContextCache);
+
+        final Map<ContextCustomizer, List<ClassDescriptor>> groups = new LinkedHashMap<>();
+        final List<ClassDescriptor> ungrouped = new ArrayList<>();
+        for (final ClassDescriptor descriptor : context.getClassDescriptors()) {
+            this.contextKey(descriptor.getTestClass()).ifPresentOrElse(
+                    key -> groups.computeIfAbsent(key, ignored -> new ArrayList<>()).add(descriptor),
+                    () -> ungrouped.add(descriptor));
+        }
+        if (groups.size() <= 1) {
+            return;
+        }
+        final Map<ClassDescriptor, Integer> positions = new HashMap<>();
+        groups.values().forEach(group -> group.forEach(descriptor -> positions.put(descriptor, positions.size())));
+        ungrouped.forEach(descriptor -> positions.put(descriptor, positions.size()));
+        context.getClassDescriptors().sort(Comparator.comparingInt(positions::get));
+        log.debug("Ordered {} test classes into {} ForgeIT context groups", positions.size(), groups.size());
+    }
+
+    private Optional<ContextCustomizer> contextKey(final Class<?> testClass) {
+        try {
+            return Optional.ofNullable(this.factory.createContextCustomizer(testClass, List.of()));
+        } catch (final RuntimeException | LinkageError ex) {
+            log.debug("Cannot resolve the ForgeIT context of {}; running it after grouped classes", testClass, ex);
+            return Optional.empty();
+        }
+    }
+
+    private void limitContextCache(final String maxCached) {
+        if (SpringProperties.getProperty(SPRING_CACHE_SIZE_PROPERTY) != null) {
+            return;
+        }
+        try {
+            final int size = Integer.parseInt(maxCached.trim());
+            if (size <= 0) {
+                throw new NumberFormatException(maxCached);
+            }
+            SpringProperties.setProperty(SPRING_CACHE_SIZE_PROPERTY, String.valueOf(size));
+        } catch (final NumberFormatException ex) {
+            throw new IllegalStateException(MAX_CACHED_PARAMETER + " must be a positive integer: " + maxCached, ex);
+        }
+    }
+}
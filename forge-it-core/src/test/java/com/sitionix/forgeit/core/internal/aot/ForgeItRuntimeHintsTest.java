@@ -0,0 +1,28 @@
+package com.sitionix.forgeit.core.internal.aot;
+
+import com.sitionix.forgeit.core.config.CoreDefaultsEnvironmentPostProcessor;
+import com.sitionix.forgeit.wiremock.internal.configs.WireMockFeatureInstaller;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ForgeItRuntimeHintsTest {
+
+    @Test
+    void registersHintsOfEveryModuleOnTheClasspath() {
+        final RuntimeHints hints = new RuntimeHints();
+        SpringFactoriesLoader.forResourceLocation("META-INF/spring/aot.factories")
+                .load(RuntimeHintsRegistrar.class)
+                .forEach(registrar -> registrar.registerHints(hints, getClass().getClassLoader()));
+
+        assertThat(RuntimeHintsPredicates.resource().forResource("META-INF/forge-it/features")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("forge-it-postgresql-default.yml")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(CoreDefaultsEnvironmentPostProcessor.class))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(WireMockFeatureInstaller.class)).accepts(hints);
+    }
+}
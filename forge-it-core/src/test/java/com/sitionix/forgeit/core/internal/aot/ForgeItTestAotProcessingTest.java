@@ -0,0 +1,76 @@
+package com.sitionix.forgeit.core.internal.aot;
+
+import com.sitionix.forgeit.core.test.ForgeItTest;
+import com.sitionix.forgeit.core.testing.UserInterface;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.test.generate.CompilerFiles;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.test.tools.CompileWithForkedClassLoader;
+import org.springframework.core.test.tools.TestCompiler;
+import org.springframework.test.context.aot.TestContextAotGenerator;
+
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ForgeItTestAotProcessingTest {
+
+    private static final String GENERATED_MAPPINGS =
+            "org.springframework.test.context.aot.AotTestContextInitializers__Generated";
+
+    @AfterEach
+    void clearFlag() {
+        System.clearProperty(ForgeItAotMode.AOT_PROCESSING_PROPERTY);
+    }
+
+    @Test
+    @CompileWithForkedClassLoader
+    void generatesLoadableInitializerForForgeItTest() {
+        System.setProperty(ForgeItAotMode.AOT_PROCESSING_PROPERTY, "true");
+        final InMemoryGeneratedFiles generatedFiles = new InMemoryGeneratedFiles();
+        new TestContextAotGenerator(generatedFiles, new RuntimeHints()).processAheadOfTime(Stream.of(UserTests.class));
+        System.clearProperty(ForgeItAotMode.AOT_PROCESSING_PROPERTY);
+
+        TestCompiler.forSystem().with(CompilerFiles.from(generatedFiles)).compile(compiled -> {
+            final ApplicationContextInitializer<GenericApplicationContext> initializer =
+                    initializerFor(compiled.getClassLoader(), UserTests.class);
+            try (GenericApplicationContext context = new GenericApplicationContext()) {
+                initializer.initialize(context);
+
+                assertThat(context.containsBeanDefinition("userInterfaceImpl")).isTrue();
+                assertThat(context.containsBeanDefinition("wireMockContainerManager")).isTrue();
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ApplicationContextInitializer<GenericApplicationContext> initializerFor(final ClassLoader classLoader,
+                                                                                         final Class<?> testClass) {
+        try {
+            final Map<String, Supplier<ApplicationContextInitializer<?>>> initializers =
+                    (Map<String, Supplier<ApplicationContextInitializer<?>>>) classLoader.loadClass(GENERATED_MAPPINGS)
+                            .getMethod("getContextInitializers")
+                            .invoke(null);
+            assertThat(initializers).containsKey(testClass.getName());
+            return (ApplicationContextInitializer<GenericApplicationContext>) initializers.get(testClass.getName()).get();
+        } catch (final ReflectiveOperationException ex) {
+            throw new IllegalStateException("Failed to load the generated test context initializers", ex);
+        }
+    }
+
+    @ForgeItTest
+    static class UserTests {
+        UserInterface forgeIt;
+
+        @Configuration(proxyBeanMethods = false)
+        static class Config {
+        }
+    }
+}
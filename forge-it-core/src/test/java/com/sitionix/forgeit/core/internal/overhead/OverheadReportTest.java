@@ -0,0 +1,56 @@
+package com.sitionix.forgeit.core.internal.overhead;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OverheadReportTest {
+
+    private static final long MILLI = 1_000_000L;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void aggregatesPerClassAndSuiteAndRanksOffenders() throws Exception {
+        final List<TestOverhead> results = List.of(
+                new TestOverhead("com.example.OrdersIT", "createsOrder", 100 * MILLI, 20 * MILLI,
+                        Map.of("ForgeItDbCleanupTestExecutionListener", new TestOverhead.Phase(1, 20 * MILLI))),
+                new TestOverhead("com.example.OrdersIT", "publishesEvent", 200 * MILLI, 150 * MILLI,
+                        Map.of("kafka await", new TestOverhead.Phase(1, 150 * MILLI))),
+                new TestOverhead("com.example.OrdersIT", null, 0, 10 * MILLI,
+                        Map.of("PostgresqlTemplateCloneTestExecutionListener", new TestOverhead.Phase(1, 10 * MILLI))),
+                new TestOverhead("com.example.UsersIT", "readsUser", 50 * MILLI, 5 * MILLI,
+                        Map.of("wiremock stub", new TestOverhead.Phase(2, 5 * MILLI))));
+
+        final OverheadReport.Summary summary = OverheadReport.summarize(results);
+
+        assertThat(summary.suite().tests()).isEqualTo(3);
+        assertThat(summary.suite().forgeItNanos()).isEqualTo(185 * MILLI);
+        assertThat(summary.classes()).extracting(OverheadReport.Totals::name)
+                .containsExactly("com.example.OrdersIT", "com.example.UsersIT");
+        assertThat(summary.topOffenders(2)).extracting(TestOverhead::testMethod)
+                .containsExactly("publishesEvent", "createsOrder");
+        assertThat(OverheadReport.describe(summary))
+                .contains("185.0 of 350.0 ms (52.9%) across 3 tests")
+                .contains("com.example.OrdersIT#publishesEvent (slowest: kafka await 150.0 ms)");
+
+        OverheadReport.write(summary, this.tempDir);
+
+        final JsonNode json = new ObjectMapper().readTree(this.tempDir.resolve(OverheadReport.JSON_FILE).toFile());
+        assertThat(json.at("/suite/forgeItMillis").asDouble()).isEqualTo(185.0);
+        assertThat(json.at("/topOffenders/0/method").asText()).isEqualTo("publishesEvent");
+        assertThat(json.at("/classes/0/tests").asInt()).isEqualTo(2);
+        assertThat(json.at("/classes/0/phases/kafka await/millis").asDouble()).isEqualTo(150.0);
+        assertThat(Files.readString(this.tempDir.resolve(OverheadReport.HTML_FILE)))
+                .contains("<td>com.example.OrdersIT#publishesEvent</td>");
+    }
+}
@@ -0,0 +1,76 @@
+package com.sitionix.forgeit.core.internal.startup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupProfilerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void leavesContextUntouchedWhenDisabled() {
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            context.setEnvironment(new MockEnvironment());
+
+            StartupProfiler.attach(context, "disabled");
+
+            assertThat(context.getApplicationStartup()).isSameAs(ApplicationStartup.DEFAULT);
+        }
+    }
+
+    @Test
+    void recordsNestedPhasesAndWritesChromeTrace() throws Exception {
+        final Path output = this.tempDir.resolve("trace/startup.json");
+        final StartupTimeline timeline;
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            context.setEnvironment(new MockEnvironment()
+                    .withProperty(StartupProfiler.ENABLED_PROPERTY, "true")
+                    .withProperty(StartupProfiler.OUTPUT_PROPERTY, output.toString()));
+            StartupProfiler.attach(context, "ProfiledTests");
+            timeline = (StartupTimeline) context.getApplicationStartup();
+
+            final StartupStep install = context.getApplicationStartup().start("forge-it.features.install");
+            context.getApplicationStartup().start("forge-it.feature.install")
+                    .tag("feature", "WireMockSupport")
+                    .end();
+            install.end();
+            context.refresh();
+        }
+
+        final List<StartupTimeline.Phase> phases = timeline.phases();
+        final StartupTimeline.Phase install = find(phases, "forge-it.features.install");
+        final StartupTimeline.Phase feature = find(phases, "forge-it.feature.install");
+        assertThat(feature.parentId()).isEqualTo(install.id());
+        assertThat(feature.tags()).containsEntry("feature", "WireMockSupport");
+        assertThat(phases).extracting(StartupTimeline.Phase::name).contains("spring.context.refresh");
+        assertThat(StartupProfiler.summarize(timeline))
+                .contains("ProfiledTests", "forge-it.features.install", "  forge-it.feature.install");
+
+        StartupProfiler.report();
+
+        final JsonNode trace = new ObjectMapper().readTree(output.toFile());
+        final List<String> names = new ArrayList<>();
+        trace.get("traceEvents").forEach(event -> names.add(event.get("name").asText()));
+        assertThat(names).contains("process_name", "forge-it.features.install", "spring.context.refresh");
+    }
+
+    private static StartupTimeline.Phase find(List<StartupTimeline.Phase> phases, String name) {
+        return phases.stream()
+                .filter(phase -> phase.name().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+}
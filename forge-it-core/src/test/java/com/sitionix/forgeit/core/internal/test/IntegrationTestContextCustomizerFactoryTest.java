@@ -0,0 +1,163 @@
+package com.sitionix.forgeit.core.internal.test;
+
+import com.sitionix.forgeit.core.api.ForgeIT;
+import com.sitionix.forgeit.core.marker.FeatureSupport;
+import com.sitionix.forgeit.core.test.ForgeItTest;
+import com.sitionix.forgeit.core.test.IntegrationTest;
+import com.sitionix.forgeit.core.testing.AuditInterface;
+import com.sitionix.forgeit.core.testing.UserInterface;
+import com.sitionix.forgeit.postgresql.api.PostgresqlH2Support;
+import com.sitionix.forgeit.wiremock.api.WireMockSupport;
+import com.sitionix.sliced.OrderListener;
+import com.sitionix.sliced.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.LazyInitializationBeanFactoryPostProcessor;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.context.ContextCustomizer;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntegrationTestContextCustomizerFactoryTest {
+
+    private final IntegrationTestContextCustomizerFactory factory = new IntegrationTestContextCustomizerFactory();
+
+    @AfterEach
+    void clearFlag() {
+        System.clearProperty(IntegrationTestContextCustomizerFactory.SHARE_BY_FEATURES_PROPERTY);
+        System.clearProperty("spring.aot.processing");
+    }
+
+    @Test
+    void keysContextsByContractTypeByDefault() {
+        final ContextCustomizer users = this.factory.createContextCustomizer(UserTests.class, List.of());
+        final ContextCustomizer audits = this.factory.createContextCustomizer(AuditTests.class, List.of());
+
+        assertThat(users).isNotEqualTo(audits);
+        assertThat(users).isEqualTo(this.factory.createContextCustomizer(UserTests.class, List.of()));
+    }
+
+    @Test
+    void keysContextsByFeatureSetWhenSharingIsEnabled() {
+        System.setProperty(IntegrationTestContextCustomizerFactory.SHARE_BY_FEATURES_PROPERTY, "true");
+
+        final ContextCustomizer users = this.factory.createContextCustomizer(UserTests.class, List.of());
+        final ContextCustomizer audits = this.factory.createContextCustomizer(AuditTests.class, List.of());
+
+        assertThat(users).isEqualTo(audits).hasSameHashCodeAs(audits);
+    }
+
+    @Test
+    void keysUnindexedContractsByContractTypeWhenSharingIsEnabled() {
+        System.setProperty(IntegrationTestContextCustomizerFactory.SHARE_BY_FEATURES_PROPERTY, "true");
+
+        final ContextCustomizer users = this.factory.createContextCustomizer(UserTests.class, List.of());
+        final ContextCustomizer unindexed = this.factory.createContextCustomizer(UnindexedTests.class, List.of());
+
+        assertThat(unindexed).isNotEqualTo(users);
+        assertThat(unindexed).isEqualTo(this.factory.createContextCustomizer(UnindexedTests.class, List.of()));
+    }
+
+    @Test
+    void keysSlicedContextsApartFromFullOnes() {
+        final ContextCustomizer full = this.factory.createContextCustomizer(UserTests.class, List.of());
+        final ContextCustomizer sliced = this.factory.createContextCustomizer(SlicedUserTests.class, List.of());
+
+        assertThat(sliced).isNotEqualTo(full);
+    }
+
+    @Test
+    void excludesAutoConfigurationNoFeatureNeedsWhenSliced() {
+        final ContextCustomizer sliced = this.factory.createContextCustomizer(SlicedUserTests.class, List.of());
+
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            context.setEnvironment(new MockEnvironment().withProperty("forge-it.modules.wiremock.mode", "external"));
+            sliced.customizeContext(context, null);
+
+            assertThat(context.getEnvironment().getProperty("spring.autoconfigure.exclude"))
+                    .contains("org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration")
+                    .contains("org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration")
+                    .contains("org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration");
+            assertThat(context.getBeanFactoryPostProcessors())
+                    .hasAtLeastOneElementOfType(LazyInitializationBeanFactoryPostProcessor.class);
+        }
+    }
+
+    @Test
+    void keepsKafkaListenerBeansEagerWhenSliced() {
+        final ContextCustomizer sliced = this.factory.createContextCustomizer(SlicedUserTests.class, List.of());
+
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            context.setEnvironment(new MockEnvironment().withProperty("forge-it.modules.wiremock.mode", "external"));
+            sliced.customizeContext(context, null);
+            context.registerBean("orderListener", OrderListener.class);
+            context.registerBean("orderService", OrderService.class);
+
+            new LazyInitializationBeanFactoryPostProcessor().postProcessBeanFactory(context.getBeanFactory());
+
+            assertThat(context.getBeanDefinition("orderListener").isLazyInit()).isFalse();
+            assertThat(context.getBeanDefinition("orderService").isLazyInit()).isTrue();
+        }
+    }
+
+    @Test
+    void registersBeansWithoutStartingInfrastructureDuringAotProcessing() {
+        System.setProperty("spring.aot.processing", "true");
+        final ContextCustomizer users = this.factory.createContextCustomizer(UserTests.class, List.of());
+
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            context.setEnvironment(new MockEnvironment().withProperty("forge-it.modules.wiremock.mode", "internal"));
+            users.customizeContext(context, null);
+
+            assertThat(context.containsBeanDefinition("wireMockContainerManager")).isTrue();
+            assertThat(context.containsBeanDefinition("userInterfaceImpl")).isTrue();
+        }
+    }
+
+    @Test
+    void resolvesFastLaneAsRefinementOfPostgresql() {
+        final Set<Class<? extends FeatureSupport>> features =
+                this.factory.resolveFeatures(FastLaneContract.class);
+        final MockEnvironment environment = new MockEnvironment();
+
+        ForgeIntegrationTestContextCustomizer.applyFeatureToggles(environment, features);
+
+        assertThat(features).containsExactly(PostgresqlH2Support.class);
+        assertThat(environment.getProperty("forge-it.modules.postgresql.enabled")).isEqualTo("true");
+        assertThat(environment.getProperty("forge-it.modules.postgresql.mode")).isEqualTo("h2");
+    }
+
+    interface FastLaneContract extends PostgresqlH2Support {
+    }
+
+    @ForgeItTest
+    static class UserTests {
+        UserInterface forgeIt;
+    }
+
+    @IntegrationTest(slice = true)
+    static class SlicedUserTests {
+        UserInterface forgeIt;
+    }
+
+    @ForgeItTest
+    static class AuditTests {
+        AuditInterface forgeIt;
+    }
+
+    /**
+     * Declares the same feature as {@link UserInterface} but, being package-private,
+     * is left out of the contract index.
+     */
+    interface UnindexedInterface extends ForgeIT, WireMockSupport {
+    }
+
+    @ForgeItTest
+    static class UnindexedTests {
+        UnindexedInterface forgeIt;
+    }
+}
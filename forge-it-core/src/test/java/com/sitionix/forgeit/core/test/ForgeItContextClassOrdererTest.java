@@ -0,0 +1,118 @@
+package com.sitionix.forgeit.core.test;
+
+import com.sitionix.forgeit.core.testing.AuditInterface;
+import com.sitionix.forgeit.core.testing.UserInterface;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrdererContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.SpringProperties;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ForgeItContextClassOrdererTest {
+
+    @AfterEach
+    void clearCacheSize() {
+        SpringProperties.setProperty("spring.test.context.cache.maxSize", null);
+    }
+
+    @Test
+    void runsClassesSharingAContextBackToBack() {
+        final StubContext context = new StubContext(Map.of(),
+                UserTests.class, AuditTests.class, PlainTests.class, MoreUserTests.class);
+
+        new ForgeItContextClassOrderer().orderClasses(context);
+
+        assertThat(context.orderedClasses())
+                .containsExactly(UserTests.class, MoreUserTests.class, AuditTests.class, PlainTests.class);
+    }
+
+    @Test
+    void capsSpringContextCacheWhenMaxCachedIsConfigured() {
+        final StubContext context = new StubContext(Map.of(ForgeItContextClassOrderer.MAX_CACHED_PARAMETER, "2"),
+                UserTests.class);
+
+        new ForgeItContextClassOrderer().orderClasses(context);
+
+        assertThat(SpringProperties.getProperty("spring.test.context.cache.maxSize")).isEqualTo("2");
+    }
+
+    @ForgeItTest
+    static class UserTests {
+        UserInterface forgeIt;
+    }
+
+    @ForgeItTest
+    static class AuditTests {
+        AuditInterface forgeIt;
+    }
+
+    @ForgeItTest
+    static class MoreUserTests {
+        UserInterface forgeIt;
+    }
+
+    static class PlainTests {
+    }
+
+    private record StubDescriptor(Class<?> testClass) implements ClassDescriptor {
+
+        @Override
+        public Class<?> getTestClass() {
+            return this.testClass;
+        }
+
+        @Override
+        public String getDisplayName() {
+            return this.testClass.getSimpleName();
+        }
+
+        @Override
+        public boolean isAnnotated(final Class<? extends Annotation> annotationType) {
+            return this.testClass.isAnnotationPresent(annotationType);
+        }
+
+        @Override
+        public <A extends Annotation> Optional<A> findAnnotation(final Class<A> annotationType) {
+            return Optional.ofNullable(this.testClass.getAnnotation(annotationType));
+        }
+
+        @Override
+        public <A extends Annotation> List<A> findRepeatableAnnotations(final Class<A> annotationType) {
+            return List.of(this.testClass.getAnnotationsByType(annotationType));
+        }
+    }
+
+    private static final class StubContext implements ClassOrdererContext {
+
+        private final List<ClassDescriptor> descriptors;
+        private final Map<String, String> parameters;
+
+        private StubContext(final Map<String, String> parameters, final Class<?>... testClasses) {
+            this.parameters = parameters;
+            this.descriptors = new ArrayList<>(Stream.of(testClasses).<ClassDescriptor>map(StubDescriptor::new).toList());
+        }
+
+        @Override
+        public List<? extends ClassDescriptor> getClassDescriptors() {
+            return this.descriptors;
+        }
+
+        @Override
+        public Optional<String> getConfigurationParameter(final String key) {
+            return Optional.ofNullable(this.parameters.get(key));
+        }
+
+        private List<Class<?>> orderedClasses() {
+            return this.descriptors.stream().<Class<?>>map(ClassDescriptor::getTestClass).toList();
+        }
+    }
+}
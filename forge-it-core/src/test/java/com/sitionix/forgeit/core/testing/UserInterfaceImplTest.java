@@ -0,0 +1,23 @@
+package com.sitionix.forgeit.core.testing;
+
+import com.sitionix.forgeit.wiremock.internal.journal.WireMockJournal;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class UserInterfaceImplTest {
+
+    @Test
+    void holdsFeatureCollaboratorOnceResolved() {
+        final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        final WireMockJournal journal = mock(WireMockJournal.class);
+        beanFactory.registerSingleton("wireMockJournal", journal);
+        final UserInterface forgeIt = new UserInterfaceImpl(beanFactory);
+
+        assertThat(forgeIt.wiremock()).isSameAs(journal);
+        beanFactory.destroySingleton("wireMockJournal");
+        assertThat(forgeIt.wiremock()).isSameAs(journal);
+    }
+}
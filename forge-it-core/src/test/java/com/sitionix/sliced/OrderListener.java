@@ -0,0 +1,14 @@
+package com.sitionix.sliced;
+
+import org.springframework.kafka.annotation.KafkaListener;
+
+/**
+ * Application bean outside the ForgeIT packages that only does its work once
+ * created, used to check sliced contexts keep it eager.
+ */
+public class OrderListener {
+
+    @KafkaListener(topics = "orders")
+    void onOrder(final String order) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.sitionix.sliced;
+
+/**
+ * Application bean outside the ForgeIT packages that sliced contexts may create lazily.
+ */
+public class OrderService {
+}
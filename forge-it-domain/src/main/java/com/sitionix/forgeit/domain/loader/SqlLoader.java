@@ -8,5 +8,12 @@ public interface SqlLoader {
 
     List<SqlScriptDescriptor> loadOrderedScripts();
 
+    /**
+     * Loads the scripts for {@code dialect} (e.g. {@code postgresql} or {@code h2}).
+     * A script named {@code <name>.<dialect>.sql} replaces {@code <name>.sql} in the
+     * same folder, and variants for other dialects are skipped.
+     */
+    List<SqlScriptDescriptor> loadOrderedScripts(String dialect);
+
     void setBasePath(String basePath);
 }
@@ -12,7 +12,9 @@ public interface RelationalModuleProperties {
 
     enum Mode {
         INTERNAL,
-        EXTERNAL
+        EXTERNAL,
+        EMBEDDED,
+        H2
     }
 
     interface Connection {
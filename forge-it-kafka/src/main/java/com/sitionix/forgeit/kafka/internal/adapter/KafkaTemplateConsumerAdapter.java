@@ -74,6 +74,13 @@ public class KafkaTemplateConsumerAdapter implements KafkaConsumerPort, Disposab
 
     @Override
     public void destroy() {
+        this.releaseClients();
+    }
+
+    /**
+     * Closes the cached consumer; the next call creates a new one.
+     */
+    public void releaseClients() {
         synchronized (this.consumerLock) {
             this.closeConsumer();
         }
@@ -46,6 +46,21 @@ public class KafkaTemplatePublisherAdapter implements KafkaPublisherPort {
         kafkaTemplate.send(record);
     }
 
+    /**
+     * Closes the producers behind the context's templates; they are recreated on
+     * the next publish.
+     */
+    public void releaseClients() {
+        final KafkaTemplate<?, ?> kafkaTemplate = this.kafkaTemplateProvider.getIfAvailable();
+        if (kafkaTemplate != null) {
+            kafkaTemplate.getProducerFactory().reset();
+        }
+        final KafkaTemplate<String, byte[]> byteArrayTemplate = this.byteArrayKafkaTemplate;
+        if (byteArrayTemplate != null) {
+            byteArrayTemplate.getProducerFactory().reset();
+        }
+    }
+
     private KafkaTemplate<String, byte[]> resolveByteArrayTemplate() {
         KafkaTemplate<String, byte[]> template = this.byteArrayKafkaTemplate;
         if (template != null) {
@@ -0,0 +1,51 @@
+package com.sitionix.forgeit.kafka.internal.config;
+
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * Single-node KRaft broker running inside the test JVM, wrapped so it can be
+ * shared through the container registry like a Testcontainer. The broker comes
+ * from {@code spring-kafka-test}, which consumers add to their test classpath.
+ */
+final class EmbeddedKafkaServer implements AutoCloseable {
+
+    private static final String BROKER_CLASS = "org.springframework.kafka.test.EmbeddedKafkaKraftBroker";
+
+    private final EmbeddedKafkaKraftBroker broker;
+
+    private EmbeddedKafkaServer(final EmbeddedKafkaKraftBroker broker) {
+        this.broker = broker;
+    }
+
+    static boolean isAvailable() {
+        return ClassUtils.isPresent(BROKER_CLASS, EmbeddedKafkaServer.class.getClassLoader());
+    }
+
+    static EmbeddedKafkaServer start(final int partitions, final List<String> topics) {
+        final EmbeddedKafkaKraftBroker broker =
+                new EmbeddedKafkaKraftBroker(1, partitions, topics.toArray(String[]::new));
+        try {
+            broker.afterPropertiesSet();
+        } catch (final RuntimeException ex) {
+            try {
+                broker.destroy();
+            } catch (final RuntimeException cleanupEx) {
+                ex.addSuppressed(cleanupEx);
+            }
+            throw ex;
+        }
+        return new EmbeddedKafkaServer(broker);
+    }
+
+    String getBootstrapServers() {
+        return this.broker.getBrokersAsString();
+    }
+
+    @Override
+    public void close() {
+        this.broker.destroy();
+    }
+}
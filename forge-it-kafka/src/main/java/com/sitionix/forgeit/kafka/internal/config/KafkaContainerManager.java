@@ -1,41 +1,74 @@
 package com.sitionix.forgeit.kafka.internal.config;
 
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.sitionix.forgeit.core.internal.container.ContainerEndpoint;
+import com.sitionix.forgeit.core.internal.container.ContainerNetwork;
+import com.sitionix.forgeit.core.internal.container.ContainerProfile;
+import com.sitionix.forgeit.core.internal.container.ContainerReuse;
+import com.sitionix.forgeit.core.internal.container.LazyContainer;
+import com.sitionix.forgeit.core.internal.container.SharedContainerRegistry;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.ApplicationStartupAware;
 import org.springframework.context.SmartLifecycle;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.MapPropertySource;
 import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.testcontainers.DockerClientFactory;
 import org.testcontainers.containers.KafkaContainer;
 import org.testcontainers.utility.DockerImageName;
 
 import java.time.Duration;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
-public final class KafkaContainerManager implements InitializingBean, SmartLifecycle, DisposableBean {
+public final class KafkaContainerManager
+        implements InitializingBean, ApplicationStartupAware, SmartLifecycle, DisposableBean, LazyContainer {
 
     private static final String PROPERTY_SOURCE_NAME = "forgeItKafka";
     private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
     private static final int STARTUP_ATTEMPTS = 3;
+    private static final String DATA_DIRECTORY = "/var/lib/kafka/data";
+    private static final int EPHEMERAL_SEGMENT_BYTES = 16 * 1024 * 1024;
+    private static final int BROKER_PORT = 9092;
+    private static final String FEATURE_PACKAGE = "com.sitionix.forgeit.kafka.";
 
     private final ConfigurableEnvironment environment;
     private final KafkaProperties properties;
 
+    private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+
+    private SharedContainerRegistry.Lease<KafkaContainer> lease;
     private KafkaContainer container;
+    private SharedContainerRegistry.Lease<EmbeddedKafkaServer> embeddedLease;
     private String bootstrapServers;
     private volatile boolean running;
 
+    @Override
+    public void setApplicationStartup(final ApplicationStartup applicationStartup) {
+        this.applicationStartup = applicationStartup;
+    }
+
     @Override
     public void afterPropertiesSet() {
-        this.start();
+        final StartupStep step = this.applicationStartup.start("forge-it.container.start")
+                .tag("module", "kafka");
+        try {
+            this.start();
+        } finally {
+            step.end();
+        }
     }
 
     @Override
@@ -49,6 +82,8 @@ public final class KafkaContainerManager implements InitializingBean, SmartLifec
         final KafkaProperties.Mode mode = this.requireMode();
         if (mode == KafkaProperties.Mode.EXTERNAL) {
             this.initialiseExternal();
+        } else if (mode == KafkaProperties.Mode.EMBEDDED) {
+            this.startEmbedded();
         } else {
             this.startInternal();
         }
@@ -91,12 +126,44 @@ public final class KafkaContainerManager implements InitializingBean, SmartLifec
         this.stop();
     }
 
+    @Override
+    public boolean serves(final Class<?> featureType) {
+        return featureType.getName().startsWith(FEATURE_PACKAGE);
+    }
+
+    @Override
+    public void ensureStarted() {
+        if (this.lease == null || this.container != null) {
+            return;
+        }
+        try {
+            this.container = this.lease.container();
+        } catch (final RuntimeException ex) {
+            throw new IllegalStateException("Failed to start Kafka Testcontainer", ex);
+        }
+        final String startedServers = this.lazyBootstrapServers();
+        if (!startedServers.equals(this.bootstrapServers)) {
+            this.bootstrapServers = startedServers;
+            this.publishEnvironment();
+        }
+    }
+
+    @Override
+    public boolean isAwaitingFirstUse() {
+        return this.lease != null && !this.lease.isStarted();
+    }
+
     private void cleanupResources() {
         this.removeEnvironment();
-        if (this.container != null) {
-            this.container.stop();
-            this.container = null;
+        if (this.lease != null) {
+            this.lease.release();
+            this.lease = null;
+        }
+        if (this.embeddedLease != null) {
+            this.embeddedLease.release();
+            this.embeddedLease = null;
         }
+        this.container = null;
         this.bootstrapServers = null;
     }
 
@@ -174,20 +241,192 @@ public final class KafkaContainerManager implements InitializingBean, SmartLifec
         this.bootstrapServers = configuredServers;
     }
 
+    /**
+     * Starts the shared container or embedded broker ahead of the context refresh
+     * when the module is enabled in internal or embedded mode. The returned handle
+     * keeps it alive until this manager acquires its own lease during the refresh.
+     */
+    AutoCloseable prestart() {
+        if (!this.isEnabled()) {
+            return () -> {
+            };
+        }
+        final KafkaProperties.Mode mode = this.requireMode();
+        if (mode == KafkaProperties.Mode.EMBEDDED) {
+            return this.acquireEmbedded();
+        }
+        if (mode != KafkaProperties.Mode.INTERNAL || this.isLazy()) {
+            return () -> {
+            };
+        }
+        return this.acquireContainer();
+    }
+
+    private void startEmbedded() {
+        try {
+            this.embeddedLease = this.acquireEmbedded();
+            this.bootstrapServers = this.embeddedLease.container().getBootstrapServers();
+        } catch (final RuntimeException ex) {
+            this.cleanupResources();
+            throw new IllegalStateException("Failed to start embedded Kafka broker", ex);
+        }
+    }
+
+    /**
+     * Shares one in-JVM KRaft broker per partition count and topic list; the
+     * configured topics are created before the broker is handed out.
+     */
+    private SharedContainerRegistry.Lease<EmbeddedKafkaServer> acquireEmbedded() {
+        if (!EmbeddedKafkaServer.isAvailable()) {
+            throw new IllegalStateException("forge-it.modules.kafka.mode=embedded requires "
+                    + "org.springframework.kafka:spring-kafka-test on the test classpath");
+        }
+        final KafkaProperties.Embedded embeddedConfig = this.properties.getEmbedded();
+        final int partitions = embeddedConfig == null || embeddedConfig.getPartitions() == null
+                ? 1
+                : embeddedConfig.getPartitions();
+        if (partitions <= 0) {
+            throw new IllegalStateException("forge-it.modules.kafka.embedded.partitions must be positive");
+        }
+        final List<String> topics = embeddedConfig == null || embeddedConfig.getTopics() == null
+                ? List.of()
+                : embeddedConfig.getTopics().stream().filter(topic -> !topic.isBlank()).distinct().sorted().toList();
+        return SharedContainerRegistry.acquire(SharedContainerRegistry.key("kafka", "embedded", partitions, topics),
+                () -> EmbeddedKafkaServer.start(partitions, topics));
+    }
+
+    /**
+     * @return {@code true} when the internal container should only start once a
+     * test first uses Kafka; reuse mode always starts eagerly
+     */
+    private boolean isLazy() {
+        final KafkaProperties.Container containerConfig = this.properties.getContainer();
+        return containerConfig != null
+                && Boolean.TRUE.equals(containerConfig.getLazy())
+                && !Boolean.TRUE.equals(containerConfig.getReuse());
+    }
+
     private void startInternal() {
+        if (this.isLazy()) {
+            this.deferInternal();
+            return;
+        }
+        try {
+            this.lease = this.acquireContainer();
+            this.container = this.lease.container();
+            final KafkaContainer started = this.container;
+            final ContainerEndpoint endpoint = ContainerEndpoint.resolve(this.requireContainer().getNetwork(),
+                    started.getHost(), started.getMappedPort(KafkaContainer.KAFKA_PORT),
+                    () -> bridgeAddress(started.getContainerInfo()), BROKER_PORT);
+            this.bootstrapServers = endpoint.host().equals(started.getHost())
+                    ? started.getBootstrapServers()
+                    : "PLAINTEXT://" + endpoint.host() + ":" + endpoint.port();
+        } catch (final RuntimeException ex) {
+            this.cleanupResources();
+            throw new IllegalStateException("Failed to start Kafka Testcontainer", ex);
+        }
+    }
+
+    /**
+     * Registers for the shared container without starting it. The broker is later
+     * bound to a host port reserved now, so the bootstrap servers can be published
+     * before the first test needs them.
+     */
+    private void deferInternal() {
+        final KafkaProperties.Container containerConfig = this.requireContainer();
+        final String image = containerConfig.getImage();
+        final ContainerProfile profile = containerConfig.getProfile();
+        try {
+            this.lease = SharedContainerRegistry.acquireLazily(
+                    SharedContainerRegistry.key("kafka", image, false, profile, "lazy"),
+                    hostPort -> this.createContainer(image, false, profile, null, hostPort));
+            this.bootstrapServers = this.lazyBootstrapServers();
+        } catch (final RuntimeException ex) {
+            this.cleanupResources();
+            throw new IllegalStateException("Failed to prepare lazy Kafka Testcontainer", ex);
+        }
+    }
+
+    private String lazyBootstrapServers() {
+        return "PLAINTEXT://" + DockerClientFactory.instance().dockerHostIpAddress() + ":" + this.lease.reservedPort();
+    }
+
+    private SharedContainerRegistry.Lease<KafkaContainer> acquireContainer() {
+        final KafkaProperties.Container containerConfig = this.requireContainer();
+        final String image = containerConfig.getImage();
+        final boolean reuse = Boolean.TRUE.equals(containerConfig.getReuse());
+        final ContainerProfile profile = containerConfig.getProfile();
+        final ContainerNetwork network = containerConfig.getNetwork();
+        return SharedContainerRegistry.acquire(SharedContainerRegistry.key("kafka", image, reuse, profile, network),
+                () -> this.createContainer(image, reuse, profile, network, null), reuse);
+    }
+
+    private KafkaProperties.Container requireContainer() {
         final KafkaProperties.Container containerConfig = this.properties.getContainer();
         if (containerConfig == null || containerConfig.getImage() == null || containerConfig.getImage().isBlank()) {
             throw new IllegalStateException("forge-it.modules.kafka.container.image must be configured for internal mode");
         }
+        return containerConfig;
+    }
+
+    private KafkaContainer createContainer(final String image,
+                                           final boolean reuse,
+                                           final ContainerProfile profile,
+                                           final ContainerNetwork network,
+                                           final Integer hostPort) {
+        final KafkaContainer created = ContainerNetwork.isDirect(network)
+                ? new DirectKafkaContainer(DockerImageName.parse(image))
+                : new KafkaContainer(DockerImageName.parse(image));
+        if (hostPort != null) {
+            created.setPortBindings(List.of(hostPort + ":" + KafkaContainer.KAFKA_PORT));
+        }
+        created.withStartupAttempts(STARTUP_ATTEMPTS);
+        created.withStartupTimeout(STARTUP_TIMEOUT);
+        if (ContainerProfile.isEphemeral(profile)) {
+            created.withTmpFs(Map.of(DATA_DIRECTORY, "rw"))
+                    .withEnv("KAFKA_LOG_DIRS", DATA_DIRECTORY)
+                    .withEnv("KAFKA_LOG_SEGMENT_BYTES", String.valueOf(EPHEMERAL_SEGMENT_BYTES))
+                    .withEnv("KAFKA_LOG_CLEANER_ENABLE", "false");
+        }
+        if (reuse) {
+            created.withReuse(true)
+                    .withLabel(ContainerReuse.CONFIG_HASH_LABEL, ContainerReuse.configurationHash(image, profile, network))
+                    .withLabel(ContainerReuse.VERSION_LABEL, ContainerReuse.forgeItVersion());
+        }
         try {
-            this.container = new KafkaContainer(DockerImageName.parse(containerConfig.getImage()));
-            this.container.withStartupAttempts(STARTUP_ATTEMPTS);
-            this.container.withStartupTimeout(STARTUP_TIMEOUT);
-            this.container.start();
-            this.bootstrapServers = this.container.getBootstrapServers();
+            created.start();
         } catch (final RuntimeException ex) {
-            this.cleanupResources();
-            throw new IllegalStateException("Failed to start Kafka Testcontainer", ex);
+            created.stop();
+            throw ex;
+        }
+        return created;
+    }
+
+    private static String bridgeAddress(final InspectContainerResponse containerInfo) {
+        return containerInfo.getNetworkSettings().getNetworks().values().stream()
+                .map(com.github.dockerjava.api.model.ContainerNetwork::getIpAddress)
+                .filter(StringUtils::hasText)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Advertises the inter-broker listener on the container's bridge address
+     * rather than its hostname, so clients bootstrapping from that address keep
+     * talking to the broker directly.
+     */
+    private static final class DirectKafkaContainer extends KafkaContainer {
+
+        private DirectKafkaContainer(final DockerImageName image) {
+            super(image);
+        }
+
+        @Override
+        protected String brokerAdvertisedListener(final InspectContainerResponse containerInfo) {
+            final String address = bridgeAddress(containerInfo);
+            return address == null
+                    ? super.brokerAdvertisedListener(containerInfo)
+                    : "BROKER://" + address + ":" + BROKER_PORT;
         }
     }
 }
@@ -3,18 +3,34 @@ package com.sitionix.forgeit.kafka.internal.config;
 import com.sitionix.forgeit.core.internal.feature.FeatureInstallationContext;
 import com.sitionix.forgeit.core.internal.feature.FeatureInstaller;
 import com.sitionix.forgeit.kafka.api.KafkaSupport;
+import com.sitionix.forgeit.kafka.internal.adapter.KafkaTemplateConsumerAdapter;
+import com.sitionix.forgeit.kafka.internal.adapter.KafkaTemplatePublisherAdapter;
+import com.sitionix.forgeit.kafka.internal.cleaner.KafkaTopicCleaner;
+import com.sitionix.forgeit.kafka.internal.loader.KafkaLoader;
+import com.sitionix.forgeit.kafka.internal.service.KafkaMessagingFacade;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.AnnotatedBeanDefinitionReader;
-import org.springframework.context.annotation.ComponentScan;
-import org.springframework.context.annotation.Configuration;
 
 /**
  * Registers the Kafka feature infrastructure into the test application context.
  */
 public final class KafkaFeatureInstaller implements FeatureInstaller {
 
+    static final Class<?>[] COMPONENTS = {
+            KafkaProperties.class,
+            KafkaContainerManager.class,
+            KafkaPropertiesDependsOnContainer.class,
+            KafkaClientConfiguration.class,
+            KafkaTemplateConsumerAdapter.class,
+            KafkaTemplatePublisherAdapter.class,
+            KafkaTopicCleaner.class,
+            KafkaLoader.class,
+            KafkaMessagingFacade.class
+    };
+
     @Override
     public Class<? extends KafkaSupport> featureType() {
         return KafkaSupport.class;
@@ -28,14 +44,16 @@ public final class KafkaFeatureInstaller implements FeatureInstaller {
         }
         registry.registerBeanDefinition(KafkaFeatureMarker.class.getName(),
                 new RootBeanDefinition(KafkaFeatureMarker.class));
-        new AnnotatedBeanDefinitionReader(registry).register(KafkaFeatureConfiguration.class);
+        new AnnotatedBeanDefinitionReader(registry).register(COMPONENTS);
     }
 
-    static final class KafkaFeatureMarker {
+    @Override
+    public AutoCloseable bootstrap(final FeatureInstallationContext context) {
+        final KafkaProperties properties = Binder.get(context.environment())
+                .bindOrCreate(KafkaProperties.PROPERTY_PREFIX, KafkaProperties.class);
+        return new KafkaContainerManager(null, properties).prestart();
     }
 
-    @Configuration(proxyBeanMethods = false)
-    @ComponentScan(basePackages = "com.sitionix.forgeit.kafka.internal")
-    static class KafkaFeatureConfiguration {
+    static final class KafkaFeatureMarker {
     }
 }
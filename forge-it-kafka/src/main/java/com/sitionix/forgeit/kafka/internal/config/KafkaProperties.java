@@ -1,9 +1,13 @@
 package com.sitionix.forgeit.kafka.internal.config;
 
+import com.sitionix.forgeit.core.internal.container.ContainerNetwork;
+import com.sitionix.forgeit.core.internal.container.ContainerProfile;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Configuration model for Kafka settings exposed via {@code forge-it.modules.kafka}.
  */
@@ -20,10 +24,16 @@ public final class KafkaProperties {
     private Path path;
     private Consumer consumer;
     private Container container;
+    private Embedded embedded;
 
     public enum Mode {
         INTERNAL,
-        EXTERNAL
+        EXTERNAL,
+        /**
+         * Runs a single-node KRaft broker inside the test JVM; requires
+         * {@code spring-kafka-test} on the test classpath.
+         */
+        EMBEDDED
     }
 
     @Data
@@ -46,5 +56,15 @@ public final class KafkaProperties {
     @Data
     public static class Container {
         private String image;
+        private Boolean reuse;
+        private ContainerProfile profile;
+        private Boolean lazy;
+        private ContainerNetwork network;
+    }
+
+    @Data
+    public static class Embedded {
+        private Integer partitions;
+        private List<String> topics;
     }
 }
@@ -0,0 +1,26 @@
+package com.sitionix.forgeit.kafka.internal.config;
+
+import com.sitionix.forgeit.kafka.config.KafkaDefaultsEnvironmentPostProcessor;
+import com.sitionix.forgeit.kafka.internal.executor.KafkaResetTestExecutionListener;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Runtime hints for the Kafka module: its default configuration, the types
+ * instantiated from {@code spring.factories}, and the properties bound outside
+ * the context to start its infrastructure early.
+ */
+public final class KafkaRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(final RuntimeHints hints, final ClassLoader classLoader) {
+        hints.resources().registerPattern("forge-it-kafka-default.yml");
+        hints.reflection()
+                .registerType(KafkaDefaultsEnvironmentPostProcessor.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+                .registerType(KafkaFeatureInstaller.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+                .registerType(KafkaResetTestExecutionListener.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), KafkaProperties.class);
+    }
+}
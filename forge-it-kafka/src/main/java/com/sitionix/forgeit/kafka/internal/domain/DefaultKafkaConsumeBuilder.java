@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sitionix.forgeit.core.internal.jfr.KafkaEvent;
 import com.sitionix.forgeit.kafka.api.KafkaConsumeBuilder;
 import com.sitionix.forgeit.kafka.api.KafkaContract;
 import com.sitionix.forgeit.kafka.internal.loader.KafkaLoader;
@@ -17,6 +18,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static java.util.Objects.nonNull;
 
@@ -281,13 +283,22 @@ public final class DefaultKafkaConsumeBuilder<T> implements KafkaConsumeBuilder<
 
     private Object consume() {
         if (this.consumedPayload == null) {
-            this.consumedPayload = this.consumerPort.consume(this.contract, this.timeout);
+            this.consumedPayload = this.recordConsume(() -> this.consumerPort.consume(this.contract, this.timeout));
         }
         return this.consumedPayload;
     }
 
     private Object consumeIfPresent() {
-        return this.consumerPort.consumeIfPresent(this.contract, this.timeout);
+        return this.recordConsume(() -> this.consumerPort.consumeIfPresent(this.contract, this.timeout));
+    }
+
+    private Object recordConsume(final Supplier<Object> consumer) {
+        final KafkaEvent event = new KafkaEvent(KafkaEvent.CONSUME, this.contract.getTopic());
+        return event.record(() -> {
+            final Object payload = consumer.get();
+            event.setPayload(payload);
+            return payload;
+        });
     }
 
     private Object readRoot(final Object payload) {
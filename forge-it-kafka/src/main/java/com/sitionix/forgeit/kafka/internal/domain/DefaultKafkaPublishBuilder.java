@@ -2,12 +2,14 @@ package com.sitionix.forgeit.kafka.internal.domain;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sitionix.forgeit.core.internal.jfr.KafkaEvent;
 import com.sitionix.forgeit.kafka.api.KafkaContract;
 import com.sitionix.forgeit.kafka.api.KafkaPublishBuilder;
 import com.sitionix.forgeit.kafka.internal.loader.KafkaLoader;
 import com.sitionix.forgeit.kafka.internal.port.KafkaPublisherPort;
 import lombok.RequiredArgsConstructor;
 import org.awaitility.Awaitility;
+import org.awaitility.core.ThrowingRunnable;
 
 import java.time.Duration;
 import java.util.ArrayList;
@@ -139,19 +141,26 @@ public final class DefaultKafkaPublishBuilder<T> implements KafkaPublishBuilder<
         if (verifier == null) {
             return;
         }
+        final KafkaEvent event = new KafkaEvent(KafkaEvent.AWAIT, this.contract.getTopic());
+        event.run(() -> this.awaitVerified(timeout, () -> verifier.accept(outcome.root)));
+    }
+
+    private void awaitVerified(final Duration timeout, final ThrowingRunnable assertion) {
         if (timeout != null) {
             Awaitility.await()
                     .atMost(timeout)
-                    .untilAsserted(() -> verifier.accept(outcome.root));
+                    .untilAsserted(assertion);
             return;
         }
         Awaitility.await()
-                .untilAsserted(() -> verifier.accept(outcome.root));
+                .untilAsserted(assertion);
     }
 
     private PublishOutcome<T> publishMessage() {
         final PublishOutcome<T> outcome = this.createPublishOutcome();
-        this.publisherPort.publish(this.contract, outcome.payloadValue, this.key);
+        final KafkaEvent event = new KafkaEvent(KafkaEvent.PUBLISH, this.contract.getTopic());
+        event.setPayload(outcome.payloadValue);
+        event.run(() -> this.publisherPort.publish(this.contract, outcome.payloadValue, this.key));
         return outcome;
     }
 
@@ -1,15 +1,30 @@
 package com.sitionix.forgeit.kafka.internal.executor;
 
+import com.sitionix.forgeit.core.internal.jfr.CleanupEvent;
+import com.sitionix.forgeit.kafka.internal.adapter.KafkaTemplateConsumerAdapter;
+import com.sitionix.forgeit.kafka.internal.adapter.KafkaTemplatePublisherAdapter;
 import com.sitionix.forgeit.kafka.internal.cleaner.KafkaTopicCleaner;
+import com.sitionix.forgeit.kafka.internal.config.KafkaContainerManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.test.context.TestContext;
 import org.springframework.test.context.support.AbstractTestExecutionListener;
 
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReference;
+
 public final class KafkaResetTestExecutionListener extends AbstractTestExecutionListener {
 
     private static final Logger log = LoggerFactory.getLogger(KafkaResetTestExecutionListener.class);
 
+    /**
+     * Context of the most recent test; the Spring context cache may hold others.
+     */
+    private static final AtomicReference<WeakReference<ApplicationContext>> ACTIVE_CONTEXT =
+            new AtomicReference<>(new WeakReference<>(null));
+
     @Override
     public int getOrder() {
         return 3050;
@@ -17,9 +32,29 @@ public final class KafkaResetTestExecutionListener extends AbstractTestExecution
 
     @Override
     public void beforeTestMethod(final TestContext testContext) {
+        this.releaseInactiveContextClients(testContext.getApplicationContext());
         this.resetSafely(testContext);
     }
 
+    /**
+     * Closes the Kafka clients of the previously active context when a test runs
+     * against a different cached context, so idle contexts do not hold broker
+     * connections and consumer group memberships. They reconnect on next use.
+     */
+    private void releaseInactiveContextClients(final ApplicationContext current) {
+        final ApplicationContext previous = ACTIVE_CONTEXT.getAndSet(new WeakReference<>(current)).get();
+        if (previous == null || previous == current
+                || previous instanceof final ConfigurableApplicationContext configurable && !configurable.isActive()) {
+            return;
+        }
+        try {
+            previous.getBeanProvider(KafkaTemplateConsumerAdapter.class).ifAvailable(KafkaTemplateConsumerAdapter::releaseClients);
+            previous.getBeanProvider(KafkaTemplatePublisherAdapter.class).ifAvailable(KafkaTemplatePublisherAdapter::releaseClients);
+        } catch (final RuntimeException ex) {
+            log.warn("Failed to release Kafka clients of an inactive test context.", ex);
+        }
+    }
+
     private void resetSafely(final TestContext testContext) {
         final Throwable testException = testContext.getTestException();
         try {
@@ -39,6 +74,15 @@ public final class KafkaResetTestExecutionListener extends AbstractTestExecution
             log.debug("Skipping Kafka reset because Kafka support is not registered.");
             return;
         }
-        testContext.getApplicationContext().getBean(KafkaTopicCleaner.class).reset();
+        final KafkaContainerManager containerManager =
+                testContext.getApplicationContext().getBeanProvider(KafkaContainerManager.class).getIfAvailable();
+        if (containerManager != null && containerManager.isAwaitingFirstUse()) {
+            log.debug("Skipping Kafka reset because the lazy Kafka container has not been started.");
+            return;
+        }
+        final CleanupEvent event = new CleanupEvent(KafkaResetTestExecutionListener.class.getSimpleName(),
+                KafkaTopicCleaner.class.getName(),
+                testContext.getTestClass().getName());
+        event.run(() -> testContext.getApplicationContext().getBean(KafkaTopicCleaner.class).reset());
     }
 }
@@ -0,0 +1,52 @@
+package com.sitionix.forgeit.kafka.internal.config;
+
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KafkaContainerManagerTests {
+
+    @Test
+    void shouldStartEmbeddedBrokerWithConfiguredTopics() throws Exception {
+        final KafkaProperties.Embedded embedded = new KafkaProperties.Embedded();
+        embedded.setPartitions(2);
+        embedded.setTopics(List.of("forge-it-orders", "forge-it-users"));
+        final KafkaProperties properties = new KafkaProperties();
+        properties.setEnabled(true);
+        properties.setMode(KafkaProperties.Mode.EMBEDDED);
+        properties.setEmbedded(embedded);
+
+        final MockEnvironment environment = new MockEnvironment();
+        final KafkaContainerManager manager = new KafkaContainerManager(environment, properties);
+
+        manager.afterPropertiesSet();
+        try {
+            final String bootstrapServers = environment.getProperty("spring.kafka.bootstrap-servers");
+            assertThat(bootstrapServers)
+                    .isNotBlank()
+                    .isEqualTo(environment.getProperty("forge-it.modules.kafka.bootstrap-servers"));
+
+            try (AdminClient admin = AdminClient.create(
+                    Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers))) {
+                final Set<String> topics = admin.listTopics().names().get(30, TimeUnit.SECONDS);
+                assertThat(topics).contains("forge-it-orders", "forge-it-users");
+                assertThat(admin.describeTopics(List.of("forge-it-orders")).allTopicNames()
+                        .get(30, TimeUnit.SECONDS)
+                        .get("forge-it-orders")
+                        .partitions()).hasSize(2);
+            }
+        } finally {
+            manager.destroy();
+        }
+
+        assertThat(environment.getProperty("spring.kafka.bootstrap-servers")).isNull();
+    }
+}
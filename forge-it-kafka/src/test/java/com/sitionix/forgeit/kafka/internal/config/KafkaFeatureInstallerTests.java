@@ -0,0 +1,13 @@
+package com.sitionix.forgeit.kafka.internal.config;
+
+import org.junit.jupiter.api.Test;
+
+import static com.sitionix.forgeit.testing.FeatureInstallerAssertions.assertRegistersScannedComponents;
+
+class KafkaFeatureInstallerTests {
+
+    @Test
+    void shouldRegisterTheComponentsPackageScanningWouldFind() {
+        assertRegistersScannedComponents(new KafkaFeatureInstaller(), "com.sitionix.forgeit.kafka.internal");
+    }
+}
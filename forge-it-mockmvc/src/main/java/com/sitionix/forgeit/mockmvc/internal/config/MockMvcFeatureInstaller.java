@@ -3,17 +3,23 @@ package com.sitionix.forgeit.mockmvc.internal.config;
 import com.sitionix.forgeit.core.internal.feature.FeatureInstallationContext;
 import com.sitionix.forgeit.core.internal.feature.FeatureInstaller;
 import com.sitionix.forgeit.mockmvc.api.MockMvcSupport;
+import com.sitionix.forgeit.mockmvc.internal.journal.MockMvcJournal;
+import com.sitionix.forgeit.mockmvc.internal.loader.MockMvcLoader;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.AnnotatedBeanDefinitionReader;
-import org.springframework.context.annotation.ComponentScan;
-import org.springframework.context.annotation.Configuration;
 
 /**
  * Registers the Mock MVC feature infrastructure into the test application context.
  */
 public final class MockMvcFeatureInstaller implements FeatureInstaller {
 
+    static final Class<?>[] COMPONENTS = {
+            MockMvcProperties.class,
+            MockMvcJournal.class,
+            MockMvcLoader.class
+    };
+
     @Override
     public Class<? extends MockMvcSupport> featureType() {
         return MockMvcSupport.class;
@@ -25,11 +31,6 @@ public final class MockMvcFeatureInstaller implements FeatureInstaller {
         if (!(applicationContext instanceof BeanDefinitionRegistry registry)) {
             throw new IllegalStateException("Mock MVC installer requires a BeanDefinitionRegistry context");
         }
-        new AnnotatedBeanDefinitionReader(registry).register(MockMvcFeatureConfiguration.class);
-    }
-
-    @Configuration(proxyBeanMethods = false)
-    @ComponentScan(basePackages = "com.sitionix.forgeit.mockmvc.internal")
-    static class MockMvcFeatureConfiguration {
+        new AnnotatedBeanDefinitionReader(registry).register(COMPONENTS);
     }
 }
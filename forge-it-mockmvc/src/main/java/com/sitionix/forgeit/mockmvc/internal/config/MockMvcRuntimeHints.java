@@ -0,0 +1,21 @@
+package com.sitionix.forgeit.mockmvc.internal.config;
+
+import com.sitionix.forgeit.mockmvc.config.MockMvcDefaultsEnvironmentPostProcessor;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Runtime hints for the Mock MVC module: its default configuration, the types
+ * instantiated from {@code spring.factories}.
+ */
+public final class MockMvcRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(final RuntimeHints hints, final ClassLoader classLoader) {
+        hints.resources().registerPattern("forge-it-mockmvc-default.yml");
+        hints.reflection()
+                .registerType(MockMvcDefaultsEnvironmentPostProcessor.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+                .registerType(MockMvcFeatureInstaller.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+    }
+}
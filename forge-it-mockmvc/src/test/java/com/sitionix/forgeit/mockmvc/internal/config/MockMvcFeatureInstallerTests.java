@@ -0,0 +1,13 @@
+package com.sitionix.forgeit.mockmvc.internal.config;
+
+import org.junit.jupiter.api.Test;
+
+import static com.sitionix.forgeit.testing.FeatureInstallerAssertions.assertRegistersScannedComponents;
+
+class MockMvcFeatureInstallerTests {
+
+    @Test
+    void shouldRegisterTheComponentsPackageScanningWouldFind() {
+        assertRegistersScannedComponents(new MockMvcFeatureInstaller(), "com.sitionix.forgeit.mockmvc.internal");
+    }
+}
@@ -2,6 +2,7 @@ package com.sitionix.forgeit.mongodb.internal.cleaner;
 
 import com.sitionix.forgeit.domain.contract.DbContract;
 import com.sitionix.forgeit.domain.contract.clean.DbCleaner;
+import com.sitionix.forgeit.mongodb.internal.config.MongoContainerManager;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.stereotype.Component;
 
@@ -11,13 +12,18 @@ import java.util.List;
 public final class MongoCollectionCleaner implements DbCleaner {
 
     private final MongoTemplate mongoTemplate;
+    private final MongoContainerManager containerManager;
 
-    public MongoCollectionCleaner(final MongoTemplate mongoTemplate) {
+    public MongoCollectionCleaner(final MongoTemplate mongoTemplate, final MongoContainerManager containerManager) {
         this.mongoTemplate = mongoTemplate;
+        this.containerManager = containerManager;
     }
 
     @Override
     public void clearTables(final List<DbContract<?>> contracts) {
+        if (this.containerManager.isAwaitingFirstUse()) {
+            return;
+        }
         this.reset();
     }
 
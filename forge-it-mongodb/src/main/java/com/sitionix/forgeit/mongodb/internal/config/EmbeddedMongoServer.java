@@ -0,0 +1,119 @@
+package com.sitionix.forgeit.mongodb.internal.config;
+
+import de.flapdoodle.embed.mongo.commands.MongodArguments;
+import de.flapdoodle.embed.mongo.commands.ServerAddress;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.ImmutableMongod;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.embed.mongo.types.DatabaseDir;
+import de.flapdoodle.reverse.TransitionWalker;
+import de.flapdoodle.reverse.transitions.Start;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * {@code mongod} process started from binaries downloaded and cached by
+ * {@code de.flapdoodle.embed.mongo}, wrapped so it can be shared through the
+ * container registry like a Testcontainer. The server listens on a random
+ * loopback port and keeps its database directory on tmpfs when {@code /dev/shm}
+ * is available.
+ */
+final class EmbeddedMongoServer implements AutoCloseable {
+
+    private static final String MONGOD_CLASS = "de.flapdoodle.embed.mongo.transitions.Mongod";
+    private static final Path TMPFS = Path.of("/dev/shm");
+
+    private final TransitionWalker.ReachedState<RunningMongodProcess> process;
+    private final Path databaseDirectory;
+
+    private EmbeddedMongoServer(final TransitionWalker.ReachedState<RunningMongodProcess> process,
+                                final Path databaseDirectory) {
+        this.process = process;
+        this.databaseDirectory = databaseDirectory;
+    }
+
+    static boolean isAvailable() {
+        return isAvailable(EmbeddedMongoServer.class.getClassLoader());
+    }
+
+    static boolean isAvailable(final ClassLoader classLoader) {
+        return ClassUtils.isPresent(MONGOD_CLASS, classLoader);
+    }
+
+    /**
+     * @param version       MongoDB version such as {@code 7.0}
+     * @param storageEngine optional storage engine, e.g. {@code inMemory} for
+     *                      Enterprise binaries; the server default when blank
+     */
+    static EmbeddedMongoServer start(final String version, final String storageEngine) {
+        final Version.Main mongoVersion = resolveVersion(version);
+        final MongodArguments arguments = StringUtils.hasText(storageEngine)
+                ? MongodArguments.defaults().withStorageEngine(storageEngine)
+                : MongodArguments.defaults();
+        ImmutableMongod mongod = Mongod.instance()
+                .withMongodArguments(Start.to(MongodArguments.class).initializedWith(arguments));
+        Path databaseDirectory = null;
+        try {
+            if (Files.isDirectory(TMPFS) && Files.isWritable(TMPFS)) {
+                databaseDirectory = Files.createTempDirectory(TMPFS, "forge-it-mongo-");
+                mongod = mongod.withDatabaseDir(Start.to(DatabaseDir.class)
+                        .initializedWith(DatabaseDir.of(databaseDirectory)));
+            }
+            return new EmbeddedMongoServer(mongod.start(mongoVersion), databaseDirectory);
+        } catch (final IOException ex) {
+            deleteDirectory(databaseDirectory);
+            throw new UncheckedIOException("Failed to prepare embedded MongoDB database directory", ex);
+        } catch (final RuntimeException ex) {
+            deleteDirectory(databaseDirectory);
+            throw ex;
+        }
+    }
+
+    String getHost() {
+        return this.serverAddress().getHost();
+    }
+
+    int getPort() {
+        return this.serverAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.process.close();
+        } finally {
+            deleteDirectory(this.databaseDirectory);
+        }
+    }
+
+    private ServerAddress serverAddress() {
+        return this.process.current().getServerAddress();
+    }
+
+    static Version.Main resolveVersion(final String version) {
+        try {
+            return Version.Main.valueOf("V" + version.trim().replace('.', '_'));
+        } catch (final IllegalArgumentException ex) {
+            throw new IllegalStateException(
+                    "forge-it.modules.mongodb.embedded.version '" + version + "' is not a supported MongoDB version", ex);
+        }
+    }
+
+    private static void deleteDirectory(final Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try {
+            FileSystemUtils.deleteRecursively(directory);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Failed to delete embedded MongoDB database directory " + directory, ex);
+        }
+    }
+}
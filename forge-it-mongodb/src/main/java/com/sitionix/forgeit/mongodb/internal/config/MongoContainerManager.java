@@ -1,14 +1,24 @@
 package com.sitionix.forgeit.mongodb.internal.config;
 
 import com.mongodb.ConnectionString;
+import com.sitionix.forgeit.core.internal.container.ContainerEndpoint;
+import com.sitionix.forgeit.core.internal.container.ContainerProfile;
+import com.sitionix.forgeit.core.internal.container.ContainerReuse;
+import com.sitionix.forgeit.core.internal.container.LazyContainer;
+import com.sitionix.forgeit.core.internal.container.SharedContainerRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.ApplicationStartupAware;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.MapPropertySource;
 import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.MongoDBContainer;
 import org.testcontainers.utility.DockerImageName;
 
@@ -18,28 +28,54 @@ import java.util.Objects;
 
 @RequiredArgsConstructor
 @Component
-public final class MongoContainerManager implements InitializingBean, DisposableBean {
+public final class MongoContainerManager
+        implements InitializingBean, ApplicationStartupAware, DisposableBean, LazyContainer {
 
     private static final String PROPERTY_SOURCE_NAME = "forgeItMongodb";
     private static final String DEFAULT_IMAGE = "mongo:7.0";
+    private static final String DATA_DIRECTORY = "/data/db";
+    private static final String REPLICA_SET = "docker-rs";
+    private static final int MONGO_PORT = 27017;
+    private static final String FEATURE_PACKAGE = "com.sitionix.forgeit.mongodb.";
 
     private final ConfigurableEnvironment environment;
     private final MongoProperties properties;
 
+    private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+
+    private SharedContainerRegistry.Lease<MongoDBContainer> lease;
     private MongoDBContainer container;
+    private SharedContainerRegistry.Lease<EmbeddedMongoServer> embeddedLease;
     private String uri;
     private String host;
     private Integer port;
     private String database;
 
+    @Override
+    public void setApplicationStartup(final ApplicationStartup applicationStartup) {
+        this.applicationStartup = applicationStartup;
+    }
+
     @Override
     public void afterPropertiesSet() {
+        final StartupStep step = this.applicationStartup.start("forge-it.container.start")
+                .tag("module", "mongodb");
+        try {
+            this.initialise();
+        } finally {
+            step.end();
+        }
+    }
+
+    private void initialise() {
         if (!this.isEnabled()) {
             return;
         }
         final MongoProperties.Mode mode = this.requireMode();
         if (mode == MongoProperties.Mode.EXTERNAL) {
             this.initialiseExternal();
+        } else if (mode == MongoProperties.Mode.EMBEDDED) {
+            this.startEmbedded();
         } else {
             this.startInternal();
         }
@@ -51,12 +87,66 @@ public final class MongoContainerManager implements InitializingBean, Disposable
         this.cleanupResources();
     }
 
+    @Override
+    public boolean serves(final Class<?> featureType) {
+        return featureType.getName().startsWith(FEATURE_PACKAGE);
+    }
+
+    @Override
+    public void ensureStarted() {
+        if (this.lease == null || this.container != null) {
+            return;
+        }
+        try {
+            this.container = this.lease.container();
+        } catch (final RuntimeException ex) {
+            throw new IllegalStateException("Failed to start MongoDB Testcontainer", ex);
+        }
+        if (this.lease.reservedPort() != this.port) {
+            this.resolveLazyEndpoint();
+            this.publishEnvironment();
+        }
+    }
+
+    @Override
+    public boolean isAwaitingFirstUse() {
+        return this.lease != null && !this.lease.isStarted();
+    }
+
+    /**
+     * @return {@code true} when the internal container runs in Testcontainers
+     * reuse mode and may therefore hold state from a previous test run.
+     */
+    boolean isReuseEnabled() {
+        final MongoProperties.Container containerConfig = this.resolveContainer();
+        return this.lease != null && containerConfig != null && Boolean.TRUE.equals(containerConfig.getReuse());
+    }
+
+    /**
+     * Runs a one-off initialisation step once per shared container or embedded
+     * server; in external mode it runs every time.
+     */
+    void initialiseOnce(final String marker, final Runnable action) {
+        if (this.lease != null) {
+            this.lease.runOnce(marker, action);
+        } else if (this.embeddedLease != null) {
+            this.embeddedLease.runOnce(marker, action);
+        } else {
+            action.run();
+        }
+    }
+
     private void cleanupResources() {
         this.removeEnvironment();
-        if (this.container != null) {
-            this.container.stop();
-            this.container = null;
+        if (this.lease != null) {
+            this.lease.release();
+            this.lease = null;
         }
+        if (this.embeddedLease != null) {
+            this.embeddedLease.release();
+            this.embeddedLease = null;
+        }
+        this.container = null;
         this.uri = null;
         this.host = null;
         this.port = null;
@@ -164,21 +254,183 @@ public final class MongoContainerManager implements InitializingBean, Disposable
         );
     }
 
+    /**
+     * Starts the shared container or embedded server ahead of the context refresh
+     * when the module is enabled in internal or embedded mode. The returned handle
+     * keeps it alive until this manager acquires its own lease during the refresh.
+     */
+    AutoCloseable prestart() {
+        if (!this.isEnabled()) {
+            return () -> {
+            };
+        }
+        final MongoProperties.Mode mode = this.requireMode();
+        if (mode == MongoProperties.Mode.EMBEDDED) {
+            return this.acquireEmbedded();
+        }
+        if (mode != MongoProperties.Mode.INTERNAL || this.isLazy()) {
+            return () -> {
+            };
+        }
+        return this.acquireContainer();
+    }
+
+    private void startEmbedded() {
+        final String resolvedDatabase = Objects.requireNonNullElse(this.requireConnection().getDatabase(), "forge-it");
+        try {
+            this.embeddedLease = this.acquireEmbedded();
+            final EmbeddedMongoServer server = this.embeddedLease.container();
+            this.host = server.getHost();
+            this.port = server.getPort();
+            this.database = resolvedDatabase;
+            this.uri = "mongodb://" + this.host + ":" + this.port + "/" + this.database;
+        } catch (final RuntimeException ex) {
+            this.cleanupResources();
+            throw new IllegalStateException("Failed to start embedded MongoDB", ex);
+        }
+    }
+
+    private SharedContainerRegistry.Lease<EmbeddedMongoServer> acquireEmbedded() {
+        requireEmbeddedServer(EmbeddedMongoServer.class.getClassLoader());
+        final MongoProperties.Embedded embeddedConfig = this.requireEmbedded();
+        final String version = embeddedConfig.getVersion();
+        final String storageEngine = embeddedConfig.getStorageEngine();
+        return SharedContainerRegistry.acquire(this.embeddedKey(),
+                () -> EmbeddedMongoServer.start(version, storageEngine));
+    }
+
+    static void requireEmbeddedServer(final ClassLoader classLoader) {
+        if (!EmbeddedMongoServer.isAvailable(classLoader)) {
+            throw new IllegalStateException("forge-it.modules.mongodb.mode=embedded requires "
+                    + "de.flapdoodle.embed:de.flapdoodle.embed.mongo on the test classpath");
+        }
+    }
+
+    /**
+     * Registry key of the embedded server; contexts share one {@code mongod} only
+     * when the version and storage engine match.
+     */
+    String embeddedKey() {
+        final MongoProperties.Embedded embeddedConfig = this.requireEmbedded();
+        return SharedContainerRegistry.key("mongodb", "embedded", embeddedConfig.getVersion(),
+                embeddedConfig.getStorageEngine());
+    }
+
+    private MongoProperties.Embedded requireEmbedded() {
+        final MongoProperties.Embedded embeddedConfig = this.properties.getEmbedded();
+        if (embeddedConfig == null || !StringUtils.hasText(embeddedConfig.getVersion())) {
+            throw new IllegalStateException("forge-it.modules.mongodb.embedded.version must be configured for embedded mode");
+        }
+        return embeddedConfig;
+    }
+
+    /**
+     * @return {@code true} when the internal container should only start once a
+     * test first uses MongoDB; reuse mode always starts eagerly
+     */
+    private boolean isLazy() {
+        final MongoProperties.Container containerConfig = this.resolveContainer();
+        return containerConfig != null
+                && Boolean.TRUE.equals(containerConfig.getLazy())
+                && !Boolean.TRUE.equals(containerConfig.getReuse());
+    }
+
     private void startInternal() {
         final MongoProperties.Connection connection = this.requireConnection();
-        final MongoProperties.Container containerConfig = this.resolveContainer();
         final String resolvedDatabase = Objects.requireNonNullElse(connection.getDatabase(), "forge-it");
+        if (this.isLazy()) {
+            this.deferInternal(resolvedDatabase);
+            return;
+        }
         try {
-            this.container = new MongoDBContainer(DockerImageName.parse(
-                    Objects.requireNonNullElse(containerConfig == null ? null : containerConfig.getImage(), DEFAULT_IMAGE)));
-            this.container.start();
-            this.host = this.container.getHost();
-            this.port = this.container.getMappedPort(27017);
+            this.lease = this.acquireContainer();
+            this.container = this.lease.container();
+            final MongoDBContainer started = this.container;
+            final MongoProperties.Container containerConfig = this.resolveContainer();
+            final ContainerEndpoint endpoint = ContainerEndpoint.resolve(
+                    containerConfig == null ? null : containerConfig.getNetwork(),
+                    started.getHost(), started.getMappedPort(MONGO_PORT), () -> bridgeAddress(started), MONGO_PORT);
+            this.host = endpoint.host();
+            this.port = endpoint.port();
             this.database = resolvedDatabase;
-            this.uri = this.container.getReplicaSetUrl(this.database);
+            this.uri = this.host.equals(started.getHost())
+                    ? started.getReplicaSetUrl(this.database)
+                    : "mongodb://" + this.host + ":" + this.port + "/" + this.database;
         } catch (final RuntimeException ex) {
             this.cleanupResources();
             throw new IllegalStateException("Failed to start MongoDB Testcontainer", ex);
         }
     }
+
+    /**
+     * Registers for the shared container without starting it. MongoDB is later
+     * bound to a host port reserved now, so the connection URI can be published
+     * before the first test needs it.
+     */
+    private void deferInternal(final String resolvedDatabase) {
+        final MongoProperties.Container containerConfig = this.resolveContainer();
+        final String image = Objects.requireNonNullElse(containerConfig.getImage(), DEFAULT_IMAGE);
+        final ContainerProfile profile = containerConfig.getProfile();
+        try {
+            this.lease = SharedContainerRegistry.acquireLazily(
+                    SharedContainerRegistry.key("mongodb", image, false, profile, "lazy"),
+                    hostPort -> this.createContainer(image, false, profile, hostPort));
+            this.database = resolvedDatabase;
+            this.resolveLazyEndpoint();
+        } catch (final RuntimeException ex) {
+            this.cleanupResources();
+            throw new IllegalStateException("Failed to prepare lazy MongoDB Testcontainer", ex);
+        }
+    }
+
+    private void resolveLazyEndpoint() {
+        this.host = DockerClientFactory.instance().dockerHostIpAddress();
+        this.port = this.lease.reservedPort();
+        this.uri = "mongodb://" + this.host + ":" + this.port + "/" + this.database;
+    }
+
+    private static String bridgeAddress(final GenericContainer<?> container) {
+        return container.getContainerInfo().getNetworkSettings().getNetworks().values().stream()
+                .map(com.github.dockerjava.api.model.ContainerNetwork::getIpAddress)
+                .filter(StringUtils::hasText)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private SharedContainerRegistry.Lease<MongoDBContainer> acquireContainer() {
+        final MongoProperties.Container containerConfig = this.resolveContainer();
+        final String image = Objects.requireNonNullElse(containerConfig == null ? null : containerConfig.getImage(), DEFAULT_IMAGE);
+        final boolean reuse = containerConfig != null && Boolean.TRUE.equals(containerConfig.getReuse());
+        final ContainerProfile profile = containerConfig == null ? null : containerConfig.getProfile();
+        return SharedContainerRegistry.acquire(SharedContainerRegistry.key("mongodb", image, reuse, profile),
+                () -> this.createContainer(image, reuse, profile, null), reuse);
+    }
+
+    private MongoDBContainer createContainer(final String image,
+                                             final boolean reuse,
+                                             final ContainerProfile profile,
+                                             final Integer hostPort) {
+        final MongoDBContainer created = new MongoDBContainer(DockerImageName.parse(image));
+        if (hostPort != null) {
+            created.setPortBindings(List.of(hostPort + ":" + MONGO_PORT));
+        }
+        if (ContainerProfile.isEphemeral(profile)) {
+            // Journaling cannot be disabled on WiredTiger since MongoDB 6.1, so the
+            // journal is only committed as rarely as allowed.
+            created.withTmpFs(Map.of(DATA_DIRECTORY, "rw"))
+                    .withCommand("--replSet", REPLICA_SET, "--journalCommitInterval", "500");
+        }
+        if (reuse) {
+            created.withReuse(true)
+                    .withLabel(ContainerReuse.CONFIG_HASH_LABEL, ContainerReuse.configurationHash(image, profile))
+                    .withLabel(ContainerReuse.VERSION_LABEL, ContainerReuse.forgeItVersion());
+        }
+        try {
+            created.start();
+        } catch (final RuntimeException ex) {
+            created.stop();
+            throw ex;
+        }
+        return created;
+    }
 }
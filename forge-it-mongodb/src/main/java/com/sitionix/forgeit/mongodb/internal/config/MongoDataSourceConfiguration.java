@@ -4,6 +4,7 @@ import com.mongodb.ConnectionString;
 import com.mongodb.MongoClientSettings;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
+import com.sitionix.forgeit.core.internal.container.SharedContainerRegistry;
 import org.bson.UuidRepresentation;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
@@ -16,6 +17,9 @@ import org.springframework.util.StringUtils;
 
 import java.util.Locale;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @Configuration(proxyBeanMethods = false)
 public class MongoDataSourceConfiguration {
@@ -24,14 +28,43 @@ public class MongoDataSourceConfiguration {
     private static final String URI_PROPERTY = MONGO_PROPERTIES_PREFIX + ".uri";
     private static final String UUID_REPRESENTATION_PROPERTY = MONGO_PROPERTIES_PREFIX + ".uuid-representation";
 
-    @Bean(name = "forgeItMongoClient", destroyMethod = "close")
+    /**
+     * Holds this context's share of the client; the client closes once the last
+     * context using it is closed.
+     */
+    @Bean(name = "forgeItMongoClientLease", destroyMethod = "release")
     @DependsOn("mongoContainerManager")
-    MongoClient mongoClient(final Environment environment,
-                            final MongoProperties mongoProperties) {
+    SharedContainerRegistry.Lease<MongoClient> mongoClientLease(final Environment environment,
+                                                                final MongoProperties mongoProperties) {
         final ConnectionDetails details = this.resolveConnectionDetails(environment, mongoProperties);
+        final MongoProperties.Pool pool = Objects.requireNonNullElseGet(mongoProperties.getPool(),
+                MongoProperties.Pool::new);
+        final Supplier<MongoClient> factory = () -> this.createClient(details, pool);
+        final String key = SharedContainerRegistry.key("mongodb", "client", details.uri(),
+                details.uuidRepresentation(), pool.getMaximumSize(), pool.getIdleTimeout());
+        return Boolean.TRUE.equals(pool.getShared())
+                ? SharedContainerRegistry.acquire(key, factory)
+                : SharedContainerRegistry.acquire(key + "|" + UUID.randomUUID(), factory);
+    }
+
+    @Bean(name = "forgeItMongoClient", destroyMethod = "")
+    MongoClient mongoClient(@Qualifier("forgeItMongoClientLease") final SharedContainerRegistry.Lease<MongoClient> lease) {
+        return lease.container();
+    }
+
+    private MongoClient createClient(final ConnectionDetails details, final MongoProperties.Pool pool) {
         final MongoClientSettings clientSettings = MongoClientSettings.builder()
                 .applyConnectionString(new ConnectionString(details.uri()))
                 .uuidRepresentation(details.uuidRepresentation())
+                .applyToConnectionPoolSettings(builder -> {
+                    if (pool.getMaximumSize() != null) {
+                        builder.maxSize(pool.getMaximumSize());
+                    }
+                    if (pool.getIdleTimeout() != null) {
+                        builder.minSize(0)
+                                .maxConnectionIdleTime(pool.getIdleTimeout().toMillis(), TimeUnit.MILLISECONDS);
+                    }
+                })
                 .build();
         return MongoClients.create(clientSettings);
     }
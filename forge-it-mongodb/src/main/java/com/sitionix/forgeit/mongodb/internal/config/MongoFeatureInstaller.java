@@ -3,17 +3,31 @@ package com.sitionix.forgeit.mongodb.internal.config;
 import com.sitionix.forgeit.core.internal.feature.FeatureInstallationContext;
 import com.sitionix.forgeit.core.internal.feature.FeatureInstaller;
 import com.sitionix.forgeit.mongodb.api.MongoSupport;
+import com.sitionix.forgeit.mongodb.internal.cleaner.MongoCollectionCleaner;
+import com.sitionix.forgeit.mongodb.internal.domain.MongoEntityAssertions;
+import com.sitionix.forgeit.mongodb.internal.domain.MongoEntityFetcher;
+import com.sitionix.forgeit.mongodb.internal.repository.MongoForge;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.AnnotatedBeanDefinitionReader;
-import org.springframework.context.annotation.ComponentScan;
-import org.springframework.context.annotation.Configuration;
 
 /**
  * Registers the MongoDB feature infrastructure into the test application context.
  */
 public final class MongoFeatureInstaller implements FeatureInstaller {
 
+    static final Class<?>[] COMPONENTS = {
+            MongoProperties.class,
+            MongoContainerManager.class,
+            MongoDataSourceConfiguration.class,
+            MongoReuseInitializer.class,
+            MongoCollectionCleaner.class,
+            MongoEntityAssertions.class,
+            MongoEntityFetcher.class,
+            MongoForge.class
+    };
+
     @Override
     public Class<? extends MongoSupport> featureType() {
         return MongoSupport.class;
@@ -25,11 +39,13 @@ public final class MongoFeatureInstaller implements FeatureInstaller {
         if (!(applicationContext instanceof final BeanDefinitionRegistry registry)) {
             throw new IllegalStateException("Mongo installer requires a BeanDefinitionRegistry context");
         }
-        new AnnotatedBeanDefinitionReader(registry).register(MongoFeatureConfiguration.class);
+        new AnnotatedBeanDefinitionReader(registry).register(COMPONENTS);
     }
 
-    @Configuration(proxyBeanMethods = false)
-    @ComponentScan(basePackages = "com.sitionix.forgeit.mongodb.internal")
-    static class MongoFeatureConfiguration {
+    @Override
+    public AutoCloseable bootstrap(final FeatureInstallationContext context) {
+        final MongoProperties properties = Binder.get(context.environment())
+                .bindOrCreate(MongoProperties.PROPERTY_PREFIX, MongoProperties.class);
+        return new MongoContainerManager(null, properties).prestart();
     }
 }
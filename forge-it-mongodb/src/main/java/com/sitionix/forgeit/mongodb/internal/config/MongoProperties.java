@@ -1,9 +1,13 @@
 package com.sitionix.forgeit.mongodb.internal.config;
 
+import com.sitionix.forgeit.core.internal.container.ContainerNetwork;
+import com.sitionix.forgeit.core.internal.container.ContainerProfile;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 /**
  * Configuration model for MongoDB settings exposed via {@code forge-it.modules.mongodb}.
  */
@@ -20,19 +24,88 @@ public final class MongoProperties {
 
     private Container container;
 
+    private Embedded embedded;
+
     private Connection connection;
 
+    private Pool pool;
+
     private Paths paths;
 
     public enum Mode {
         INTERNAL,
-        EXTERNAL
+        EXTERNAL,
+        /**
+         * Runs a local {@code mongod} process; requires {@code de.flapdoodle.embed.mongo}
+         * on the test classpath.
+         */
+        EMBEDDED
     }
 
     @Data
     public static final class Container {
 
         private String image;
+
+        /**
+         * Keeps the container running between test runs and reattaches to it when
+         * the configuration hash matches. Requires {@code testcontainers.reuse.enable=true}.
+         */
+        private Boolean reuse;
+
+        /**
+         * Durability profile; {@code ephemeral} keeps the data directory on tmpfs and
+         * stretches the journal commit interval.
+         */
+        private ContainerProfile profile;
+
+        /**
+         * Defers starting the container until a test first uses MongoDB. Ignored
+         * together with {@code reuse}.
+         */
+        private Boolean lazy;
+
+        /**
+         * {@code direct} connects to the container's bridge address and internal
+         * port instead of the Docker-mapped host port on Linux hosts.
+         */
+        private ContainerNetwork network;
+    }
+
+    @Data
+    public static final class Pool {
+
+        /**
+         * Shares one client between all cached contexts with the same connection
+         * details instead of opening a client per context.
+         */
+        private Boolean shared;
+
+        /**
+         * Maximum number of connections the client keeps per server.
+         */
+        private Integer maximumSize;
+
+        /**
+         * Idle connections are closed after this timeout; the pool keeps no idle
+         * minimum, so clients of inactive contexts shrink to their monitor sockets.
+         */
+        private Duration idleTimeout;
+    }
+
+    @Data
+    public static final class Embedded {
+
+        /**
+         * MongoDB version whose binaries are downloaded and cached, e.g. {@code 7.0}.
+         */
+        private String version;
+
+        /**
+         * Optional storage engine; {@code inMemory} requires MongoDB Enterprise binaries.
+         * Defaults to the server's engine with its database directory on tmpfs.
+         */
+        private String storageEngine;
     }
 
     @Data
@@ -0,0 +1,36 @@
+package com.sitionix.forgeit.mongodb.internal.config;
+
+import com.sitionix.forgeit.mongodb.internal.cleaner.MongoCollectionCleaner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops the data left in a reused MongoDB container by a previous test run
+ * before the first test of this run touches the database.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MongoReuseInitializer {
+
+    private final MongoContainerManager containerManager;
+    private final MongoCollectionCleaner collectionCleaner;
+    private final MongoProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resetReusedContainer() {
+        if (!this.containerManager.isReuseEnabled()) {
+            return;
+        }
+        final String database = this.properties.getConnection() == null
+                ? null
+                : this.properties.getConnection().getDatabase();
+        this.containerManager.initialiseOnce("reset:" + database, () -> {
+            log.info("Resetting database {} of reused MongoDB container", database);
+            this.collectionCleaner.reset();
+        });
+    }
+}
@@ -0,0 +1,24 @@
+package com.sitionix.forgeit.mongodb.internal.config;
+
+import com.sitionix.forgeit.mongodb.config.MongoDefaultsEnvironmentPostProcessor;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Runtime hints for the MongoDB module: its default configuration, the types
+ * instantiated from {@code spring.factories}, and the properties bound outside
+ * the context to start its infrastructure early.
+ */
+public final class MongoRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(final RuntimeHints hints, final ClassLoader classLoader) {
+        hints.resources().registerPattern("forge-it-mongodb-default.yml");
+        hints.reflection()
+                .registerType(MongoDefaultsEnvironmentPostProcessor.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+                .registerType(MongoFeatureInstaller.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), MongoProperties.class);
+    }
+}
@@ -0,0 +1,88 @@
+package com.sitionix.forgeit.mongodb.internal.config;
+
+import com.sitionix.forgeit.core.internal.container.SharedContainerRegistry;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MongoContainerManagerTests {
+
+    @Test
+    void givenEmbeddedModeWithoutVersion_whenPrestart_thenRejectConfiguration() {
+        // given
+        final MongoProperties properties = new MongoProperties();
+        properties.setEnabled(true);
+        properties.setMode(MongoProperties.Mode.EMBEDDED);
+        final MongoContainerManager manager = new MongoContainerManager(new MockEnvironment(), properties);
+
+        // when / then
+        assertThatThrownBy(manager::prestart)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("forge-it.modules.mongodb.embedded.version");
+    }
+
+    @Test
+    void givenUnsupportedEmbeddedVersion_whenPrestart_thenFailWithoutHoldingTheServer() {
+        // given
+        final MongoContainerManager manager = new MongoContainerManager(new MockEnvironment(), embeddedProperties("1.2"));
+
+        // when / then
+        assertThatThrownBy(manager::prestart)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("'1.2' is not a supported MongoDB version");
+        assertThat(SharedContainerRegistry.references(manager.embeddedKey())).isZero();
+    }
+
+    @Test
+    void givenSupportedVersion_whenResolveVersion_thenAcceptDottedNotation() {
+        // when / then
+        assertThat(EmbeddedMongoServer.resolveVersion(" 7.0 ")).isEqualTo(Version.Main.V7_0);
+        assertThatThrownBy(() -> EmbeddedMongoServer.resolveVersion("latest"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("forge-it.modules.mongodb.embedded.version");
+    }
+
+    @Test
+    void givenClasspathWithoutFlapdoodle_whenRequireEmbeddedServer_thenRejectEmbeddedMode() {
+        // given
+        final ClassLoader withoutFlapdoodle = new ClassLoader(null) {
+        };
+
+        // when / then
+        assertThatThrownBy(() -> MongoContainerManager.requireEmbeddedServer(withoutFlapdoodle))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("de.flapdoodle.embed:de.flapdoodle.embed.mongo");
+        assertThatCode(() -> MongoContainerManager.requireEmbeddedServer(this.getClass().getClassLoader()))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void givenEmbeddedSettings_whenEmbeddedKey_thenShareOnlyMatchingServers() {
+        // given
+        final MongoContainerManager first = new MongoContainerManager(null, embeddedProperties("7.0"));
+        final MongoContainerManager same = new MongoContainerManager(null, embeddedProperties("7.0"));
+        final MongoProperties inMemory = embeddedProperties("7.0");
+        inMemory.getEmbedded().setStorageEngine("inMemory");
+        final MongoContainerManager other = new MongoContainerManager(null, inMemory);
+
+        // when / then
+        assertThat(first.embeddedKey())
+                .isEqualTo(same.embeddedKey())
+                .isEqualTo("mongodb|embedded|7.0|null")
+                .isNotEqualTo(other.embeddedKey());
+    }
+
+    private static MongoProperties embeddedProperties(final String version) {
+        final MongoProperties properties = new MongoProperties();
+        properties.setEnabled(true);
+        properties.setMode(MongoProperties.Mode.EMBEDDED);
+        final MongoProperties.Embedded embedded = new MongoProperties.Embedded();
+        embedded.setVersion(version);
+        properties.setEmbedded(embedded);
+        return properties;
+    }
+}
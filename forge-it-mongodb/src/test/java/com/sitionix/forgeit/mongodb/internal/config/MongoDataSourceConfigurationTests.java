@@ -1,9 +1,13 @@
 package com.sitionix.forgeit.mongodb.internal.config;
 
+import com.mongodb.client.MongoClient;
+import com.sitionix.forgeit.core.internal.container.SharedContainerRegistry;
 import org.bson.UuidRepresentation;
 import org.junit.jupiter.api.Test;
 import org.springframework.mock.env.MockEnvironment;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -87,4 +91,33 @@ class MongoDataSourceConfigurationTests {
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("MongoDB UUID representation must be one of");
     }
+
+    @Test
+    void givenSharedPool_whenLeasingClientTwice_thenReuseClientUntilLastRelease() {
+        // given
+        final MockEnvironment environment = new MockEnvironment();
+        environment.setProperty("forge-it.mongodb.connection.uri", "mongodb://shared-host:27017/forge-db");
+
+        final MongoProperties properties = new MongoProperties();
+        properties.setConnection(new MongoProperties.Connection());
+        final MongoProperties.Pool pool = new MongoProperties.Pool();
+        pool.setShared(true);
+        pool.setMaximumSize(3);
+        pool.setIdleTimeout(Duration.ofSeconds(20));
+        properties.setPool(pool);
+
+        // when
+        final SharedContainerRegistry.Lease<MongoClient> first = this.configuration.mongoClientLease(environment, properties);
+        final SharedContainerRegistry.Lease<MongoClient> second = this.configuration.mongoClientLease(environment, properties);
+
+        // then
+        try {
+            assertThat(second.container()).isSameAs(first.container());
+            assertThat(SharedContainerRegistry.references(first.key())).isEqualTo(2);
+        } finally {
+            first.release();
+            second.release();
+        }
+        assertThat(SharedContainerRegistry.references(first.key())).isZero();
+    }
 }
@@ -0,0 +1,13 @@
+package com.sitionix.forgeit.mongodb.internal.config;
+
+import org.junit.jupiter.api.Test;
+
+import static com.sitionix.forgeit.testing.FeatureInstallerAssertions.assertRegistersScannedComponents;
+
+class MongoFeatureInstallerTests {
+
+    @Test
+    void shouldRegisterTheComponentsPackageScanningWouldFind() {
+        assertRegistersScannedComponents(new MongoFeatureInstaller(), "com.sitionix.forgeit.mongodb.internal");
+    }
+}
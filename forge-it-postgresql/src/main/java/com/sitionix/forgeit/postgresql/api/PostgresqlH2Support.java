@@ -0,0 +1,10 @@
+package com.sitionix.forgeit.postgresql.api;
+
+/**
+ * Fast-lane refinement of {@link PostgresqlSupport}: exposes the same PostgreSQL
+ * capabilities backed by an in-memory H2 database in PostgreSQL compatibility
+ * mode, for test classes that do not rely on PostgreSQL-specific SQL. It inherits
+ * {@code postgresql()} so contracts may declare both features.
+ */
+public interface PostgresqlH2Support extends PostgresqlSupport {
+}
@@ -0,0 +1,113 @@
+package com.sitionix.forgeit.postgresql.internal.config;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Local PostgreSQL process started from the binaries bundled with
+ * {@code io.zonky.test:embedded-postgres}, wrapped so it can be shared through
+ * the container registry like a Testcontainer. The server listens on a random
+ * port and keeps its data directory on tmpfs when {@code /dev/shm} is available.
+ */
+final class EmbeddedPostgresqlServer implements AutoCloseable {
+
+    private static final String SERVER_CLASS = "io.zonky.test.db.postgres.embedded.EmbeddedPostgres";
+    private static final Path TMPFS = Path.of("/dev/shm");
+
+    private final EmbeddedPostgres postgres;
+
+    private EmbeddedPostgresqlServer(final EmbeddedPostgres postgres) {
+        this.postgres = postgres;
+    }
+
+    static boolean isAvailable() {
+        return isAvailable(EmbeddedPostgresqlServer.class.getClassLoader());
+    }
+
+    static boolean isAvailable(final ClassLoader classLoader) {
+        return ClassUtils.isPresent(SERVER_CLASS, classLoader);
+    }
+
+    /**
+     * Starts the server and creates the configured login role and database, so the
+     * published connection properties work exactly as they do for the container.
+     */
+    static EmbeddedPostgresqlServer start(final String database, final String username, final String password) {
+        final EmbeddedPostgres postgres;
+        Path dataDirectory = null;
+        try {
+            final EmbeddedPostgres.Builder builder = EmbeddedPostgres.builder()
+                    .setCleanDataDirectory(true)
+                    .setServerConfig("fsync", "off")
+                    .setServerConfig("synchronous_commit", "off")
+                    .setServerConfig("full_page_writes", "off");
+            if (Files.isDirectory(TMPFS) && Files.isWritable(TMPFS)) {
+                dataDirectory = Files.createTempDirectory(TMPFS, "forge-it-postgres-");
+                builder.setDataDirectory(dataDirectory);
+            }
+            postgres = builder.start();
+        } catch (final IOException ex) {
+            deleteDirectory(dataDirectory);
+            throw new UncheckedIOException("Failed to start embedded PostgreSQL", ex);
+        } catch (final RuntimeException ex) {
+            deleteDirectory(dataDirectory);
+            throw ex;
+        }
+        final EmbeddedPostgresqlServer server = new EmbeddedPostgresqlServer(postgres);
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE ROLE " + quote(username) + " LOGIN SUPERUSER PASSWORD '"
+                    + password.replace("'", "''") + "'");
+            statement.execute("CREATE DATABASE " + quote(database) + " OWNER " + quote(username));
+        } catch (final SQLException ex) {
+            server.close();
+            throw new IllegalStateException("Failed to prepare embedded PostgreSQL database " + database, ex);
+        }
+        return server;
+    }
+
+    String getHost() {
+        return "localhost";
+    }
+
+    int getPort() {
+        return this.postgres.getPort();
+    }
+
+    String getJdbcUrl(final String database) {
+        return "jdbc:postgresql://" + this.getHost() + ":" + this.getPort() + "/" + database;
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.postgres.close();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Failed to stop embedded PostgreSQL", ex);
+        }
+    }
+
+    private static void deleteDirectory(final Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try {
+            FileSystemUtils.deleteRecursively(directory);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Failed to delete embedded PostgreSQL data directory " + directory, ex);
+        }
+    }
+
+    private static String quote(final String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,40 @@
+package com.sitionix.forgeit.postgresql.internal.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Data source that can be re-pointed at a freshly cloned database between test
+ * classes while the rest of the context keeps a stable reference to it.
+ */
+public final class PostgresqlCloneDataSource extends DelegatingDataSource implements DisposableBean {
+
+    PostgresqlCloneDataSource(final HikariDataSource initialTarget) {
+        super(initialTarget);
+    }
+
+    /**
+     * Routes all new connections to {@code target} and closes the pool of the
+     * previous database.
+     */
+    synchronized void switchTo(final HikariDataSource target) {
+        final HikariDataSource previous = this.currentTarget();
+        this.setTargetDataSource(target);
+        if (previous != null && previous != target) {
+            previous.close();
+        }
+    }
+
+    synchronized HikariDataSource currentTarget() {
+        return (HikariDataSource) this.getTargetDataSource();
+    }
+
+    @Override
+    public void destroy() {
+        final HikariDataSource target = this.currentTarget();
+        if (target != null) {
+            target.close();
+        }
+    }
+}
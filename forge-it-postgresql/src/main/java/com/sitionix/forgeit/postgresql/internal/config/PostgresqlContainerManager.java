@@ -1,41 +1,84 @@
 package com.sitionix.forgeit.postgresql.internal.config;
 
+import com.sitionix.forgeit.core.internal.container.ContainerEndpoint;
+import com.sitionix.forgeit.core.internal.container.ContainerNetwork;
+import com.sitionix.forgeit.core.internal.container.ContainerProfile;
+import com.sitionix.forgeit.core.internal.container.ContainerReuse;
+import com.sitionix.forgeit.core.internal.container.SharedContainerRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.ApplicationStartupAware;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.MapPropertySource;
 import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.utility.DockerImageName;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+@Slf4j
 @RequiredArgsConstructor
 @Component
-public final class PostgresqlContainerManager implements InitializingBean, DisposableBean {
+public final class PostgresqlContainerManager
+        implements InitializingBean, ApplicationStartupAware, DisposableBean {
 
     private static final String PROPERTY_SOURCE_NAME = "forgeItPostgresql";
     private static final String DEFAULT_IMAGE = "postgres:16-alpine";
+    private static final String DATA_DIRECTORY = "/var/lib/postgresql/data";
 
     private final ConfigurableEnvironment environment;
     private final PostgresqlProperties properties;
 
+    private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+
+    private SharedContainerRegistry.Lease<PostgreSQLContainer<?>> lease;
     private PostgreSQLContainer<?> container;
+    private SharedContainerRegistry.Lease<EmbeddedPostgresqlServer> embeddedLease;
+    private SharedContainerRegistry.Lease<PostgresqlH2Database> h2Lease;
+    private String schemaHash;
     private String jdbcUrl;
     private String host;
     private Integer port;
 
+    @Override
+    public void setApplicationStartup(final ApplicationStartup applicationStartup) {
+        this.applicationStartup = applicationStartup;
+    }
+
     @Override
     public void afterPropertiesSet() {
+        final StartupStep step = this.applicationStartup.start("forge-it.container.start")
+                .tag("module", "postgresql");
+        try {
+            this.initialise();
+        } finally {
+            step.end();
+        }
+    }
+
+    private void initialise() {
         if (!this.isEnabled()) {
             return;
         }
         final PostgresqlProperties.Mode mode = this.requireMode();
         if (mode == PostgresqlProperties.Mode.EXTERNAL) {
             this.initialiseExternal();
+        } else if (mode == PostgresqlProperties.Mode.EMBEDDED) {
+            this.startEmbedded();
+        } else if (mode == PostgresqlProperties.Mode.H2) {
+            this.startH2();
         } else {
             this.startInternal();
         }
@@ -47,12 +90,55 @@ public final class PostgresqlContainerManager implements InitializingBean, Dispo
         this.cleanupResources();
     }
 
+    /**
+     * Runs a one-off initialisation step against the database. Internal
+     * containers, embedded servers and H2 databases are shared between contexts,
+     * so the step runs only once per instance; in external mode it runs every time.
+     */
+    void initialiseOnce(final String marker, final Runnable action) {
+        if (this.lease != null) {
+            this.lease.runOnce(marker, action);
+        } else if (this.embeddedLease != null) {
+            this.embeddedLease.runOnce(marker, action);
+        } else if (this.h2Lease != null) {
+            this.h2Lease.runOnce(marker, action);
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Commits the container as the schema image for the current DDL hash when the
+     * schema cache is enabled. Failures are logged, as the cache is only an
+     * optimisation for subsequent runs.
+     */
+    void snapshotSchema() {
+        if (this.container == null || this.schemaHash == null) {
+            return;
+        }
+        try {
+            new PostgresqlSchemaImageCache().snapshot(this.container, this.schemaHash, this.resolveDdlPath());
+        } catch (final RuntimeException ex) {
+            log.warn("Failed to cache PostgreSQL schema image for hash {}", this.schemaHash, ex);
+        }
+    }
+
     private void cleanupResources() {
         this.removeEnvironment();
-        if (this.container != null) {
-            this.container.stop();
-            this.container = null;
+        if (this.lease != null) {
+            this.lease.release();
+            this.lease = null;
+        }
+        if (this.embeddedLease != null) {
+            this.embeddedLease.release();
+            this.embeddedLease = null;
+        }
+        if (this.h2Lease != null) {
+            this.h2Lease.release();
+            this.h2Lease = null;
         }
+        this.container = null;
+        this.schemaHash = null;
         this.jdbcUrl = null;
         this.host = null;
         this.port = null;
@@ -62,19 +148,21 @@ public final class PostgresqlContainerManager implements InitializingBean, Dispo
         if (this.environment == null) {
             return;
         }
-        if (this.jdbcUrl == null || this.host == null || this.port == null) {
+        if (this.jdbcUrl == null) {
             throw new IllegalStateException("Postgresql container not initialised");
         }
         final MutablePropertySources sources = this.environment.getPropertySources();
         final PostgresqlProperties.Connection connection = this.requireConnection();
-        final Map<String, Object> props = Map.of(
-                "forge-it.postgresql.connection.jdbc-url", this.jdbcUrl,
-                "forge-it.postgresql.connection.port", this.port,
-                "forge-it.postgresql.connection.host", this.host,
-                "forge-it.postgresql.connection.database", Objects.requireNonNullElse(connection.getDatabase(), "forge-it"),
-                "forge-it.postgresql.connection.username", Objects.requireNonNullElse(connection.getUsername(), "forge-it"),
-                "forge-it.postgresql.connection.password", Objects.requireNonNullElse(connection.getPassword(), "forge-it")
-        );
+        final Map<String, Object> props = new LinkedHashMap<>();
+        props.put("forge-it.postgresql.connection.jdbc-url", this.jdbcUrl);
+        // an in-memory H2 database has no host and port
+        if (this.host != null && this.port != null) {
+            props.put("forge-it.postgresql.connection.port", this.port);
+            props.put("forge-it.postgresql.connection.host", this.host);
+        }
+        props.put("forge-it.postgresql.connection.database", Objects.requireNonNullElse(connection.getDatabase(), "forge-it"));
+        props.put("forge-it.postgresql.connection.username", Objects.requireNonNullElse(connection.getUsername(), "forge-it"));
+        props.put("forge-it.postgresql.connection.password", Objects.requireNonNullElse(connection.getPassword(), "forge-it"));
         final MapPropertySource propertySource = new MapPropertySource(PROPERTY_SOURCE_NAME, props);
         if (sources.contains(PROPERTY_SOURCE_NAME)) {
             sources.replace(PROPERTY_SOURCE_NAME, propertySource);
@@ -93,6 +181,26 @@ public final class PostgresqlContainerManager implements InitializingBean, Dispo
         }
     }
 
+    /**
+     * @return {@code true} when the internal container runs in Testcontainers
+     * reuse mode and may therefore hold state from a previous test run.
+     */
+    boolean isReuseEnabled() {
+        final PostgresqlProperties.Container containerConfig = this.resolveContainer();
+        return this.lease != null && containerConfig != null && Boolean.TRUE.equals(containerConfig.getReuse());
+    }
+
+    /**
+     * @return {@code true} when the internal container runs with the ephemeral
+     * profile and tables should be converted to UNLOGGED after schema creation.
+     */
+    boolean isUnloggedTablesEnabled() {
+        final PostgresqlProperties.Container containerConfig = this.resolveContainer();
+        return this.lease != null
+                && ContainerProfile.isEphemeral(this.resolveProfile())
+                && Boolean.TRUE.equals(containerConfig.getUnloggedTables());
+    }
+
     private boolean isEnabled() {
         return this.properties != null && Boolean.TRUE.equals(this.properties.getEnabled());
     }
@@ -113,6 +221,34 @@ public final class PostgresqlContainerManager implements InitializingBean, Dispo
         return connection;
     }
 
+    private ContainerProfile resolveProfile() {
+        final PostgresqlProperties.Container containerConfig = this.resolveContainer();
+        return containerConfig == null ? null : containerConfig.getProfile();
+    }
+
+    private ContainerNetwork resolveNetwork() {
+        final PostgresqlProperties.Container containerConfig = this.resolveContainer();
+        return containerConfig == null ? null : containerConfig.getNetwork();
+    }
+
+    private String resolveDdlPath() {
+        final PostgresqlProperties.Paths paths = this.properties.getPaths();
+        if (paths == null || paths.getDdl() == null) {
+            return null;
+        }
+        return paths.getDdl().getPath();
+    }
+
+    private boolean isSchemaCacheEnabled(final boolean reuse) {
+        final PostgresqlProperties.Container containerConfig = this.resolveContainer();
+        final String ddlPath = this.resolveDdlPath();
+        return containerConfig != null
+                && Boolean.TRUE.equals(containerConfig.getSchemaCache())
+                && !reuse
+                && this.properties.getIsolation() == PostgresqlProperties.Isolation.SHARED
+                && ddlPath != null && !ddlPath.isBlank();
+    }
+
     private PostgresqlProperties.Container resolveContainer() {
         return this.properties.getContainer();
     }
@@ -134,22 +270,201 @@ public final class PostgresqlContainerManager implements InitializingBean, Dispo
                         Objects.requireNonNullElse(connection.getDatabase(), "forge-it"));
     }
 
-    private void startInternal() {
+    /**
+     * Starts the shared container or embedded server ahead of the context refresh
+     * when the module is enabled in internal or embedded mode. The returned handle
+     * keeps it alive until this manager acquires its own lease during the refresh.
+     */
+    AutoCloseable prestart() {
+        if (!this.isEnabled()) {
+            return () -> {
+            };
+        }
+        final PostgresqlProperties.Mode mode = this.requireMode();
+        if (mode == PostgresqlProperties.Mode.EMBEDDED) {
+            return this.acquireEmbedded();
+        }
+        if (mode != PostgresqlProperties.Mode.INTERNAL) {
+            return () -> {
+            };
+        }
+        return this.acquireContainer();
+    }
+
+    private void startEmbedded() {
+        final String database = Objects.requireNonNullElse(this.requireConnection().getDatabase(), "forge-it");
+        try {
+            this.embeddedLease = this.acquireEmbedded();
+            final EmbeddedPostgresqlServer server = this.embeddedLease.container();
+            this.jdbcUrl = server.getJdbcUrl(database);
+            this.host = server.getHost();
+            this.port = server.getPort();
+        } catch (final RuntimeException ex) {
+            this.cleanupResources();
+            throw new IllegalStateException("Failed to start embedded PostgreSQL", ex);
+        }
+    }
+
+    /**
+     * Points the module at an in-memory H2 database in PostgreSQL mode, shared by
+     * every context with the same database name, so the DDL scripts run once.
+     */
+    private void startH2() {
+        if (!PostgresqlH2Database.isAvailable()) {
+            throw new IllegalStateException("forge-it.modules.postgresql.mode=h2 requires "
+                    + "com.h2database:h2 on the test classpath");
+        }
+        if (this.properties.getIsolation() == PostgresqlProperties.Isolation.TEMPLATE) {
+            throw new IllegalStateException("forge-it.modules.postgresql.isolation=template is not supported in h2 mode");
+        }
         final PostgresqlProperties.Connection connection = this.requireConnection();
-        final PostgresqlProperties.Container containerConfig = this.resolveContainer();
+        final String database = Objects.requireNonNullElse(connection.getDatabase(), "forge-it");
+        final String username = Objects.requireNonNullElse(connection.getUsername(), "forge-it");
+        final String password = Objects.requireNonNullElse(connection.getPassword(), "forge-it");
+        try {
+            this.h2Lease = SharedContainerRegistry.acquire(
+                    SharedContainerRegistry.key("postgresql", "h2", database, this.resolveDdlPath()),
+                    () -> PostgresqlH2Database.create(database, username, password));
+            this.jdbcUrl = this.h2Lease.container().getJdbcUrl();
+        } catch (final RuntimeException ex) {
+            this.cleanupResources();
+            throw new IllegalStateException("Failed to create in-memory H2 database", ex);
+        }
+    }
+
+    private SharedContainerRegistry.Lease<EmbeddedPostgresqlServer> acquireEmbedded() {
+        requireEmbeddedServer(EmbeddedPostgresqlServer.class.getClassLoader());
+        final PostgresqlProperties.Connection connection = this.requireConnection();
+        final String database = Objects.requireNonNullElse(connection.getDatabase(), "forge-it");
+        final String username = Objects.requireNonNullElse(connection.getUsername(), "forge-it");
+        final String password = Objects.requireNonNullElse(connection.getPassword(), "forge-it");
+        return SharedContainerRegistry.acquire(this.embeddedKey(),
+                () -> EmbeddedPostgresqlServer.start(database, username, password));
+    }
+
+    static void requireEmbeddedServer(final ClassLoader classLoader) {
+        if (!EmbeddedPostgresqlServer.isAvailable(classLoader)) {
+            throw new IllegalStateException("forge-it.modules.postgresql.mode=embedded requires "
+                    + "io.zonky.test:embedded-postgres on the test classpath");
+        }
+    }
+
+    /**
+     * Registry key of the embedded server; contexts share one server only when the
+     * credentials and DDL scripts match.
+     */
+    String embeddedKey() {
+        final PostgresqlProperties.Connection connection = this.requireConnection();
+        final String database = Objects.requireNonNullElse(connection.getDatabase(), "forge-it");
+        final String username = Objects.requireNonNullElse(connection.getUsername(), "forge-it");
+        final String password = Objects.requireNonNullElse(connection.getPassword(), "forge-it");
+        return SharedContainerRegistry.key("postgresql", "embedded", database, username,
+                Integer.toHexString(password.hashCode()), this.resolveDdlPath());
+    }
+
+    private void startInternal() {
         try {
-            this.container = new PostgreSQLContainer<>(DockerImageName.parse(
-                    Objects.requireNonNullElse(containerConfig == null ? null : containerConfig.getImage(), DEFAULT_IMAGE)))
-                    .withDatabaseName(Objects.requireNonNullElse(connection.getDatabase(), "forge-it"))
-                    .withUsername(Objects.requireNonNullElse(connection.getUsername(), "forge-it"))
-                    .withPassword(Objects.requireNonNullElse(connection.getPassword(), "forge-it"));
-            this.container.start();
-            this.jdbcUrl = this.container.getJdbcUrl();
-            this.host = this.container.getHost();
-            this.port = this.container.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT);
+            this.lease = this.acquireContainer();
+            this.container = this.lease.container();
+            final int mappedPort = this.container.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT);
+            final PostgreSQLContainer<?> started = this.container;
+            final ContainerEndpoint endpoint = ContainerEndpoint.resolve(this.resolveNetwork(),
+                    started.getHost(), mappedPort, () -> bridgeAddress(started), PostgreSQLContainer.POSTGRESQL_PORT);
+            this.host = endpoint.host();
+            this.port = endpoint.port();
+            this.jdbcUrl = this.host.equals(started.getHost())
+                    ? started.getJdbcUrl()
+                    : "jdbc:postgresql://" + this.host + ":" + this.port + "/" + started.getDatabaseName();
         } catch (final RuntimeException ex) {
             this.cleanupResources();
             throw new IllegalStateException("Failed to start PostgreSQL Testcontainer", ex);
         }
     }
+
+    private static String bridgeAddress(final GenericContainer<?> container) {
+        return container.getContainerInfo().getNetworkSettings().getNetworks().values().stream()
+                .map(com.github.dockerjava.api.model.ContainerNetwork::getIpAddress)
+                .filter(StringUtils::hasText)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private SharedContainerRegistry.Lease<PostgreSQLContainer<?>> acquireContainer() {
+        final PostgresqlProperties.Connection connection = this.requireConnection();
+        final PostgresqlProperties.Container containerConfig = this.resolveContainer();
+        final String image = Objects.requireNonNullElse(containerConfig == null ? null : containerConfig.getImage(), DEFAULT_IMAGE);
+        final String database = Objects.requireNonNullElse(connection.getDatabase(), "forge-it");
+        final String username = Objects.requireNonNullElse(connection.getUsername(), "forge-it");
+        final String password = Objects.requireNonNullElse(connection.getPassword(), "forge-it");
+        final boolean reuse = containerConfig != null && Boolean.TRUE.equals(containerConfig.getReuse());
+        final ContainerProfile profile = this.resolveProfile();
+        final String ddlPath = this.resolveDdlPath();
+        final boolean unloggedTables = containerConfig != null
+                && ContainerProfile.isEphemeral(profile)
+                && Boolean.TRUE.equals(containerConfig.getUnloggedTables());
+        final String hash = this.isSchemaCacheEnabled(reuse)
+                ? new PostgresqlSchemaImageCache()
+                        .schemaHash(image, database, username, password, ddlPath.trim(), profile, unloggedTables)
+                : null;
+        final AtomicBoolean startedFromCache = new AtomicBoolean();
+        final SharedContainerRegistry.Lease<PostgreSQLContainer<?>> acquired = SharedContainerRegistry.acquire(
+                SharedContainerRegistry.key("postgresql", image, database, username,
+                        Integer.toHexString(password.hashCode()), ddlPath, reuse, profile, hash),
+                () -> this.createContainer(image, database, username, password, reuse, profile, hash, startedFromCache),
+                reuse);
+        if (startedFromCache.get()) {
+            acquired.runOnce("schema:" + ddlPath.trim(), () -> log.info("PostgreSQL schema restored from cached image"));
+        }
+        this.schemaHash = hash;
+        return acquired;
+    }
+
+    private PostgreSQLContainer<?> createContainer(final String image,
+                                                   final String database,
+                                                   final String username,
+                                                   final String password,
+                                                   final boolean reuse,
+                                                   final ContainerProfile profile,
+                                                   final String schemaHash,
+                                                   final AtomicBoolean startedFromCache) {
+        final PostgresqlSchemaImageCache schemaCache = schemaHash == null ? null : new PostgresqlSchemaImageCache();
+        final boolean cached = schemaCache != null && schemaCache.isCached(schemaHash);
+        final DockerImageName imageName = cached
+                ? DockerImageName.parse(schemaCache.imageName(schemaHash)).asCompatibleSubstituteFor("postgres")
+                : DockerImageName.parse(image);
+        final PostgreSQLContainer<?> created = new PostgreSQLContainer<>(imageName)
+                .withDatabaseName(database)
+                .withUsername(username)
+                .withPassword(password);
+        if (cached) {
+            // an initialised data directory skips initdb, so the server starts only once
+            created.waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*\\s", 1)
+                    .withStartupTimeout(Duration.ofSeconds(60)));
+        }
+        if (schemaCache != null) {
+            created.withEnv("PGDATA", PostgresqlSchemaImageCache.DATA_DIRECTORY);
+        } else if (ContainerProfile.isEphemeral(profile)) {
+            created.withTmpFs(Map.of(DATA_DIRECTORY, "rw"));
+        }
+        if (ContainerProfile.isEphemeral(profile)) {
+            created.withCommand("postgres",
+                    "-c", "fsync=off",
+                    "-c", "synchronous_commit=off",
+                    "-c", "full_page_writes=off");
+        }
+        if (reuse) {
+            created.withReuse(true)
+                    .withLabel(ContainerReuse.CONFIG_HASH_LABEL,
+                            ContainerReuse.configurationHash(image, database, username, password, profile))
+                    .withLabel(ContainerReuse.VERSION_LABEL, ContainerReuse.forgeItVersion());
+        }
+        try {
+            created.start();
+        } catch (final RuntimeException ex) {
+            created.stop();
+            throw ex;
+        }
+        startedFromCache.set(cached);
+        return created;
+    }
 }
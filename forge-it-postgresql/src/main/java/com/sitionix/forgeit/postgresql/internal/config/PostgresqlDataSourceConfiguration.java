@@ -1,5 +1,6 @@
 package com.sitionix.forgeit.postgresql.internal.config;
 
+import com.sitionix.forgeit.core.internal.container.SharedContainerRegistry;
 import com.zaxxer.hikari.HikariDataSource;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
@@ -19,6 +20,7 @@ public class PostgresqlDataSourceConfiguration {
     private static final String JDBC_URL_PROPERTY = POSTGRES_PROPERTIES_PREFIX + ".jdbc-url";
     private static final String USERNAME_PROPERTY = POSTGRES_PROPERTIES_PREFIX + ".username";
     private static final String PASSWORD_PROPERTY = POSTGRES_PROPERTIES_PREFIX + ".password";
+    private static final String H2_URL_PREFIX = "jdbc:h2:";
 
     @Bean
     @Primary
@@ -32,11 +34,37 @@ public class PostgresqlDataSourceConfiguration {
     DataSource postgresDataSource(final Environment environment,
                                   final PostgresqlProperties postgresqlProperties) {
         final PostgresqlConnectionDetails connectionDetails = this.resolveConnectionDetails(environment, postgresqlProperties);
+        final PostgresqlProperties.Pool pool = Objects.requireNonNullElseGet(postgresqlProperties.getPool(),
+                PostgresqlProperties.Pool::new);
+        if (postgresqlProperties.getIsolation() == PostgresqlProperties.Isolation.TEMPLATE) {
+            return new PostgresqlCloneDataSource(this.createPool(connectionDetails, pool));
+        }
+        if (!Boolean.TRUE.equals(pool.getShared())) {
+            return this.createPool(connectionDetails, pool);
+        }
+        return new PostgresqlSharedDataSource(SharedContainerRegistry.acquire(
+                SharedContainerRegistry.key("postgresql", "pool", connectionDetails.jdbcUrl(),
+                        connectionDetails.username(), Integer.toHexString(connectionDetails.password().hashCode()),
+                        pool.getMaximumSize(), pool.getIdleTimeout()),
+                () -> this.createPool(connectionDetails, pool)));
+    }
+
+    private HikariDataSource createPool(final PostgresqlConnectionDetails connectionDetails,
+                                        final PostgresqlProperties.Pool pool) {
         final HikariDataSource dataSource = new HikariDataSource();
         dataSource.setJdbcUrl(connectionDetails.jdbcUrl());
         dataSource.setUsername(connectionDetails.username());
         dataSource.setPassword(connectionDetails.password());
-        dataSource.setDriverClassName("org.postgresql.Driver");
+        dataSource.setDriverClassName(connectionDetails.jdbcUrl().startsWith(H2_URL_PREFIX)
+                ? "org.h2.Driver"
+                : "org.postgresql.Driver");
+        if (pool.getMaximumSize() != null) {
+            dataSource.setMaximumPoolSize(pool.getMaximumSize());
+        }
+        if (pool.getIdleTimeout() != null) {
+            dataSource.setMinimumIdle(0);
+            dataSource.setIdleTimeout(pool.getIdleTimeout().toMillis());
+        }
         return dataSource;
     }
 
@@ -4,18 +4,29 @@ import com.sitionix.forgeit.core.internal.feature.FeatureInstallationContext;
 import com.sitionix.forgeit.core.internal.feature.FeatureInstaller;
 import com.sitionix.forgeit.domain.model.sql.RelationalFeatureMarker;
 import com.sitionix.forgeit.postgresql.api.PostgresqlSupport;
+import com.sitionix.forgeit.postgresql.internal.domain.PostgresGraphExecutor;
+import com.sitionix.forgeit.postgresql.internal.repository.PostgresForge;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.AnnotatedBeanDefinitionReader;
-import org.springframework.context.annotation.ComponentScan;
-import org.springframework.context.annotation.Configuration;
 
 /**
  * Registers the Postgresql feature infrastructure into the test application context.
  */
 public final class PostgresqlFeatureInstaller implements FeatureInstaller {
 
+    static final Class<?>[] COMPONENTS = {
+            PostgresqlProperties.class,
+            PostgresqlContainerManager.class,
+            PostgresqlDataSourceConfiguration.class,
+            PostgresqlSchemaInitializer.class,
+            PostgresqlTemplateDatabases.class,
+            PostgresGraphExecutor.class,
+            PostgresForge.class
+    };
+
     @Override
     public Class<? extends PostgresqlSupport> featureType() {
         return PostgresqlSupport.class;
@@ -23,17 +34,26 @@ public final class PostgresqlFeatureInstaller implements FeatureInstaller {
 
     @Override
     public void install(final FeatureInstallationContext context) {
+        registerInfrastructure(context);
+    }
+
+    static void registerInfrastructure(final FeatureInstallationContext context) {
         final ConfigurableApplicationContext applicationContext = context.applicationContext();
         if (!(applicationContext instanceof final BeanDefinitionRegistry registry)) {
             throw new IllegalStateException("Postgresql installer requires a BeanDefinitionRegistry context");
         }
+        if (registry.containsBeanDefinition(RelationalFeatureMarker.class.getName())) {
+            return;
+        }
         registry.registerBeanDefinition(RelationalFeatureMarker.class.getName(),
                 new RootBeanDefinition(RelationalFeatureMarker.class));
-        new AnnotatedBeanDefinitionReader(registry).register(PostgresqlFeatureConfiguration.class);
+        new AnnotatedBeanDefinitionReader(registry).register(COMPONENTS);
     }
 
-    @Configuration(proxyBeanMethods = false)
-    @ComponentScan(basePackages = "com.sitionix.forgeit.postgresql.internal")
-    static class PostgresqlFeatureConfiguration {
+    @Override
+    public AutoCloseable bootstrap(final FeatureInstallationContext context) {
+        final PostgresqlProperties properties = Binder.get(context.environment())
+                .bindOrCreate(PostgresqlProperties.PROPERTY_PREFIX, PostgresqlProperties.class);
+        return new PostgresqlContainerManager(null, properties).prestart();
     }
 }
@@ -0,0 +1,66 @@
+package com.sitionix.forgeit.postgresql.internal.config;
+
+import org.springframework.util.ClassUtils;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Named in-memory H2 database in PostgreSQL compatibility mode, wrapped so it can
+ * be shared through the container registry like a Testcontainer. The database
+ * lives until the last lease is released, which shuts it down.
+ */
+final class PostgresqlH2Database implements AutoCloseable {
+
+    private static final String DRIVER_CLASS = "org.h2.Driver";
+    private static final String URL_OPTIONS =
+            ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    private final String jdbcUrl;
+    private final String username;
+    private final String password;
+
+    private PostgresqlH2Database(final String jdbcUrl, final String username, final String password) {
+        this.jdbcUrl = jdbcUrl;
+        this.username = username;
+        this.password = password;
+    }
+
+    static boolean isAvailable() {
+        return ClassUtils.isPresent(DRIVER_CLASS, PostgresqlH2Database.class.getClassLoader());
+    }
+
+    /**
+     * Creates the database by opening a first connection, which also registers
+     * the configured user as its administrator.
+     */
+    static PostgresqlH2Database create(final String database, final String username, final String password) {
+        final PostgresqlH2Database created =
+                new PostgresqlH2Database("jdbc:h2:mem:" + database + URL_OPTIONS, username, password);
+        try (Connection ignored = created.connect()) {
+            return created;
+        } catch (final SQLException ex) {
+            throw new IllegalStateException("Failed to create in-memory H2 database " + database, ex);
+        }
+    }
+
+    String getJdbcUrl() {
+        return this.jdbcUrl;
+    }
+
+    @Override
+    public void close() {
+        try (Connection connection = this.connect();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        } catch (final SQLException ex) {
+            throw new IllegalStateException("Failed to shut down in-memory H2 database", ex);
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(this.jdbcUrl, this.username, this.password);
+    }
+}
@@ -0,0 +1,22 @@
+package com.sitionix.forgeit.postgresql.internal.config;
+
+import com.sitionix.forgeit.core.internal.feature.FeatureInstallationContext;
+import com.sitionix.forgeit.core.internal.feature.FeatureInstaller;
+import com.sitionix.forgeit.postgresql.api.PostgresqlH2Support;
+
+/**
+ * Registers the Postgresql feature infrastructure for the H2 fast lane; the
+ * module runs in {@code h2} mode, which the test context customizer selects.
+ */
+public final class PostgresqlH2FeatureInstaller implements FeatureInstaller {
+
+    @Override
+    public Class<? extends PostgresqlH2Support> featureType() {
+        return PostgresqlH2Support.class;
+    }
+
+    @Override
+    public void install(final FeatureInstallationContext context) {
+        PostgresqlFeatureInstaller.registerInfrastructure(context);
+    }
+}
@@ -1,11 +1,15 @@
 package com.sitionix.forgeit.postgresql.internal.config;
 
+import com.sitionix.forgeit.core.internal.container.ContainerNetwork;
+import com.sitionix.forgeit.core.internal.container.ContainerProfile;
 import com.sitionix.forgeit.domain.model.sql.RelationalModuleProperties;
 import com.sitionix.forgeit.postgresql.internal.domain.GraphTxPolicy;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 /**
  * Configuration model for PostgreSQL settings exposed via {@code forge-it.modules.postgresql}.
  */
@@ -22,7 +26,9 @@ public final class PostgresqlProperties implements RelationalModuleProperties {
     private Boolean enabled;
 
     /**
-     * Defines how PostgreSQL is provided: internally via Testcontainers or externally.
+     * Defines how PostgreSQL is provided: internally via Testcontainers, externally,
+     * embedded as a local process started from bundled binaries, or emulated by an
+     * in-memory H2 database in PostgreSQL mode.
      */
     private RelationalModuleProperties.Mode mode;
 
@@ -38,6 +44,12 @@ public final class PostgresqlProperties implements RelationalModuleProperties {
      */
     private Connection connection;
 
+    /**
+     * JDBC connection pool configuration.
+     * Maps from "forge-it.modules.postgresql.pool".
+     */
+    private Pool pool;
+
     /**
      * DDL / SQL scripts configuration (root path for SQL files).
      * Maps from "forge-it.modules.postgresql.paths".
@@ -49,15 +61,84 @@ public final class PostgresqlProperties implements RelationalModuleProperties {
      */
     private GraphTxPolicy txPolicy = GraphTxPolicy.REQUIRES_NEW;
 
+    /**
+     * Database isolation between test classes.
+     * Maps from "forge-it.modules.postgresql.isolation".
+     */
+    private Isolation isolation = Isolation.SHARED;
+
+    public enum Isolation {
+        /**
+         * All test classes of a context share the configured database.
+         */
+        SHARED,
+        /**
+         * DDL scripts run once into a template database; every test class gets a
+         * fresh {@code CREATE DATABASE ... TEMPLATE} clone of it.
+         */
+        TEMPLATE
+    }
+
     @Data
     public static final class Container {
         /**
          * Docker image for PostgreSQL container (internal mode).
          */
         private String image;
+
+        /**
+         * Keeps the container running between test runs and reattaches to it when
+         * the configuration hash matches. Requires {@code testcontainers.reuse.enable=true}.
+         */
+        private Boolean reuse;
+
+        /**
+         * Durability profile; {@code ephemeral} keeps the data directory on tmpfs and
+         * disables fsync, synchronous_commit and full_page_writes.
+         */
+        private ContainerProfile profile;
+
+        /**
+         * With the ephemeral profile, converts all tables to UNLOGGED after the DDL
+         * scripts ran (shared isolation only).
+         */
+        private Boolean unloggedTables;
+
+        /**
+         * Commits the container to a local {@code forge-it-postgres-schema:<hash>} image
+         * after the DDL scripts ran and starts from that image while the scripts are
+         * unchanged (shared isolation without reuse only).
+         */
+        private Boolean schemaCache;
+
+        /**
+         * {@code direct} connects to the container's bridge address and internal
+         * port instead of the Docker-mapped host port on Linux hosts.
+         */
+        private ContainerNetwork network;
         // можна буде додати template, reuse, timeout тощо
     }
 
+    @Data
+    public static final class Pool {
+        /**
+         * Shares one pool between all cached contexts with the same connection
+         * details instead of opening a pool per context (shared isolation only).
+         */
+        private Boolean shared;
+
+        /**
+         * Maximum number of physical connections in a pool.
+         */
+        private Integer maximumSize;
+
+        /**
+         * Idle connections are closed after this timeout; pools keep no idle
+         * minimum, so a pool of an inactive context shrinks to zero.
+         */
+        private Duration idleTimeout;
+    }
+
     @Data
     public static final class Connection implements RelationalModuleProperties.Connection {
 
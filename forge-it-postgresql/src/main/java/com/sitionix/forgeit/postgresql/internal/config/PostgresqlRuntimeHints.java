@@ -0,0 +1,27 @@
+package com.sitionix.forgeit.postgresql.internal.config;
+
+import com.sitionix.forgeit.postgresql.config.PostgresqlDefaultsEnvironmentPostProcessor;
+import com.sitionix.forgeit.postgresql.internal.executor.PostgresqlTemplateCloneTestExecutionListener;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Runtime hints for the PostgreSQL module: its default configuration, the types
+ * instantiated from {@code spring.factories}, and the properties bound outside
+ * the context to start its infrastructure early.
+ */
+public final class PostgresqlRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(final RuntimeHints hints, final ClassLoader classLoader) {
+        hints.resources().registerPattern("forge-it-postgresql-default.yml");
+        hints.reflection()
+                .registerType(PostgresqlDefaultsEnvironmentPostProcessor.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+                .registerType(PostgresqlFeatureInstaller.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+                .registerType(PostgresqlH2FeatureInstaller.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+                .registerType(PostgresqlTemplateCloneTestExecutionListener.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), PostgresqlProperties.class);
+    }
+}
@@ -0,0 +1,227 @@
+package com.sitionix.forgeit.postgresql.internal.config;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.exception.DockerException;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.api.model.Image;
+import com.sitionix.forgeit.core.internal.container.ContainerProfile;
+import com.sitionix.forgeit.core.internal.container.ContainerReuse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caches PostgreSQL images with the schema already applied, keyed by a hash of
+ * the DDL scripts and of the default Flyway/Liquibase migration locations.
+ * Committing a new image removes the older images of the same DDL path, base
+ * image, database and user.
+ * <p>
+ * The official image declares its data directory as a volume, which
+ * {@code docker commit} does not capture, so containers that take part in the
+ * cache keep their data under {@link #DATA_DIRECTORY} instead.
+ */
+@Slf4j
+final class PostgresqlSchemaImageCache {
+
+    static final String DATA_DIRECTORY = "/var/lib/postgresql/forge-it-data";
+
+    private static final String REPOSITORY = "forge-it-postgres-schema";
+    private static final String SCHEMA_HASH_LABEL = "com.sitionix.forgeit.schema-hash";
+    private static final String SCHEMA_SOURCE_LABEL = "com.sitionix.forgeit.schema-source";
+    private static final String FORGE_IT_ROOT = "forge-it";
+    private static final List<String> MIGRATION_PATTERNS = List.of(
+            "classpath*:db/migration/**/*",
+            "classpath*:db/changelog/**/*");
+
+    private final ResourcePatternResolver resolver;
+
+    PostgresqlSchemaImageCache() {
+        this(new PathMatchingResourcePatternResolver());
+    }
+
+    PostgresqlSchemaImageCache(final ResourcePatternResolver resolver) {
+        this.resolver = resolver;
+    }
+
+    /**
+     * Hashes every script that shapes the schema, together with the base image,
+     * the database credentials, the container profile, the UNLOGGED tables option
+     * and the ForgeIT version, so that any change produces a new cache entry. The
+     * credentials take part because a cached data directory is already initialised
+     * and the image ignores the database, user and password it is started with.
+     */
+    String schemaHash(final String image,
+                      final String database,
+                      final String username,
+                      final String password,
+                      final String ddlPath,
+                      final ContainerProfile profile,
+                      final boolean unloggedTables) {
+        final String normalized = normalize(ddlPath);
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(image.getBytes(StandardCharsets.UTF_8));
+            digest.update(ContainerReuse.forgeItVersion().getBytes(StandardCharsets.UTF_8));
+            digest.update(("database=" + database + ";username=" + username + ";password=")
+                    .getBytes(StandardCharsets.UTF_8));
+            digest.update(MessageDigest.getInstance("SHA-256").digest(password.getBytes(StandardCharsets.UTF_8)));
+            digest.update(("profile=" + profile + ";unlogged=" + unloggedTables).getBytes(StandardCharsets.UTF_8));
+            this.digestResources(digest, "classpath*:" + FORGE_IT_ROOT + normalized + "/**/*.sql");
+            for (final String pattern : MIGRATION_PATTERNS) {
+                this.digestResources(digest, pattern);
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    String imageName(final String schemaHash) {
+        return REPOSITORY + ":" + schemaHash;
+    }
+
+    boolean isCached(final String schemaHash) {
+        try {
+            this.dockerClient().inspectImageCmd(this.imageName(schemaHash)).exec();
+            return true;
+        } catch (final NotFoundException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Checkpoints the database and commits the running container as the cached
+     * image for {@code schemaHash}. Must run before any table is switched to
+     * UNLOGGED: a container started from the image goes through crash recovery,
+     * which empties unlogged tables.
+     */
+    void snapshot(final PostgreSQLContainer<?> container, final String schemaHash, final String ddlPath) {
+        try {
+            final var result = container.execInContainer("psql", "-U", container.getUsername(),
+                    "-d", container.getDatabaseName(), "-c", "CHECKPOINT");
+            if (result.getExitCode() != 0) {
+                throw new IllegalStateException("CHECKPOINT failed: " + result.getStderr());
+            }
+        } catch (final IOException ex) {
+            throw new IllegalStateException("Failed to checkpoint PostgreSQL before snapshot", ex);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while checkpointing PostgreSQL before snapshot", ex);
+        }
+        final String source = schemaSource(container.getDockerImageName(), container.getDatabaseName(),
+                container.getUsername(), ddlPath);
+        this.dockerClient().commitCmd(container.getContainerId())
+                .withRepository(REPOSITORY)
+                .withTag(schemaHash)
+                .withLabels(Map.of(SCHEMA_HASH_LABEL, schemaHash,
+                        SCHEMA_SOURCE_LABEL, source,
+                        ContainerReuse.VERSION_LABEL, ContainerReuse.forgeItVersion()))
+                .exec();
+        log.info("Cached PostgreSQL schema image {}", this.imageName(schemaHash));
+        this.pruneOutdated(source, schemaHash);
+    }
+
+    /**
+     * Removes the images committed for earlier versions of the same schema. Images
+     * still used by a container are left in place.
+     */
+    private void pruneOutdated(final String source, final String schemaHash) {
+        final List<Image> images;
+        try {
+            images = this.dockerClient().listImagesCmd()
+                    .withLabelFilter(Map.of(SCHEMA_SOURCE_LABEL, source))
+                    .exec();
+        } catch (final DockerException ex) {
+            log.debug("Failed to list cached PostgreSQL schema images", ex);
+            return;
+        }
+        for (final Image image : images) {
+            final Map<String, String> labels = image.getLabels();
+            if (labels == null || schemaHash.equals(labels.get(SCHEMA_HASH_LABEL))) {
+                continue;
+            }
+            try {
+                this.dockerClient().removeImageCmd(image.getId()).exec();
+                log.info("Removed outdated PostgreSQL schema image {}", this.imageName(labels.get(SCHEMA_HASH_LABEL)));
+            } catch (final DockerException ex) {
+                log.debug("Kept outdated PostgreSQL schema image {}", image.getId(), ex);
+            }
+        }
+    }
+
+    /**
+     * Identifies the schema independently of its scripts, so that images committed
+     * for older script versions can be found and pruned.
+     */
+    static String schemaSource(final String image,
+                               final String database,
+                               final String username,
+                               final String ddlPath) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.join("|", image, database, username, normalize(ddlPath))
+                    .getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static String normalize(final String ddlPath) {
+        final String trimmed = ddlPath.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+
+    private void digestResources(final MessageDigest digest, final String pattern) {
+        final Resource[] resources;
+        try {
+            resources = this.resolver.getResources(pattern);
+        } catch (final IOException ex) {
+            throw new IllegalStateException("Failed to resolve schema scripts from " + pattern, ex);
+        }
+        Arrays.stream(resources)
+                .filter(Resource::isReadable)
+                .sorted(Comparator.comparing(PostgresqlSchemaImageCache::relativePath))
+                .forEach(resource -> {
+                    digest.update(relativePath(resource).getBytes(StandardCharsets.UTF_8));
+                    try (InputStream inputStream = resource.getInputStream()) {
+                        digest.update(inputStream.readAllBytes());
+                    } catch (final IOException ex) {
+                        throw new IllegalStateException("Failed to read schema script " + resource, ex);
+                    }
+                });
+    }
+
+    private static String relativePath(final Resource resource) {
+        final String description;
+        try {
+            description = resource.getURL().toString();
+        } catch (final IOException ex) {
+            return String.valueOf(resource.getFilename());
+        }
+        final int forgeItRoot = description.lastIndexOf("/" + FORGE_IT_ROOT + "/");
+        if (forgeItRoot >= 0) {
+            return description.substring(forgeItRoot + 1);
+        }
+        final int dbRoot = description.lastIndexOf("/db/");
+        return dbRoot >= 0 ? description.substring(dbRoot + 1) : description;
+    }
+
+    private DockerClient dockerClient() {
+        return DockerClientFactory.instance().client();
+    }
+}
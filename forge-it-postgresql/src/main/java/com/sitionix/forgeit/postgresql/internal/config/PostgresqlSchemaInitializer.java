@@ -5,22 +5,37 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationStartupAware;
+import org.springframework.dao.DataAccessException;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 
 @Slf4j
 @RequiredArgsConstructor
 @Component
-public class PostgresqlSchemaInitializer {
+public class PostgresqlSchemaInitializer implements ApplicationStartupAware {
 
-    @SuppressWarnings("unused")
     private final PostgresqlContainerManager containerManager;
     private final SqlScriptExecutor sqlScriptExecutor;
     @Qualifier("postgresDataSource")
     private final DataSource dataSource;
     private final PostgresqlProperties properties;
+    private final PostgresqlTemplateDatabases templateDatabases;
+
+    private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+
+    @Override
+    public void setApplicationStartup(final ApplicationStartup applicationStartup) {
+        this.applicationStartup = applicationStartup;
+    }
 
     @EventListener(ApplicationReadyEvent.class)
     public void initializeSchema() {
@@ -34,12 +49,81 @@ public class PostgresqlSchemaInitializer {
         final String basePath = this.properties.getPaths().getDdl().getPath().trim();
         log.info("Initializing PostgreSQL schema from path: {}", basePath);
 
+        final StartupStep step = this.applicationStartup.start("forge-it.postgresql.schema")
+                .tag("path", basePath);
+        try {
+            this.applySchema(basePath);
+        } finally {
+            step.end();
+        }
+    }
+
+    private void applySchema(final String basePath) {
+        if (this.templateDatabases.isEnabled()) {
+            try {
+                this.templateDatabases.initialise(basePath);
+                log.info("PostgreSQL template database initialization completed successfully");
+            } catch (final Exception ex) {
+                log.error("PostgreSQL template database initialization failed", ex);
+                throw new IllegalStateException("Failed to initialize PostgreSQL template database from " + basePath, ex);
+            }
+            return;
+        }
+
         try {
-            this.sqlScriptExecutor.executeAllForDataSource(this.dataSource, basePath);
-            log.info("PostgreSQL schema initialization completed successfully");
+            this.containerManager.initialiseOnce("schema:" + basePath, () -> {
+                if (this.containerManager.isReuseEnabled()) {
+                    this.resetReusedSchema();
+                }
+                this.sqlScriptExecutor.executeAllForDataSource(this.dataSource, basePath);
+                this.containerManager.snapshotSchema();
+                log.info("PostgreSQL schema initialization completed successfully");
+            });
+            // after the snapshot, and also for containers restored from a cached image,
+            // whose crash recovery would otherwise empty unlogged tables
+            if (this.containerManager.isUnloggedTablesEnabled()) {
+                this.containerManager.initialiseOnce("unlogged:" + basePath, this::convertTablesToUnlogged);
+            }
         } catch (final Exception ex) {
             log.error("PostgreSQL schema initialization failed", ex);
             throw new IllegalStateException("Failed to initialize PostgreSQL schema from " + basePath, ex);
         }
     }
+
+    /**
+     * A reused container still holds the schema and data of the previous run,
+     * so the public schema is recreated before the DDL scripts are replayed.
+     */
+    private void resetReusedSchema() {
+        log.info("Resetting public schema of reused PostgreSQL container");
+        new JdbcTemplate(this.dataSource).execute("DROP SCHEMA IF EXISTS public CASCADE; CREATE SCHEMA public");
+    }
+
+    /**
+     * Converts all tables of the public schema to UNLOGGED. A logged table may not
+     * reference an unlogged one, so tables that fail because of a foreign key are
+     * retried until no further progress is made.
+     */
+    private void convertTablesToUnlogged() {
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(this.dataSource);
+        final List<String> pending = new ArrayList<>(jdbcTemplate.queryForList(
+                "SELECT tablename FROM pg_tables WHERE schemaname = 'public'", String.class));
+        boolean progress = true;
+        while (!pending.isEmpty() && progress) {
+            progress = false;
+            for (final Iterator<String> iterator = pending.iterator(); iterator.hasNext(); ) {
+                final String table = iterator.next();
+                try {
+                    jdbcTemplate.execute("ALTER TABLE public.\"" + table.replace("\"", "\"\"") + "\" SET UNLOGGED");
+                    iterator.remove();
+                    progress = true;
+                } catch (final DataAccessException ex) {
+                    log.debug("Deferring UNLOGGED conversion of table {}: {}", table, ex.getMessage());
+                }
+            }
+        }
+        if (!pending.isEmpty()) {
+            log.warn("PostgreSQL tables left logged: {}", pending);
+        }
+    }
 }
@@ -0,0 +1,26 @@
+package com.sitionix.forgeit.postgresql.internal.config;
+
+import com.sitionix.forgeit.core.internal.container.SharedContainerRegistry;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Context-local handle to a connection pool shared by every cached context that
+ * connects with the same details. Closing the context releases the handle; the
+ * pool itself closes with the last one.
+ */
+public final class PostgresqlSharedDataSource extends DelegatingDataSource implements DisposableBean {
+
+    private final SharedContainerRegistry.Lease<HikariDataSource> lease;
+
+    PostgresqlSharedDataSource(final SharedContainerRegistry.Lease<HikariDataSource> lease) {
+        super(lease.container());
+        this.lease = lease;
+    }
+
+    @Override
+    public void destroy() {
+        this.lease.release();
+    }
+}
@@ -0,0 +1,179 @@
+package com.sitionix.forgeit.postgresql.internal.config;
+
+import com.sitionix.forgeit.domain.executor.SqlScriptExecutor;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Builds the schema once into a template database and hands every test class a
+ * fresh {@code CREATE DATABASE ... TEMPLATE} clone of it.
+ * <p>
+ * Active only when {@code forge-it.modules.postgresql.isolation} is
+ * {@code template}; the {@code postgresDataSource} is then a
+ * {@link PostgresqlCloneDataSource} that is re-pointed at each new clone.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PostgresqlTemplateDatabases implements DisposableBean {
+
+    private static final String MAINTENANCE_DATABASE = "postgres";
+    private static final String TEMPLATE_SUFFIX = "_template";
+    private static final AtomicLong CLONE_SEQUENCE = new AtomicLong();
+    private static final Object CLONE_LOCK = new Object();
+
+    private final PostgresqlContainerManager containerManager;
+    private final SqlScriptExecutor sqlScriptExecutor;
+    @Qualifier("postgresDataSource")
+    private final DataSource dataSource;
+    private final PostgresqlProperties properties;
+
+    private String baseUrl;
+    private String baseDatabase;
+    private String currentClone;
+    private boolean pristine;
+
+    boolean isEnabled() {
+        return this.properties.getIsolation() == PostgresqlProperties.Isolation.TEMPLATE
+                && this.dataSource instanceof PostgresqlCloneDataSource;
+    }
+
+    /**
+     * Builds the template database from the DDL scripts under {@code basePath}
+     * (once per container) and switches the context to a first clone.
+     */
+    synchronized void initialise(final String basePath) {
+        final HikariDataSource target = this.cloneDataSource().currentTarget();
+        this.baseUrl = target.getJdbcUrl();
+        this.baseDatabase = databaseName(this.baseUrl);
+        final String template = this.baseDatabase + TEMPLATE_SUFFIX;
+        this.containerManager.initialiseOnce("template:" + basePath, () -> this.buildTemplate(template, basePath));
+        this.switchToNewClone();
+        this.pristine = true;
+    }
+
+    /**
+     * Gives the upcoming test class its own clone. The clone created while the
+     * context started is handed to the first test class as is.
+     */
+    public synchronized void prepareForTestClass() {
+        if (this.baseUrl == null) {
+            return;
+        }
+        if (this.pristine) {
+            this.pristine = false;
+            return;
+        }
+        this.switchToNewClone();
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (this.currentClone != null) {
+            this.cloneDataSource().destroy();
+            this.dropQuietly(this.currentClone);
+            this.currentClone = null;
+        }
+    }
+
+    private void buildTemplate(final String template, final String basePath) {
+        log.info("Building PostgreSQL template database {} from path: {}", template, basePath);
+        this.executeAdmin("DROP DATABASE IF EXISTS " + quote(template));
+        this.executeAdmin("CREATE DATABASE " + quote(template));
+        final HikariDataSource target = this.cloneDataSource().currentTarget();
+        final SingleConnectionDataSource templateDataSource = new SingleConnectionDataSource(
+                withDatabase(this.baseUrl, template), target.getUsername(), target.getPassword(), true);
+        try {
+            this.sqlScriptExecutor.executeAllForDataSource(templateDataSource, basePath);
+        } finally {
+            templateDataSource.destroy();
+        }
+    }
+
+    private void switchToNewClone() {
+        final String template = this.baseDatabase + TEMPLATE_SUFFIX;
+        final String clone = this.baseDatabase + "_" + ProcessHandle.current().pid() + "_" + CLONE_SEQUENCE.incrementAndGet();
+        synchronized (CLONE_LOCK) {
+            this.executeAdmin("CREATE DATABASE " + quote(clone) + " TEMPLATE " + quote(template));
+        }
+        final PostgresqlCloneDataSource cloneDataSource = this.cloneDataSource();
+        final HikariDataSource current = cloneDataSource.currentTarget();
+        final HikariDataSource next = new HikariDataSource();
+        next.setJdbcUrl(withDatabase(this.baseUrl, clone));
+        next.setUsername(current.getUsername());
+        next.setPassword(current.getPassword());
+        next.setDriverClassName(current.getDriverClassName());
+        next.setMaximumPoolSize(current.getMaximumPoolSize());
+        next.setMinimumIdle(current.getMinimumIdle());
+        next.setIdleTimeout(current.getIdleTimeout());
+        cloneDataSource.switchTo(next);
+        log.debug("Switched PostgreSQL data source to clone {}", clone);
+
+        final String previous = this.currentClone;
+        this.currentClone = clone;
+        if (previous != null) {
+            this.dropQuietly(previous);
+        }
+    }
+
+    private void dropQuietly(final String database) {
+        try {
+            this.executeAdmin("DROP DATABASE IF EXISTS " + quote(database));
+        } catch (final RuntimeException ex) {
+            log.warn("Failed to drop PostgreSQL clone database {}", database, ex);
+        }
+    }
+
+    private void executeAdmin(final String sql) {
+        final HikariDataSource target = this.cloneDataSource().currentTarget();
+        try (Connection connection = DriverManager.getConnection(
+                withDatabase(this.baseUrl, MAINTENANCE_DATABASE), target.getUsername(), target.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        } catch (final SQLException ex) {
+            throw new IllegalStateException("Failed to execute PostgreSQL statement: " + sql, ex);
+        }
+    }
+
+    private PostgresqlCloneDataSource cloneDataSource() {
+        if (!(this.dataSource instanceof final PostgresqlCloneDataSource cloneDataSource)) {
+            throw new IllegalStateException("forge-it.modules.postgresql.isolation=template requires the ForgeIT postgresDataSource");
+        }
+        return cloneDataSource;
+    }
+
+    static String databaseName(final String jdbcUrl) {
+        final int pathStart = jdbcUrl.indexOf('/', jdbcUrl.indexOf("//") + 2);
+        if (pathStart < 0) {
+            throw new IllegalStateException("Cannot resolve database name from JDBC URL " + jdbcUrl);
+        }
+        final int queryStart = jdbcUrl.indexOf('?', pathStart);
+        return queryStart < 0 ? jdbcUrl.substring(pathStart + 1) : jdbcUrl.substring(pathStart + 1, queryStart);
+    }
+
+    static String withDatabase(final String jdbcUrl, final String database) {
+        final int pathStart = jdbcUrl.indexOf('/', jdbcUrl.indexOf("//") + 2);
+        if (pathStart < 0) {
+            throw new IllegalStateException("Cannot resolve database name from JDBC URL " + jdbcUrl);
+        }
+        final int queryStart = jdbcUrl.indexOf('?', pathStart);
+        final String query = queryStart < 0 ? "" : jdbcUrl.substring(queryStart);
+        return jdbcUrl.substring(0, pathStart + 1) + database + query;
+    }
+
+    private static String quote(final String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+}
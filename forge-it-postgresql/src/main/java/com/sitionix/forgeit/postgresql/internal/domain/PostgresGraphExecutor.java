@@ -1,5 +1,6 @@
 package com.sitionix.forgeit.postgresql.internal.domain;
 
+import com.sitionix.forgeit.core.internal.jfr.GraphPersistEvent;
 import com.sitionix.forgeit.domain.ForgeItConfigurationException;
 import com.sitionix.forgeit.domain.contract.DbContract;
 import com.sitionix.forgeit.domain.contract.DbContractInvocation;
@@ -41,6 +42,12 @@ public class PostgresGraphExecutor {
     }
 
     public DbGraphResult execute(final DbGraphContext context, final List<DbContractInvocation<?>> chain) {
+        final GraphPersistEvent event = new GraphPersistEvent(this.txPolicy.name());
+        event.setSize(chain.size());
+        return event.record(() -> this.persist(context, chain));
+    }
+
+    private DbGraphResult persist(final DbGraphContext context, final List<DbContractInvocation<?>> chain) {
         this.guardMandatoryTransaction();
 
         return this.txTemplate.execute(status -> {
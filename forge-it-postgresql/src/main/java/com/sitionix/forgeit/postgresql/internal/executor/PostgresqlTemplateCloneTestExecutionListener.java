@@ -0,0 +1,41 @@
+package com.sitionix.forgeit.postgresql.internal.executor;
+
+import com.sitionix.forgeit.core.internal.jfr.CleanupEvent;
+import com.sitionix.forgeit.postgresql.internal.config.PostgresqlTemplateDatabases;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+/**
+ * Hands every test class a fresh clone of the PostgreSQL template database when
+ * {@code forge-it.modules.postgresql.isolation} is {@code template}.
+ */
+public final class PostgresqlTemplateCloneTestExecutionListener extends AbstractTestExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresqlTemplateCloneTestExecutionListener.class);
+
+    @Override
+    public int getOrder() {
+        return 2900;
+    }
+
+    @Override
+    public void beforeTestClass(final TestContext testContext) {
+        if (!testContext.hasApplicationContext()) {
+            log.debug("Skipping PostgreSQL clone because the context is not loaded yet; it starts on a fresh clone.");
+            return;
+        }
+        final ApplicationContext applicationContext = testContext.getApplicationContext();
+        applicationContext.getBeanProvider(PostgresqlTemplateDatabases.class)
+                .ifAvailable(databases -> this.prepare(testContext, databases));
+    }
+
+    private void prepare(final TestContext testContext, final PostgresqlTemplateDatabases databases) {
+        final CleanupEvent event = new CleanupEvent(PostgresqlTemplateCloneTestExecutionListener.class.getSimpleName(),
+                PostgresqlTemplateDatabases.class.getName(),
+                testContext.getTestClass().getName());
+        event.run(() -> databases.prepareForTestClass());
+    }
+}
@@ -21,5 +21,6 @@ class PostgresqlDefaultsEnvironmentPostProcessorTests {
         assertThat(environment.getProperty("forge-it.modules.postgresql.mode")).isEqualTo("internal");
         assertThat(environment.getProperty("forge-it.modules.postgresql.connection.host")).isEqualTo("localhost");
         assertThat(environment.getProperty("forge-it.modules.postgresql.connection.port")).isEqualTo("5432");
+        assertThat(environment.getProperty("forge-it.modules.postgresql.container.profile")).isEqualTo("default");
     }
 }
@@ -1,11 +1,22 @@
 package com.sitionix.forgeit.postgresql.internal.config;
 
+import com.sitionix.forgeit.core.internal.container.SharedContainerRegistry;
 import com.sitionix.forgeit.domain.model.sql.RelationalModuleProperties;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
 import org.springframework.mock.env.MockEnvironment;
 
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 
 class PostgresqlContainerManagerTests {
 
@@ -73,4 +84,166 @@ class PostgresqlContainerManagerTests {
                 .hasMessageContaining("forge-it.modules.postgresql.connection.port");
     }
 
+    @Test
+    void shouldNotPrestartContainerInExternalMode() throws Exception {
+        final PostgresqlProperties properties = new PostgresqlProperties();
+        properties.setEnabled(true);
+        properties.setMode(RelationalModuleProperties.Mode.EXTERNAL);
+
+        final PostgresqlContainerManager manager = new PostgresqlContainerManager(null, properties);
+
+        try (AutoCloseable handle = manager.prestart()) {
+            assertThat(handle).isNotNull();
+        }
+    }
+
+    @Test
+    void shouldRejectPrestartWithoutMode() {
+        final PostgresqlProperties properties = new PostgresqlProperties();
+        properties.setEnabled(true);
+
+        final PostgresqlContainerManager manager = new PostgresqlContainerManager(null, properties);
+
+        assertThatThrownBy(manager::prestart)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("forge-it.modules.postgresql.mode");
+    }
+
+    @Test
+    void shouldShareInMemoryDatabaseInH2Mode() {
+        final MockEnvironment environment = new MockEnvironment();
+        final PostgresqlProperties properties = new PostgresqlProperties();
+        properties.setEnabled(true);
+        properties.setMode(RelationalModuleProperties.Mode.H2);
+
+        final PostgresqlProperties.Connection connection = new PostgresqlProperties.Connection();
+        connection.setDatabase("forge-it-h2");
+        connection.setUsername("forge-user");
+        connection.setPassword("forge-pass");
+        properties.setConnection(connection);
+
+        final PostgresqlContainerManager first = new PostgresqlContainerManager(environment, properties);
+        final PostgresqlContainerManager second = new PostgresqlContainerManager(null, properties);
+        final AtomicInteger schemaRuns = new AtomicInteger();
+
+        first.afterPropertiesSet();
+        second.afterPropertiesSet();
+        try {
+            first.initialiseOnce("schema", schemaRuns::incrementAndGet);
+            second.initialiseOnce("schema", schemaRuns::incrementAndGet);
+
+            assertThat(environment.getProperty("forge-it.postgresql.connection.jdbc-url"))
+                    .startsWith("jdbc:h2:mem:forge-it-h2;MODE=PostgreSQL");
+            assertThat(environment.getProperty("forge-it.postgresql.connection.host")).isNull();
+            assertThat(schemaRuns).hasValue(1);
+        } finally {
+            first.destroy();
+            second.destroy();
+        }
+    }
+
+    @Test
+    void shouldRejectTemplateIsolationInH2Mode() {
+        final PostgresqlProperties properties = new PostgresqlProperties();
+        properties.setEnabled(true);
+        properties.setMode(RelationalModuleProperties.Mode.H2);
+        properties.setIsolation(PostgresqlProperties.Isolation.TEMPLATE);
+        properties.setConnection(new PostgresqlProperties.Connection());
+
+        final PostgresqlContainerManager manager = new PostgresqlContainerManager(new MockEnvironment(), properties);
+
+        assertThatThrownBy(manager::afterPropertiesSet)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("forge-it.modules.postgresql.isolation");
+    }
+
+    @Test
+    void shouldRequireEmbeddedPostgresOnClasspath() {
+        final ClassLoader withoutEmbeddedPostgres = new ClassLoader(null) {
+        };
+
+        assertThatThrownBy(() -> PostgresqlContainerManager.requireEmbeddedServer(withoutEmbeddedPostgres))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("io.zonky.test:embedded-postgres");
+        assertThatCode(() -> PostgresqlContainerManager.requireEmbeddedServer(this.getClass().getClassLoader()))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldKeyEmbeddedServerByCredentials() {
+        final PostgresqlContainerManager first = new PostgresqlContainerManager(null, embeddedProperties("forge-pass"));
+        final PostgresqlContainerManager same = new PostgresqlContainerManager(null, embeddedProperties("forge-pass"));
+        final PostgresqlContainerManager other = new PostgresqlContainerManager(null, embeddedProperties("other-pass"));
+
+        assertThat(first.embeddedKey())
+                .isEqualTo(same.embeddedKey())
+                .isNotEqualTo(other.embeddedKey())
+                .startsWith("postgresql|embedded|forge-it-embedded|forge-user|")
+                .doesNotContain("forge-pass");
+    }
+
+    @Test
+    void shouldPrestartEmbeddedServerInEmbeddedMode() throws Exception {
+        final MockEnvironment environment = new MockEnvironment();
+        final PostgresqlContainerManager manager = new PostgresqlContainerManager(environment,
+                embeddedProperties("forge-pass"));
+        final EmbeddedPostgresqlServer server = mock(EmbeddedPostgresqlServer.class);
+        given(server.getHost()).willReturn("localhost");
+        given(server.getPort()).willReturn(15432);
+        given(server.getJdbcUrl("forge-it-embedded")).willReturn("jdbc:postgresql://localhost:15432/forge-it-embedded");
+
+        try (SharedContainerRegistry.Lease<EmbeddedPostgresqlServer> held =
+                     SharedContainerRegistry.acquire(manager.embeddedKey(), () -> server)) {
+            try (AutoCloseable handle = manager.prestart()) {
+                assertThat(handle).isInstanceOfSatisfying(SharedContainerRegistry.Lease.class,
+                        lease -> assertThat(lease.container()).isSameAs(server));
+            }
+
+            manager.afterPropertiesSet();
+            try {
+                assertThat(environment.getProperty("forge-it.postgresql.connection.jdbc-url"))
+                        .isEqualTo("jdbc:postgresql://localhost:15432/forge-it-embedded");
+                assertThat(environment.getProperty("forge-it.postgresql.connection.port")).isEqualTo("15432");
+                assertThat(SharedContainerRegistry.references(held.key())).isEqualTo(2);
+            } finally {
+                manager.destroy();
+            }
+        }
+    }
+
+    /**
+     * PostgreSQL refuses to run as root, so the embedded server can only be
+     * started by an unprivileged build user.
+     */
+    @Test
+    @DisabledIfSystemProperty(named = "user.name", matches = "root")
+    void shouldStartEmbeddedServer() throws Exception {
+        final MockEnvironment environment = new MockEnvironment();
+        final PostgresqlContainerManager manager = new PostgresqlContainerManager(environment,
+                embeddedProperties("forge-pass"));
+
+        manager.afterPropertiesSet();
+        try (Connection connection = DriverManager.getConnection(
+                environment.getProperty("forge-it.postgresql.connection.jdbc-url"), "forge-user", "forge-pass");
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT current_database()")) {
+            assertThat(resultSet.next()).isTrue();
+            assertThat(resultSet.getString(1)).isEqualTo("forge-it-embedded");
+        } finally {
+            manager.destroy();
+        }
+    }
+
+    private static PostgresqlProperties embeddedProperties(final String password) {
+        final PostgresqlProperties properties = new PostgresqlProperties();
+        properties.setEnabled(true);
+        properties.setMode(RelationalModuleProperties.Mode.EMBEDDED);
+
+        final PostgresqlProperties.Connection connection = new PostgresqlProperties.Connection();
+        connection.setDatabase("forge-it-embedded");
+        connection.setUsername("forge-user");
+        connection.setPassword(password);
+        properties.setConnection(connection);
+        return properties;
+    }
 }
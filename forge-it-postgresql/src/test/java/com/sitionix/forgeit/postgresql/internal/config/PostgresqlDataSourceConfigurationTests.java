@@ -1,8 +1,12 @@
 package com.sitionix.forgeit.postgresql.internal.config;
 
+import com.zaxxer.hikari.HikariDataSource;
 import org.junit.jupiter.api.Test;
 import org.springframework.mock.env.MockEnvironment;
 
+import javax.sql.DataSource;
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class PostgresqlDataSourceConfigurationTests {
@@ -54,4 +58,56 @@ class PostgresqlDataSourceConfigurationTests {
         assertThat(details.username()).isEqualTo("forge-it-user");
         assertThat(details.password()).isEqualTo("forge-it-pass");
     }
+
+    @Test
+    void wrapsDataSourceForTemplateIsolation() throws Exception {
+        final MockEnvironment environment = new MockEnvironment();
+        environment.setProperty("forge-it.postgresql.connection.jdbc-url", "jdbc:postgresql://forge-host:6432/forge-db");
+
+        final PostgresqlProperties properties = new PostgresqlProperties();
+        final PostgresqlProperties.Connection connection = new PostgresqlProperties.Connection();
+        connection.setUsername("forge-user");
+        connection.setPassword("forge-pass");
+        properties.setConnection(connection);
+        properties.setIsolation(PostgresqlProperties.Isolation.TEMPLATE);
+
+        final DataSource dataSource = this.configuration.postgresDataSource(environment, properties);
+
+        assertThat(dataSource).isInstanceOf(PostgresqlCloneDataSource.class);
+        assertThat(((PostgresqlCloneDataSource) dataSource).currentTarget().getJdbcUrl())
+                .isEqualTo("jdbc:postgresql://forge-host:6432/forge-db");
+        ((PostgresqlCloneDataSource) dataSource).destroy();
+    }
+
+    @Test
+    void sharesRightSizedPoolBetweenContextsWithSameConnectionDetails() throws Exception {
+        final MockEnvironment environment = new MockEnvironment();
+        environment.setProperty("forge-it.postgresql.connection.jdbc-url", "jdbc:postgresql://shared-host:6432/forge-db");
+
+        final PostgresqlProperties properties = new PostgresqlProperties();
+        final PostgresqlProperties.Connection connection = new PostgresqlProperties.Connection();
+        connection.setUsername("forge-user");
+        connection.setPassword("forge-pass");
+        properties.setConnection(connection);
+        final PostgresqlProperties.Pool pool = new PostgresqlProperties.Pool();
+        pool.setShared(true);
+        pool.setMaximumSize(3);
+        pool.setIdleTimeout(Duration.ofSeconds(20));
+        properties.setPool(pool);
+
+        final DataSource first = this.configuration.postgresDataSource(environment, properties);
+        final DataSource second = this.configuration.postgresDataSource(environment, properties);
+
+        assertThat(first).isInstanceOf(PostgresqlSharedDataSource.class);
+        final HikariDataSource target = (HikariDataSource) ((PostgresqlSharedDataSource) first).getTargetDataSource();
+        assertThat(((PostgresqlSharedDataSource) second).getTargetDataSource()).isSameAs(target);
+        assertThat(target.getMaximumPoolSize()).isEqualTo(3);
+        assertThat(target.getMinimumIdle()).isZero();
+        assertThat(target.getIdleTimeout()).isEqualTo(20_000L);
+
+        ((PostgresqlSharedDataSource) first).destroy();
+        assertThat(target.isClosed()).isFalse();
+        ((PostgresqlSharedDataSource) second).destroy();
+        assertThat(target.isClosed()).isTrue();
+    }
 }
@@ -0,0 +1,13 @@
+package com.sitionix.forgeit.postgresql.internal.config;
+
+import org.junit.jupiter.api.Test;
+
+import static com.sitionix.forgeit.testing.FeatureInstallerAssertions.assertRegistersScannedComponents;
+
+class PostgresqlFeatureInstallerTests {
+
+    @Test
+    void shouldRegisterTheComponentsPackageScanningWouldFind() {
+        assertRegistersScannedComponents(new PostgresqlFeatureInstaller(), "com.sitionix.forgeit.postgresql.internal");
+    }
+}
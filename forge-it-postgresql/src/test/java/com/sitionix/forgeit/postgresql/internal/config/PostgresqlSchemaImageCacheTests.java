@@ -0,0 +1,99 @@
+package com.sitionix.forgeit.postgresql.internal.config;
+
+import com.sitionix.forgeit.core.internal.container.ContainerProfile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostgresqlSchemaImageCacheTests {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void hashIsStableForUnchangedScripts() throws IOException {
+        this.write("forge-it/db/postgresql/001_schema.sql", "CREATE TABLE users (id BIGINT);");
+        final PostgresqlSchemaImageCache cache = this.cache();
+
+        assertThat(cache.schemaHash("postgres:16-alpine", "forge-it", "forge-it", "secret", "/db/postgresql", null, false))
+                .hasSize(32)
+                .isEqualTo(cache.schemaHash("postgres:16-alpine", "forge-it", "forge-it", "secret", "/db/postgresql/", null, false));
+    }
+
+    @Test
+    void hashChangesWithScriptsAndImage() throws IOException {
+        this.write("forge-it/db/postgresql/001_schema.sql", "CREATE TABLE users (id BIGINT);");
+        final PostgresqlSchemaImageCache cache = this.cache();
+        final String initial = cache.schemaHash("postgres:16-alpine", "forge-it", "forge-it", "secret", "/db/postgresql", null, false);
+
+        assertThat(cache.schemaHash("postgres:17-alpine", "forge-it", "forge-it", "secret", "/db/postgresql", null, false)).isNotEqualTo(initial);
+
+        this.write("forge-it/db/postgresql/002_orders.sql", "CREATE TABLE orders (id BIGINT);");
+        final String withMigration = cache.schemaHash("postgres:16-alpine", "forge-it", "forge-it", "secret", "/db/postgresql", null, false);
+        assertThat(withMigration).isNotEqualTo(initial);
+
+        this.write("db/migration/V1__init.sql", "CREATE TABLE audit (id BIGINT);");
+        assertThat(cache.schemaHash("postgres:16-alpine", "forge-it", "forge-it", "secret", "/db/postgresql", null, false)).isNotEqualTo(withMigration);
+    }
+
+    @Test
+    void hashChangesWithProfileAndUnloggedTables() throws IOException {
+        this.write("forge-it/db/postgresql/001_schema.sql", "CREATE TABLE users (id BIGINT);");
+        final PostgresqlSchemaImageCache cache = this.cache();
+        final String ephemeral = cache.schemaHash("postgres:16-alpine", "forge-it", "forge-it", "secret", "/db/postgresql", ContainerProfile.EPHEMERAL, false);
+
+        assertThat(ephemeral)
+                .isNotEqualTo(cache.schemaHash("postgres:16-alpine", "forge-it", "forge-it", "secret", "/db/postgresql", null, false))
+                .isNotEqualTo(cache.schemaHash("postgres:16-alpine", "forge-it", "forge-it", "secret", "/db/postgresql", ContainerProfile.EPHEMERAL, true));
+    }
+
+    @Test
+    void hashChangesWithCredentials() throws IOException {
+        this.write("forge-it/db/postgresql/001_schema.sql", "CREATE TABLE users (id BIGINT);");
+        final PostgresqlSchemaImageCache cache = this.cache();
+        final String initial = cache.schemaHash("postgres:16-alpine", "forge-it", "forge-it", "secret", "/db/postgresql", null, false);
+
+        assertThat(initial)
+                .isNotEqualTo(cache.schemaHash("postgres:16-alpine", "orders", "forge-it", "secret", "/db/postgresql", null, false))
+                .isNotEqualTo(cache.schemaHash("postgres:16-alpine", "forge-it", "orders", "secret", "/db/postgresql", null, false))
+                .isNotEqualTo(cache.schemaHash("postgres:16-alpine", "forge-it", "forge-it", "other", "/db/postgresql", null, false));
+    }
+
+    @Test
+    void sourceDependsOnImageAndDdlPath() {
+        final String source = PostgresqlSchemaImageCache.schemaSource("postgres:16-alpine", "forge-it", "forge-it", "/db/postgresql");
+
+        assertThat(source)
+                .isEqualTo(PostgresqlSchemaImageCache.schemaSource("postgres:16-alpine", "forge-it", "forge-it", "/db/postgresql/"))
+                .isNotEqualTo(PostgresqlSchemaImageCache.schemaSource("postgres:16-alpine", "forge-it", "forge-it", "/db/other"))
+                .isNotEqualTo(PostgresqlSchemaImageCache.schemaSource("postgres:17-alpine", "forge-it", "forge-it", "/db/postgresql"));
+    }
+
+    @Test
+    void namesImageAfterHash() {
+        assertThat(this.cache().imageName("abc")).isEqualTo("forge-it-postgres-schema:abc");
+    }
+
+    private PostgresqlSchemaImageCache cache() {
+        final String base = this.root.toUri().toString();
+        return new PostgresqlSchemaImageCache(new PathMatchingResourcePatternResolver() {
+            @Override
+            public Resource[] getResources(final String locationPattern) throws IOException {
+                return super.getResources(locationPattern.replace("classpath*:", base));
+            }
+        });
+    }
+
+    private void write(final String relativePath, final String content) throws IOException {
+        final Path file = this.root.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
@@ -0,0 +1,25 @@
+package com.sitionix.forgeit.postgresql.internal.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostgresqlTemplateDatabasesTests {
+
+    @Test
+    void resolvesDatabaseNameFromJdbcUrl() {
+        assertThat(PostgresqlTemplateDatabases.databaseName("jdbc:postgresql://localhost:5432/forge-it"))
+                .isEqualTo("forge-it");
+        assertThat(PostgresqlTemplateDatabases.databaseName("jdbc:postgresql://localhost:5432/forge-it?loggerLevel=OFF"))
+                .isEqualTo("forge-it");
+    }
+
+    @Test
+    void replacesDatabaseAndKeepsQueryParameters() {
+        assertThat(PostgresqlTemplateDatabases.withDatabase(
+                "jdbc:postgresql://localhost:5432/forge-it?loggerLevel=OFF", "forge-it_template"))
+                .isEqualTo("jdbc:postgresql://localhost:5432/forge-it_template?loggerLevel=OFF");
+        assertThat(PostgresqlTemplateDatabases.withDatabase("jdbc:postgresql://localhost:5432/forge-it", "postgres"))
+                .isEqualTo("jdbc:postgresql://localhost:5432/postgres");
+    }
+}
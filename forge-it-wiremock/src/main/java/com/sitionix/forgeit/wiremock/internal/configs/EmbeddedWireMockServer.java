@@ -0,0 +1,40 @@
+package com.sitionix.forgeit.wiremock.internal.configs;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+/**
+ * In-process {@link WireMockServer} bound to a random loopback port, wrapped so
+ * it can be shared through the container registry like a Testcontainer.
+ */
+final class EmbeddedWireMockServer implements AutoCloseable {
+
+    private final WireMockServer server;
+
+    private EmbeddedWireMockServer(final WireMockServer server) {
+        this.server = server;
+    }
+
+    static EmbeddedWireMockServer start() {
+        final WireMockServer server = new WireMockServer(options()
+                .bindAddress("localhost")
+                .dynamicPort());
+        try {
+            server.start();
+        } catch (RuntimeException ex) {
+            server.stop();
+            throw ex;
+        }
+        return new EmbeddedWireMockServer(server);
+    }
+
+    WireMockServer server() {
+        return this.server;
+    }
+
+    @Override
+    public void close() {
+        this.server.stop();
+    }
+}
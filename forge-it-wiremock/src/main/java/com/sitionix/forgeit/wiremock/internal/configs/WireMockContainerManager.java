@@ -1,44 +1,80 @@
 package com.sitionix.forgeit.wiremock.internal.configs;
 
+import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.core.Admin;
+import com.sitionix.forgeit.core.internal.container.ContainerEndpoint;
+import com.sitionix.forgeit.core.internal.container.ContainerReuse;
+import com.sitionix.forgeit.core.internal.container.LazyContainer;
+import com.sitionix.forgeit.core.internal.container.SharedContainerRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.ApplicationStartupAware;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.MapPropertySource;
 import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.testcontainers.DockerClientFactory;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.utility.DockerImageName;
 
 import java.net.URI;
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 
 @RequiredArgsConstructor
 @Component
-public final class WireMockContainerManager implements InitializingBean, DisposableBean {
+public final class WireMockContainerManager
+        implements InitializingBean, ApplicationStartupAware, DisposableBean, LazyContainer {
 
     private static final String PROPERTY_SOURCE_NAME = "forgeItWireMock";
     private static final int WIREMOCK_PORT = 8080;
     private static final DockerImageName WIREMOCK_IMAGE = DockerImageName.parse("wiremock/wiremock:3.6.0");
+    private static final String FEATURE_PACKAGE = "com.sitionix.forgeit.wiremock.";
 
     private final ConfigurableEnvironment environment;
     private final WireMockProperties properties;
 
+    private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+
+    private SharedContainerRegistry.Lease<GenericContainer<?>> lease;
     private GenericContainer<?> container;
+    private SharedContainerRegistry.Lease<EmbeddedWireMockServer> embeddedLease;
+    private Admin embeddedAdmin;
     private URI baseUrl;
     private WireMock client;
 
+    @Override
+    public void setApplicationStartup(final ApplicationStartup applicationStartup) {
+        this.applicationStartup = applicationStartup;
+    }
+
     @Override
     public void afterPropertiesSet() {
+        final StartupStep step = this.applicationStartup.start("forge-it.container.start")
+                .tag("module", "wiremock");
+        try {
+            initialise();
+        } finally {
+            step.end();
+        }
+    }
+
+    private void initialise() {
         if (!isEnabled()) {
             return;
         }
         final WireMockProperties.Mode mode = requireMode();
         if (mode == WireMockProperties.Mode.EXTERNAL) {
             initialiseExternalWireMock();
+        } else if (mode == WireMockProperties.Mode.EMBEDDED) {
+            startEmbeddedWireMock();
         } else {
             startInternalWireMock();
         }
@@ -50,6 +86,32 @@ public final class WireMockContainerManager implements InitializingBean, Disposa
         cleanupResources();
     }
 
+    @Override
+    public boolean serves(final Class<?> featureType) {
+        return featureType.getName().startsWith(FEATURE_PACKAGE);
+    }
+
+    @Override
+    public void ensureStarted() {
+        if (this.lease == null || this.container != null) {
+            return;
+        }
+        try {
+            this.container = this.lease.container();
+        } catch (RuntimeException ex) {
+            throw new IllegalStateException("Failed to start WireMock Testcontainer", ex);
+        }
+        if (this.lease.reservedPort() != this.baseUrl.getPort()) {
+            resolveLazyEndpoint();
+            publishEnvironment();
+        }
+    }
+
+    @Override
+    public boolean isAwaitingFirstUse() {
+        return this.lease != null && !this.lease.isStarted();
+    }
+
     public URI getBaseUrl() {
         if (this.baseUrl == null) {
             throw new IllegalStateException("WireMock base URL has not been initialised");
@@ -64,12 +126,33 @@ public final class WireMockContainerManager implements InitializingBean, Disposa
         return this.client;
     }
 
+    /**
+     * @return {@code true} when WireMock runs inside the test JVM and can be driven
+     * through {@link #getEmbeddedAdmin()} instead of its HTTP admin API
+     */
+    public boolean isEmbedded() {
+        return this.embeddedAdmin != null;
+    }
+
+    public Admin getEmbeddedAdmin() {
+        if (this.embeddedAdmin == null) {
+            throw new IllegalStateException("Embedded WireMock server has not been initialised");
+        }
+        return this.embeddedAdmin;
+    }
+
     private void cleanupResources() {
         removeEnvironment();
-        if (this.container != null) {
-            this.container.stop();
-            this.container = null;
+        if (this.lease != null) {
+            this.lease.release();
+            this.lease = null;
+        }
+        if (this.embeddedLease != null) {
+            this.embeddedLease.release();
+            this.embeddedLease = null;
         }
+        this.container = null;
+        this.embeddedAdmin = null;
         this.baseUrl = null;
         this.client = null;
     }
@@ -130,19 +213,129 @@ public final class WireMockContainerManager implements InitializingBean, Disposa
         this.client = new WireMock(host, port);
     }
 
+    /**
+     * Starts WireMock inside the test JVM. The server is shared by every context of
+     * the run and stubs, resets and journal lookups go through its Java API, so no
+     * container is booted and no admin call crosses HTTP.
+     */
+    private void startEmbeddedWireMock() {
+        try {
+            this.embeddedLease = SharedContainerRegistry.acquire(
+                    SharedContainerRegistry.key("wiremock", "embedded"), EmbeddedWireMockServer::start);
+            final WireMockServer server = this.embeddedLease.container().server();
+            this.embeddedAdmin = server;
+            this.baseUrl = URI.create(server.baseUrl());
+            this.client = new WireMock(server);
+        } catch (RuntimeException ex) {
+            cleanupResources();
+            throw new IllegalStateException("Failed to start embedded WireMock server", ex);
+        }
+    }
+
+    /**
+     * Starts the shared container ahead of the context refresh when the module is
+     * enabled in internal mode. The returned handle keeps the container alive
+     * until this manager acquires its own lease during the refresh.
+     */
+    AutoCloseable prestart() {
+        if (!isEnabled() || requireMode() != WireMockProperties.Mode.INTERNAL || isLazy()) {
+            return () -> {
+            };
+        }
+        return acquireContainer();
+    }
+
+    /**
+     * @return {@code true} when the internal container should only start once a
+     * test first uses WireMock; reuse mode always starts eagerly
+     */
+    private boolean isLazy() {
+        final WireMockProperties.Container containerConfig = this.properties.getContainer();
+        return containerConfig != null
+                && Boolean.TRUE.equals(containerConfig.getLazy())
+                && !Boolean.TRUE.equals(containerConfig.getReuse());
+    }
+
     private void startInternalWireMock() {
+        if (isLazy()) {
+            deferInternalWireMock();
+            return;
+        }
         try {
-            this.container = new GenericContainer<>(WIREMOCK_IMAGE)
-                    .withExposedPorts(WIREMOCK_PORT)
-                    .waitingFor(Wait.forHttp("/__admin/mappings").forStatusCode(200).withStartupTimeout(Duration.ofSeconds(60)));
-            this.container.start();
-            final String host = this.container.getHost();
-            final Integer mappedPort = this.container.getMappedPort(WIREMOCK_PORT);
-            this.baseUrl = URI.create("http://" + host + ":" + mappedPort);
-            this.client = new WireMock(host, mappedPort);
+            this.lease = acquireContainer();
+            this.container = this.lease.container();
+            final GenericContainer<?> started = this.container;
+            final WireMockProperties.Container containerConfig = this.properties.getContainer();
+            final ContainerEndpoint endpoint = ContainerEndpoint.resolve(
+                    containerConfig == null ? null : containerConfig.getNetwork(),
+                    started.getHost(), started.getMappedPort(WIREMOCK_PORT), () -> bridgeAddress(started), WIREMOCK_PORT);
+            this.baseUrl = URI.create("http://" + endpoint.host() + ":" + endpoint.port());
+            this.client = new WireMock(endpoint.host(), endpoint.port());
         } catch (RuntimeException ex) {
             cleanupResources();
             throw new IllegalStateException("Failed to start WireMock Testcontainer", ex);
         }
     }
+
+    /**
+     * Registers for the shared container without starting it. WireMock is later
+     * bound to a host port reserved now, so the base URL can be published before
+     * the first test needs it.
+     */
+    private void deferInternalWireMock() {
+        try {
+            this.lease = SharedContainerRegistry.acquireLazily(
+                    SharedContainerRegistry.key("wiremock", WIREMOCK_IMAGE.asCanonicalNameString(), false, "lazy"),
+                    hostPort -> createContainer(false, hostPort));
+            resolveLazyEndpoint();
+        } catch (RuntimeException ex) {
+            cleanupResources();
+            throw new IllegalStateException("Failed to prepare lazy WireMock Testcontainer", ex);
+        }
+    }
+
+    private void resolveLazyEndpoint() {
+        final String host = DockerClientFactory.instance().dockerHostIpAddress();
+        final int port = this.lease.reservedPort();
+        this.baseUrl = URI.create("http://" + host + ":" + port);
+        this.client = new WireMock(host, port);
+    }
+
+    private static String bridgeAddress(final GenericContainer<?> container) {
+        return container.getContainerInfo().getNetworkSettings().getNetworks().values().stream()
+                .map(com.github.dockerjava.api.model.ContainerNetwork::getIpAddress)
+                .filter(StringUtils::hasText)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private SharedContainerRegistry.Lease<GenericContainer<?>> acquireContainer() {
+        final WireMockProperties.Container containerConfig = this.properties.getContainer();
+        final boolean reuse = containerConfig != null && Boolean.TRUE.equals(containerConfig.getReuse());
+        return SharedContainerRegistry.acquire(
+                SharedContainerRegistry.key("wiremock", WIREMOCK_IMAGE.asCanonicalNameString(), reuse),
+                () -> createContainer(reuse, null), reuse);
+    }
+
+    private GenericContainer<?> createContainer(final boolean reuse, final Integer hostPort) {
+        final GenericContainer<?> created = new GenericContainer<>(WIREMOCK_IMAGE)
+                .withExposedPorts(WIREMOCK_PORT)
+                .waitingFor(Wait.forHttp("/__admin/mappings").forStatusCode(200).withStartupTimeout(Duration.ofSeconds(60)));
+        if (hostPort != null) {
+            created.setPortBindings(List.of(hostPort + ":" + WIREMOCK_PORT));
+        }
+        if (reuse) {
+            created.withReuse(true)
+                    .withLabel(ContainerReuse.CONFIG_HASH_LABEL,
+                            ContainerReuse.configurationHash(WIREMOCK_IMAGE.asCanonicalNameString()))
+                    .withLabel(ContainerReuse.VERSION_LABEL, ContainerReuse.forgeItVersion());
+        }
+        try {
+            created.start();
+        } catch (RuntimeException ex) {
+            created.stop();
+            throw ex;
+        }
+        return created;
+    }
 }
@@ -3,11 +3,13 @@ package com.sitionix.forgeit.wiremock.internal.configs;
 import com.sitionix.forgeit.core.internal.feature.FeatureInstallationContext;
 import com.sitionix.forgeit.core.internal.feature.FeatureInstaller;
 import com.sitionix.forgeit.wiremock.api.WireMockSupport;
+import com.sitionix.forgeit.wiremock.internal.journal.WireMockJournal;
+import com.sitionix.forgeit.wiremock.internal.journal.WireMockJournalClient;
+import com.sitionix.forgeit.wiremock.internal.loader.WireMockLoaderResources;
+import com.sitionix.forgeit.wiremock.internal.validator.WireMockValidator;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.ConfigurableApplicationContext;
-import org.springframework.context.annotation.ComponentScan;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.AnnotatedBeanDefinitionReader;
 
 /**
@@ -15,6 +17,16 @@ import org.springframework.context.annotation.AnnotatedBeanDefinitionReader;
  */
 public final class WireMockFeatureInstaller implements FeatureInstaller {
 
+    static final Class<?>[] COMPONENTS = {
+            WireMockAdminConfig.class,
+            WireMockContainerManager.class,
+            WireMockProperties.class,
+            WireMockJournal.class,
+            WireMockJournalClient.class,
+            WireMockLoaderResources.class,
+            WireMockValidator.class
+    };
+
     @Override
     public Class<? extends WireMockSupport> featureType() {
         return WireMockSupport.class;
@@ -26,12 +38,13 @@ public final class WireMockFeatureInstaller implements FeatureInstaller {
         if (!(applicationContext instanceof BeanDefinitionRegistry registry)) {
             throw new IllegalStateException("WireMock installer requires a BeanDefinitionRegistry context");
         }
-        new AnnotatedBeanDefinitionReader(registry).register(WireMockFeatureConfiguration.class);
+        new AnnotatedBeanDefinitionReader(registry).register(COMPONENTS);
     }
 
-    @Configuration(proxyBeanMethods = false)
-    @ComponentScan(basePackages = "com.sitionix.forgeit.wiremock.internal")
-    @Import(WireMockAdminConfig.class)
-    static class WireMockFeatureConfiguration {
+    @Override
+    public AutoCloseable bootstrap(FeatureInstallationContext context) {
+        final WireMockProperties properties = Binder.get(context.environment())
+                .bindOrCreate(WireMockProperties.PROPERTY_PREFIX, WireMockProperties.class);
+        return new WireMockContainerManager(null, properties).prestart();
     }
 }
@@ -1,5 +1,6 @@
 package com.sitionix.forgeit.wiremock.internal.configs;
 
+import com.sitionix.forgeit.core.internal.container.ContainerNetwork;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
@@ -19,6 +20,7 @@ public final class WireMockProperties {
     private Integer port;
     private Mapping mapping;
     private Mode mode;
+    private Container container;
 
     @Data
     public static class Mapping {
@@ -28,8 +30,19 @@ public final class WireMockProperties {
         private String defaultResponse;
     }
 
+    @Data
+    public static class Container {
+        private Boolean reuse;
+        private Boolean lazy;
+        private ContainerNetwork network;
+    }
+
     public enum Mode {
         INTERNAL,
-        EXTERNAL
+        EXTERNAL,
+        /**
+         * Runs a {@code WireMockServer} inside the test JVM on a random port.
+         */
+        EMBEDDED
     }
 }
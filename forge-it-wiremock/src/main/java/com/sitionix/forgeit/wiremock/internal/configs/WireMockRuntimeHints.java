@@ -0,0 +1,26 @@
+package com.sitionix.forgeit.wiremock.internal.configs;
+
+import com.sitionix.forgeit.wiremock.config.WireMockDefaultsEnvironmentPostProcessor;
+import com.sitionix.forgeit.wiremock.internal.executor.WireMockResetTestExecutionListener;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Runtime hints for the WireMock module: its default configuration, the types
+ * instantiated from {@code spring.factories}, and the properties bound outside
+ * the context to start its infrastructure early.
+ */
+public final class WireMockRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(final RuntimeHints hints, final ClassLoader classLoader) {
+        hints.resources().registerPattern("forge-it-wiremock-default.yml");
+        hints.reflection()
+                .registerType(WireMockDefaultsEnvironmentPostProcessor.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+                .registerType(WireMockFeatureInstaller.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+                .registerType(WireMockResetTestExecutionListener.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), WireMockProperties.class);
+    }
+}
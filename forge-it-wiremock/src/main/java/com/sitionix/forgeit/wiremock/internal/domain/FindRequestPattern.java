@@ -2,8 +2,12 @@ package com.sitionix.forgeit.wiremock.internal.domain;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
 import com.github.tomakehurst.wiremock.matching.MultiValuePattern;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
 import com.github.tomakehurst.wiremock.matching.StringValuePattern;
+import com.github.tomakehurst.wiremock.matching.UrlPattern;
 import com.sitionix.forgeit.domain.endpoint.Endpoint;
 import lombok.Builder;
 
@@ -40,6 +44,33 @@ public class FindRequestPattern {
                 .build();
     }
 
+    /**
+     * Converts this lookup into the pattern an embedded server's
+     * {@code findRequestsMatching} expects. Templated URLs are matched as path
+     * templates so the path parameters apply.
+     */
+    public RequestPattern toRequestPattern() {
+        final RequestPatternBuilder builder = RequestPatternBuilder.newRequestPattern(
+                RequestMethod.fromString(this.method), this.toUrlPattern());
+        if (this.queryParameters != null) {
+            this.queryParameters.forEach(builder::withQueryParam);
+        }
+        if (this.pathParameters != null) {
+            this.pathParameters.forEach(builder::withPathParam);
+        }
+        return builder.build();
+    }
+
+    private UrlPattern toUrlPattern() {
+        if (this.url != null) {
+            return WireMock.urlEqualTo(this.url);
+        }
+        if (this.urlPattern != null) {
+            return WireMock.urlPathTemplate(this.urlPattern);
+        }
+        return WireMock.urlPathEqualTo(this.urlPath);
+    }
+
     private static Map<String, StringValuePattern> toPathParameters(final Map<String, ?> source) {
         if (source == null || source.isEmpty()) {
             return Collections.emptyMap();
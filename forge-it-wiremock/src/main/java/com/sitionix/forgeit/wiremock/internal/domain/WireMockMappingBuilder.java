@@ -8,6 +8,7 @@ import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.matching.StringValuePattern;
 import com.github.tomakehurst.wiremock.matching.UrlPattern;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.sitionix.forgeit.core.internal.jfr.WireMockEvent;
 import com.sitionix.forgeit.domain.endpoint.Endpoint;
 import com.sitionix.forgeit.domain.endpoint.wiremock.WiremockDefaultContext;
 import com.sitionix.forgeit.domain.endpoint.HttpMethod;
@@ -246,13 +247,20 @@ public class WireMockMappingBuilder<Req, Res> {
     public RequestBuilder<Req, Res> create() {
         final MappingBuilder mappingBuilder = this.buildMappingBuilder();
         final StubMapping stubMapping = mappingBuilder.build();
-        this.wireMockClient.register(stubMapping);
+        this.register(stubMapping);
 
         return this.wireMockJournal.check(this.endpoint)
                 .id(stubMapping.getId())
                 .json(this.requestJson);
     }
 
+    private void register(final StubMapping stubMapping) {
+        final WireMockEvent event = new WireMockEvent(WireMockEvent.STUB,
+                this.endpoint.getMethod().name(),
+                this.endpoint.getUrlBuilder().getTemplate());
+        event.run(() -> this.wireMockClient.register(stubMapping));
+    }
+
     private MappingBuilder buildMappingBuilder() {
         final MappingBuilder mappingBuilder = WireMock.request(this.endpoint.getMethod().name(), requireUrlPattern());
 
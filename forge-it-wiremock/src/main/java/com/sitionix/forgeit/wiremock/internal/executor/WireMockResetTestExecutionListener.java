@@ -1,8 +1,11 @@
 package com.sitionix.forgeit.wiremock.internal.executor;
 
 import com.sitionix.forgeit.annotation.ForgeDataPreparation;
+import com.sitionix.forgeit.core.internal.jfr.CleanupEvent;
+import com.sitionix.forgeit.core.internal.jfr.DataPreparationEvent;
 import com.sitionix.forgeit.core.test.IntegrationTest;
 import com.sitionix.forgeit.domain.preparation.DataPreparation;
+import com.sitionix.forgeit.wiremock.internal.configs.WireMockContainerManager;
 import com.sitionix.forgeit.wiremock.internal.journal.WireMockJournal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,7 +60,16 @@ public final class WireMockResetTestExecutionListener extends AbstractTestExecut
             log.debug("Skipping WireMock reset because WireMock support is not registered.");
             return;
         }
-        testContext.getApplicationContext().getBean(WireMockJournal.class).reset();
+        final WireMockContainerManager containerManager =
+                testContext.getApplicationContext().getBeanProvider(WireMockContainerManager.class).getIfAvailable();
+        if (containerManager != null && containerManager.isAwaitingFirstUse()) {
+            log.debug("Skipping WireMock reset because the lazy WireMock container has not been started.");
+            return;
+        }
+        final CleanupEvent event = new CleanupEvent(WireMockResetTestExecutionListener.class.getSimpleName(),
+                WireMockJournal.class.getName(),
+                testContext.getTestClass().getName());
+        event.run(() -> testContext.getApplicationContext().getBean(WireMockJournal.class).reset());
     }
 
     private void runPreparations(final TestContext testContext) {
@@ -79,8 +91,11 @@ public final class WireMockResetTestExecutionListener extends AbstractTestExecut
 
         final Object forgeIt = this.resolveForgeIt(testContext);
         for (final Class<? extends DataPreparation<?>> preparationClass : preparations) {
-            final DataPreparation<?> preparation = this.instantiatePreparation(preparationClass);
-            this.invokePreparation(preparation, forgeIt);
+            final DataPreparationEvent event = new DataPreparationEvent(preparationClass, testClass.getName());
+            event.run(() -> {
+                final DataPreparation<?> preparation = this.instantiatePreparation(preparationClass);
+                this.invokePreparation(preparation, forgeIt);
+            });
         }
     }
 
@@ -1,6 +1,7 @@
 package com.sitionix.forgeit.wiremock.internal.journal;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sitionix.forgeit.core.internal.jfr.WireMockEvent;
 import com.sitionix.forgeit.domain.endpoint.Endpoint;
 import com.sitionix.forgeit.wiremock.internal.domain.RequestBuilder;
 import com.sitionix.forgeit.wiremock.internal.domain.WireMockCheck;
@@ -38,6 +39,10 @@ public class WireMockJournal {
     }
 
     private <Req, Res> void verify(final WireMockCheck<Req, Res> check) {
-        this.validator.validate(check);
+        final WireMockEvent event = new WireMockEvent(WireMockEvent.VERIFY,
+                check.endpoint().getMethod().name(),
+                check.endpoint().getUrlBuilder().getTemplate());
+        event.setSize(check.atLeastTimes());
+        event.run(() -> this.validator.validate(check));
     }
 }
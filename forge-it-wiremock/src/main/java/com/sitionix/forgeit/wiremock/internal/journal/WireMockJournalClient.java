@@ -2,7 +2,11 @@ package com.sitionix.forgeit.wiremock.internal.journal;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.admin.model.ServeEventQuery;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 import com.sitionix.forgeit.domain.endpoint.Endpoint;
+import com.sitionix.forgeit.wiremock.internal.configs.WireMockContainerManager;
 import com.sitionix.forgeit.wiremock.internal.domain.FindRequestPattern;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -20,8 +24,13 @@ public class WireMockJournalClient {
 
     private final RestClient restClient;
     private final ObjectMapper objectMapper;
+    private final WireMockContainerManager containerManager;
 
     public void deleteMapping(final UUID id) {
+        if (this.containerManager.isEmbedded()) {
+            this.containerManager.getEmbeddedAdmin().removeStubMapping(id);
+            return;
+        }
         this.restClient.delete()
                 .uri("/mappings/{id}", id)
                 .retrieve()
@@ -29,6 +38,10 @@ public class WireMockJournalClient {
     }
 
     public void reset() {
+        if (this.containerManager.isEmbedded()) {
+            this.containerManager.getEmbeddedAdmin().resetAll();
+            return;
+        }
         this.restClient.post()
                 .uri("/reset")
                 .retrieve()
@@ -45,6 +58,15 @@ public class WireMockJournalClient {
     }
 
     public List<String> findBodiesByStubMappingId(final UUID stubMappingId) {
+        if (this.containerManager.isEmbedded()) {
+            return this.containerManager.getEmbeddedAdmin()
+                    .getServeEvents(ServeEventQuery.forStubMapping(stubMappingId))
+                    .getServeEvents()
+                    .stream()
+                    .map(ServeEvent::getRequest)
+                    .map(LoggedRequest::getBodyAsString)
+                    .toList();
+        }
         final ResponseEntity<String> response = this.restClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/requests")
@@ -56,6 +78,14 @@ public class WireMockJournalClient {
     }
 
     private List<String> findByPattern(final FindRequestPattern pattern) {
+        if (this.containerManager.isEmbedded()) {
+            return this.containerManager.getEmbeddedAdmin()
+                    .findRequestsMatching(pattern.toRequestPattern())
+                    .getRequests()
+                    .stream()
+                    .map(LoggedRequest::getBodyAsString)
+                    .toList();
+        }
         final ResponseEntity<String> response = this.restClient.post()
                 .uri("/requests/find")
                 .body(pattern)
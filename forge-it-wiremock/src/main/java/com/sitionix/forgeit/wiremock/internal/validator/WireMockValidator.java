@@ -1,5 +1,6 @@
 package com.sitionix.forgeit.wiremock.internal.validator;
 
+import com.sitionix.forgeit.core.internal.jfr.WireMockEvent;
 import com.sitionix.forgeit.wiremock.internal.domain.WireMockCheck;
 import com.sitionix.forgeit.wiremock.internal.journal.WireMockJournalClient;
 import lombok.RequiredArgsConstructor;
@@ -44,9 +45,15 @@ public class WireMockValidator {
     }
 
     private java.util.List<String> findBodies(final WireMockCheck<?, ?> check) {
-        if (nonNull(check.id())) {
-            return this.journalClient.findBodiesByStubMappingId(check.id());
-        }
-        return this.journalClient.findBodiesByUrl(check.endpoint());
+        final WireMockEvent event = new WireMockEvent(WireMockEvent.JOURNAL,
+                check.endpoint().getMethod().name(),
+                check.endpoint().getUrlBuilder().getTemplate());
+        return event.record(() -> {
+            final java.util.List<String> bodies = nonNull(check.id())
+                    ? this.journalClient.findBodiesByStubMappingId(check.id())
+                    : this.journalClient.findBodiesByUrl(check.endpoint());
+            event.setSize(bodies.size());
+            return bodies;
+        });
     }
 }
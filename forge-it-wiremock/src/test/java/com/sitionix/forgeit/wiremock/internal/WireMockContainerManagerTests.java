@@ -1,5 +1,6 @@
 package com.sitionix.forgeit.wiremock.internal;
 
+import com.github.tomakehurst.wiremock.client.WireMock;
 import com.sitionix.forgeit.testing.MockExtension;
 import com.sitionix.forgeit.wiremock.internal.configs.WireMockContainerManager;
 import com.sitionix.forgeit.wiremock.internal.configs.WireMockProperties;
@@ -55,6 +56,32 @@ class WireMockContainerManagerTests extends MockExtension {
         assertThat(actualState).isEqualTo(expectedState);
     }
 
+    @Test
+    void shouldRunEmbeddedWireMockInProcess() {
+        final WireMockProperties properties = new WireMockProperties();
+        properties.setEnabled(true);
+        properties.setMode(WireMockProperties.Mode.EMBEDDED);
+
+        final MockEnvironment environment = new MockEnvironment();
+        final WireMockContainerManager manager = new WireMockContainerManager(environment, properties);
+
+        manager.afterPropertiesSet();
+        try {
+            manager.getClient().register(WireMock.get("/ping").willReturn(WireMock.ok()));
+
+            assertThat(manager.isEmbedded()).isTrue();
+            assertThat(manager.getBaseUrl().getHost()).isEqualTo("localhost");
+            assertThat(environment.getProperty("forge-it.wiremock.port"))
+                    .isEqualTo(String.valueOf(manager.getBaseUrl().getPort()));
+            assertThat(manager.getEmbeddedAdmin().listAllStubMappings().getMappings()).hasSize(1);
+        } finally {
+            manager.destroy();
+        }
+
+        assertThat(manager.isEmbedded()).isFalse();
+        assertThat(captureWireMockProperties(environment)).isEmpty();
+    }
+
     @Test
     void shouldSkipWhenFeatureDisabled() {
         final WireMockProperties properties = new WireMockProperties();
@@ -0,0 +1,13 @@
+package com.sitionix.forgeit.wiremock.internal.configs;
+
+import org.junit.jupiter.api.Test;
+
+import static com.sitionix.forgeit.testing.FeatureInstallerAssertions.assertRegistersScannedComponents;
+
+class WireMockFeatureInstallerTests {
+
+    @Test
+    void shouldRegisterTheComponentsPackageScanningWouldFind() {
+        assertRegistersScannedComponents(new WireMockFeatureInstaller(), "com.sitionix.forgeit.wiremock.internal");
+    }
+}